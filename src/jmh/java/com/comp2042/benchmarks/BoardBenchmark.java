@@ -0,0 +1,77 @@
+package com.comp2042.benchmarks;
+
+import com.comp2042.data.bricks.RandomBrickGenerator;
+import com.comp2042.interfaces.Board;
+import com.comp2042.logic.BitBoard;
+import com.comp2042.logic.SimpleBoard;
+import com.comp2042.view.ViewData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-move board work, the ghost piece and the view snapshot,
+ * on {@link SimpleBoard} and {@link BitBoard} at several fill levels.
+ *
+ * <p>
+ * Run with {@code -prof gc} to see the bytes allocated per operation.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+
+    /** The board implementation. */
+    @Param({"simple", "bit"})
+    public String board;
+
+    /** The number of rows from the floor that hold blocks. */
+    @Param({"0", "6", "12", "18"})
+    public int stackHeight;
+
+    private Board target;
+    private boolean left;
+
+    @Setup
+    public void setUp() {
+        RandomBrickGenerator bricks = new RandomBrickGenerator(42L);
+        target = board.equals("bit")
+                ? new BitBoard(Boards.ROWS, Boards.COLUMNS, bricks)
+                : new SimpleBoard(Boards.ROWS, Boards.COLUMNS, bricks);
+        Boards.fill(target, stackHeight, 42L);
+    }
+
+    @Benchmark
+    public void moveGhostPiece() {
+        target.moveGhostPiece();
+    }
+
+    /** The snapshot is unchanged, so this measures the cached path. */
+    @Benchmark
+    public ViewData getViewData() {
+        return target.getViewData();
+    }
+
+    /** A sideways move with its ghost piece and a new snapshot, as after every key press. */
+    @Benchmark
+    public ViewData moveAndGetViewData() {
+        left = !left;
+        if (left) target.moveBrickLeft(); else target.moveBrickRight();
+        target.moveGhostPiece();
+        return target.getViewData();
+    }
+}
@@ -0,0 +1,83 @@
+package com.comp2042.benchmarks;
+
+import com.comp2042.interfaces.Board;
+
+import java.util.Random;
+
+/**
+ * Builds boards at realistic fill levels for the benchmarks.
+ *
+ * <p>
+ * Boards are filled by playing seeded random drops, so the stack has the holes, ragged
+ * tops and occasional line clears of a real game, and the same stack is built on every run.
+ * </p>
+ */
+final class Boards {
+
+    /** The number of rows of the standard board. */
+    static final int ROWS = 25;
+    /** The number of columns of the standard board. */
+    static final int COLUMNS = 10;
+
+    private Boards() {
+    }
+
+    /**
+     * Drops random bricks into the board until the stack is at least the given height.
+     *
+     * @param board a new board
+     * @param stackHeight the number of rows from the floor that should hold blocks
+     * @param seed the seed of the random moves
+     */
+    static void fill(Board board, int stackHeight, long seed) {
+        Random random = new Random(seed);
+        board.newGame();
+        for (int piece = 0; piece < 10_000 && height(board.getBoardMatrix()) < stackHeight; piece++) {
+            for (int r = random.nextInt(4); r > 0; r--) board.rotateLeftBrick();
+            int shift = random.nextInt(COLUMNS) - COLUMNS / 2;
+            for (int i = 0; i < Math.abs(shift); i++) {
+                if (shift < 0) board.moveBrickLeft(); else board.moveBrickRight();
+            }
+            board.hardDropBrick();
+            board.mergeBrickToBackground();
+            board.clearRows();
+            if (board.createNewBrick(4, 1)) {
+                board.newGame();
+            }
+        }
+        board.moveGhostPiece();
+        board.takeChangedRows();
+    }
+
+    /**
+     * Returns a plain matrix filled in the same way as {@link #fill(Board, int, long)}.
+     *
+     * @param board a new board used to play the drops
+     * @param stackHeight the number of rows from the floor that should hold blocks
+     * @return a copy of the filled board matrix
+     */
+    static int[][] matrix(Board board, int stackHeight) {
+        fill(board, stackHeight, 42L);
+        int[][] source = board.getBoardMatrix();
+        int[][] copy = new int[source.length][];
+        for (int i = 0; i < source.length; i++) {
+            copy[i] = source[i].clone();
+        }
+        return copy;
+    }
+
+    /**
+     * Returns the number of rows from the floor up to the highest block.
+     *
+     * @param matrix the board matrix
+     * @return the stack height
+     */
+    static int height(int[][] matrix) {
+        for (int row = 0; row < matrix.length; row++) {
+            for (int cell : matrix[row]) {
+                if (cell != 0) return matrix.length - row;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,41 @@
+package com.comp2042.benchmarks;
+
+import com.comp2042.data.bricks.RandomBrickGenerator;
+import com.comp2042.interfaces.Brick;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures drawing pieces from the seeded 7-bag of {@link RandomBrickGenerator}.
+ *
+ * <p>Run with {@code -prof gc} to check that drawing allocates nothing.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BrickGeneratorBenchmark {
+
+    private final RandomBrickGenerator generator = new RandomBrickGenerator(42L);
+
+    @Benchmark
+    public int nextPieceId() {
+        return generator.nextPieceId();
+    }
+
+    @Benchmark
+    public Brick getBrick() {
+        return generator.getBrick();
+    }
+}
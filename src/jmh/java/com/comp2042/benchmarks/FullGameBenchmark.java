@@ -0,0 +1,118 @@
+package com.comp2042.benchmarks;
+
+import com.comp2042.controllers.GameController;
+import com.comp2042.data.GameStats;
+import com.comp2042.data.MoveEvent;
+import com.comp2042.data.bricks.RandomBrickGenerator;
+import com.comp2042.enums.EventSource;
+import com.comp2042.enums.EventType;
+import com.comp2042.logic.SimpleBoard;
+import com.comp2042.view.HeadlessGameView;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plays complete games through {@link GameController} and {@link SimpleBoard} without a window.
+ *
+ * <p>
+ * Every operation is one game, played by a random policy: each brick is rotated and moved
+ * to a random column and hard dropped, until the game is over. The bricks and the policy are
+ * seeded, so every run plays the same games. Besides games per second, the
+ * {@link Counters#pieces} and {@link Counters#lines} counters report pieces and lines per second.
+ * {@link #oneCore()} runs on one thread and {@link #allCores()} on one thread per core;
+ * run with {@code -prof gc} to see the allocation rate.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FullGameBenchmark {
+
+    /** One game per thread, with its own board, view and policy. */
+    @State(Scope.Thread)
+    public static class Game {
+        private static final MoveEvent LEFT = new MoveEvent(EventType.LEFT, EventSource.USER);
+        private static final MoveEvent RIGHT = new MoveEvent(EventType.RIGHT, EventSource.USER);
+        private static final MoveEvent ROTATE = new MoveEvent(EventType.ROTATE, EventSource.USER);
+        private static final MoveEvent DROP = new MoveEvent(EventType.DOWN, EventSource.USER);
+
+        HeadlessGameView view;
+        GameController controller;
+        SplittableRandom policy;
+
+        @Setup
+        public void setUp() {
+            view = new HeadlessGameView();
+            controller = new GameController(view,
+                    new SimpleBoard(Boards.ROWS, Boards.COLUMNS, new RandomBrickGenerator(42L)));
+            controller.getBoard().getScore().setRecordsHighScore(false);
+            policy = new SplittableRandom(42L);
+        }
+
+        /**
+         * Plays until the game is over and starts the next game.
+         *
+         * @param counters receives the pieces and lines of the game
+         * @return the final score
+         */
+        int play(Counters counters) {
+            while (!view.isGameOver()) {
+                for (int r = policy.nextInt(4); r > 0; r--) controller.onRotateEvent(ROTATE);
+                int shift = policy.nextInt(Boards.COLUMNS) - Boards.COLUMNS / 2;
+                for (int i = 0; i < Math.abs(shift); i++) {
+                    if (shift < 0) controller.onLeftEvent(LEFT); else controller.onRightEvent(RIGHT);
+                }
+                controller.onDownEvent(DROP, true);
+            }
+            GameStats stats = controller.getStats();
+            counters.pieces += stats.getPiecesLocked();
+            counters.lines += stats.getLinesCleared();
+            int score = controller.getBoard().getScore().scoreProperty().get();
+            controller.createNewGame();
+            view.reset();
+            return score;
+        }
+    }
+
+    /** The pieces and lines played, reported by JMH as rates per second. */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Counters {
+        public long pieces;
+        public long lines;
+
+        @Setup(Level.Iteration)
+        public void clear() {
+            pieces = 0;
+            lines = 0;
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public int oneCore(Game game, Counters counters) {
+        return game.play(counters);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public int allCores(Game game, Counters counters) {
+        return game.play(counters);
+    }
+}
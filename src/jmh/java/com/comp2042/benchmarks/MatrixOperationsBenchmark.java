@@ -0,0 +1,88 @@
+package com.comp2042.benchmarks;
+
+import com.comp2042.data.ClearRow;
+import com.comp2042.data.bricks.RandomBrickGenerator;
+import com.comp2042.data.bricks.RotationTable;
+import com.comp2042.logic.MatrixOperations;
+import com.comp2042.logic.SimpleBoard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the matrix kernels of {@link MatrixOperations} on boards at several fill levels.
+ *
+ * <p>
+ * The brick is a T brick placed on its landing row, where the collision checks do the
+ * most work. Run with {@code -prof gc} to see the bytes allocated per operation.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatrixOperationsBenchmark {
+
+    /** The piece id of the T brick. */
+    private static final int T_BRICK = 5;
+
+    /** The number of rows from the floor that hold blocks. */
+    @Param({"0", "6", "12", "18"})
+    public int stackHeight;
+
+    private int[][] matrix;
+    private int[][] shape;
+    private int mask;
+    private int x;
+    private int y;
+
+    @Setup
+    public void setUp() {
+        matrix = Boards.matrix(new SimpleBoard(Boards.ROWS, Boards.COLUMNS), stackHeight);
+        RotationTable rotations = RandomBrickGenerator.brickOf(T_BRICK).getRotationTable();
+        shape = rotations.getShape(0);
+        mask = rotations.getMask(0);
+        x = 3;
+        y = 0;
+        while (!MatrixOperations.intersect(matrix, mask, x, y + 1)) {
+            y++;
+        }
+    }
+
+    @Benchmark
+    public boolean intersectShape() {
+        return MatrixOperations.intersect(matrix, shape, x, y);
+    }
+
+    @Benchmark
+    public boolean intersectMask() {
+        return MatrixOperations.intersect(matrix, mask, x, y);
+    }
+
+    @Benchmark
+    public int[][] merge() {
+        return MatrixOperations.merge(matrix, shape, x, y);
+    }
+
+    @Benchmark
+    public ClearRow checkRemoving() {
+        return MatrixOperations.checkRemoving(matrix);
+    }
+
+    @Benchmark
+    public int[][] copy() {
+        return MatrixOperations.copy(matrix);
+    }
+}
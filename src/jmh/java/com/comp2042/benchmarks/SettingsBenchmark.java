@@ -0,0 +1,92 @@
+package com.comp2042.benchmarks;
+
+import com.comp2042.data.SaveData;
+import com.comp2042.data.Settings;
+import com.comp2042.enums.SaveDataType;
+import javafx.scene.input.KeyCode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the settings reads made by the GUI, from the in-memory {@link Settings} snapshot
+ * and, for comparison, from the save file with {@link SaveData}.
+ *
+ * <p>
+ * Opening the settings screen reads the music and sound volumes, the four toggles and the
+ * eight key bindings. A key press looks up its action, which used to take one save file
+ * read per action checked.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SettingsBenchmark {
+
+    private static final SaveDataType[] KEYS = {
+            SaveDataType.LEFT, SaveDataType.RIGHT, SaveDataType.DOWN, SaveDataType.ROTATE,
+            SaveDataType.PAUSE, SaveDataType.HOLD, SaveDataType.RESTART, SaveDataType.HARDDROP
+    };
+
+    private static final SaveDataType[] TOGGLES = {
+            SaveDataType.TOGGLE_GHOST, SaveDataType.TOGGLE_HOLD, SaveDataType.TOGGLE_NEXT, SaveDataType.TOGGLE_CONTROLS
+    };
+
+    /** Bound and unbound keys, pressed in turn. */
+    private static final KeyCode[] PRESSES = {KeyCode.LEFT, KeyCode.RIGHT, KeyCode.UP, KeyCode.DOWN, KeyCode.SPACE, KeyCode.Q};
+
+    private int press;
+
+    @Setup
+    public void setUp() {
+        SaveData.createSaveFile();
+    }
+
+    @Benchmark
+    public SaveDataType keyDispatch() {
+        press = press + 1 == PRESSES.length ? 0 : press + 1;
+        return Settings.get().getAction(PRESSES[press]);
+    }
+
+    @Benchmark
+    public long settingsScreenFromFile() throws IOException {
+        long sum = SaveData.ReadFileInt(SaveData.getKeyEvent(SaveDataType.MUSIC));
+        sum += (long) Double.parseDouble(SaveData.ReadFileList(SaveData.getKeyEvent(SaveDataType.BUTTONS))[1]);
+        sum += (long) Double.parseDouble(SaveData.ReadFileList(SaveData.getKeyEvent(SaveDataType.CLEARLINES))[1]);
+        for (SaveDataType toggle : TOGGLES) {
+            sum += SaveData.ReadBoolean(SaveData.getKeyEvent(toggle)) ? 1 : 0;
+        }
+        for (SaveDataType key : KEYS) {
+            sum += SaveData.ReadKeyCode(SaveData.getKeyEvent(key)).ordinal();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long settingsScreenFromSnapshot() {
+        Settings settings = Settings.get();
+        long sum = settings.getMusicVolume();
+        sum += (long) settings.getSound(SaveDataType.BUTTONS).getVolume();
+        sum += (long) settings.getSound(SaveDataType.CLEARLINES).getVolume();
+        for (SaveDataType toggle : TOGGLES) {
+            sum += settings.isEnabled(toggle) ? 1 : 0;
+        }
+        for (SaveDataType key : KEYS) {
+            sum += settings.getKey(key).ordinal();
+        }
+        return sum;
+    }
+}
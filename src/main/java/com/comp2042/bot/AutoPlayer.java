@@ -0,0 +1,279 @@
+package com.comp2042.bot;
+
+import com.comp2042.data.DownData;
+import com.comp2042.data.MoveEvent;
+import com.comp2042.data.bricks.RotationTable;
+import com.comp2042.enums.EventSource;
+import com.comp2042.enums.EventType;
+import com.comp2042.interfaces.Board;
+import com.comp2042.interfaces.InputEventListener;
+import com.comp2042.logic.MatrixOperations;
+import com.comp2042.logic.MoveGenerator;
+import com.comp2042.view.ViewData;
+
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Plays the game with a {@link BeamSearch} that runs in the background while the game goes on.
+ *
+ * <p>
+ * The player sits between the GUI and the game logic, like
+ * {@link com.comp2042.logic.ReplayRecorder}, and is given every frame with {@link #update()}.
+ * When no search is running, it copies the board, the current brick, the hold and the preview
+ * queue and starts one with {@link BeamSearch#submit}, passing the board's own Zobrist hash
+ * so the search does not hash the copy again. Later frames only check whether the
+ * search is done, so the JavaFX thread never waits for it. The search is given
+ * {@link #BUDGET_FRACTION} of the fall interval of the current level, from
+ * {@link com.comp2042.data.Level#calcSpeed()}, and returns the best placement found by then.
+ * </p>
+ *
+ * <p>
+ * The placement is played by sending inputs to the game logic. The moves are found again
+ * with a {@link MoveGenerator} from where the brick is now, since it kept falling during the
+ * search, and the brick is hard dropped. If the placement cannot be reached any more, the
+ * brick is turned and moved straight above it instead.
+ * </p>
+ *
+ * <p>
+ * The running search is stopped and its result thrown away when the brick locks, is held,
+ * or a new game is created with {@link #createNewGame()}, so a result is never played on
+ * a board it was not searched for.
+ * </p>
+ */
+public final class AutoPlayer implements InputEventListener {
+
+    /**
+     * The system property that lets the bot play the game screen, for example {@code -Dtetris.bot=true}.
+     */
+    public static final String PROPERTY = "tetris.bot";
+
+    /** The part of one fall interval of the current level that a search may take. */
+    static final double BUDGET_FRACTION = 0.5;
+
+    private static final MoveEvent LEFT = new MoveEvent(EventType.LEFT, EventSource.USER);
+    private static final MoveEvent RIGHT = new MoveEvent(EventType.RIGHT, EventSource.USER);
+    private static final MoveEvent ROTATE = new MoveEvent(EventType.ROTATE, EventSource.USER);
+    private static final MoveEvent HOLD = new MoveEvent(EventType.HOLD, EventSource.USER);
+    private static final MoveEvent DOWN = new MoveEvent(EventType.DOWN, EventSource.USER);
+
+    private final InputEventListener target;
+    private final Board board;
+    private final BeamSearch search;
+    private boolean useHold;
+
+    private final MoveGenerator moves;
+    private final EventType[] path;
+
+    private ForkJoinTask<Placement> pending;
+    private AtomicBoolean stopPending;
+    /** Set when holding the current brick was refused, until it locks. */
+    private boolean holdRefused;
+
+    /**
+     * Creates a player.
+     *
+     * @param target the game logic that receives the inputs
+     * @param board the board of the game, which is read to start each search
+     * @param search the search that picks each placement
+     * @param useHold {@code true} to let the player use the hold
+     */
+    public AutoPlayer(InputEventListener target, Board board, BeamSearch search, boolean useHold) {
+        this.target = target;
+        this.board = board;
+        this.search = search;
+        this.useHold = useHold;
+        int[][] matrix = board.getBoardMatrix();
+        moves = new MoveGenerator(matrix.length, matrix[0].length);
+        // no path is longer than the number of states the generator can visit
+        path = new EventType[RotationTable.SIZE * matrix.length * (matrix[0].length + 2 * (RotationTable.SIZE - 1))];
+    }
+
+    /**
+     * Returns whether the bot should play the game screen, from the {@code tetris.bot} system property.
+     *
+     * @return {@code true} if the property is {@code true}
+     */
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(PROPERTY);
+    }
+
+    /**
+     * Starts a search, or plays the result of the running search once it is done.
+     *
+     * <p>This never waits for the search and must be called from the thread that sends the other inputs.</p>
+     *
+     * @return the result of the hard drop if a brick was played, otherwise {@code null}
+     */
+    public DownData update() {
+        if (pending == null) {
+            start();
+            return null;
+        }
+        if (!pending.isDone()) return null;
+        Placement placement = pending.join();
+        pending = null;
+        stopPending = null;
+        return play(placement);
+    }
+
+    /**
+     * Stops the running search, if any, and throws its result away.
+     */
+    public void cancel() {
+        if (pending == null) return;
+        stopPending.set(true);
+        pending.cancel(false);
+        pending = null;
+        stopPending = null;
+    }
+
+    /**
+     * Returns whether a search is running.
+     *
+     * @return {@code true} until the running search is played or cancelled
+     */
+    public boolean isSearching() {
+        return pending != null;
+    }
+
+    /**
+     * Sets whether the player may use the hold, from the next search on.
+     *
+     * @param useHold {@code true} to let the player use the hold
+     */
+    public void setUseHold(boolean useHold) {
+        this.useHold = useHold;
+    }
+
+    private void start() {
+        int[][] matrix = MatrixOperations.copy(board.getBoardMatrix());
+        RotationTable[] preview = new RotationTable[board.getPreviewSize()];
+        for (int i = 0; i < preview.length; i++) {
+            preview[i] = board.peekBrick(i).getRotationTable();
+        }
+        long budget = (long) (board.getLevel().calcSpeed() * BUDGET_FRACTION * 1_000_000L);
+        AtomicBoolean stop = new AtomicBoolean();
+        pending = search.submit(matrix, board.getBoardHash(), board.getViewData(), preview, useHold && !holdRefused,
+                System.nanoTime() + budget, stop::get);
+        stopPending = stop;
+    }
+
+    private DownData play(Placement placement) {
+        if (placement == null) return onDownEvent(DOWN, true);
+        ViewData view = board.getViewData();
+        if (placement.isHold()) {
+            view = target.onHoldEvent(HOLD);
+            if (view == null) {
+                // search again without the hold on the next frame
+                holdRefused = true;
+                return null;
+            }
+        }
+
+        RotationTable rotations = view.getBrickRotations();
+        int count = moves.generate(board.getBoardMatrix(), rotations, view.getRotation(), view.getxPosition(), view.getyPosition());
+        int found = -1;
+        for (int i = 0; i < count && found < 0; i++) {
+            if (sameCells(rotations, moves.getRotation(i), moves.getX(i), moves.getY(i),
+                    placement.getRotation(), placement.getX(), placement.getY())) {
+                found = i;
+            }
+        }
+        if (found >= 0) {
+            int length = moves.getPath(found, path);
+            for (int i = 0; i < length; i++) {
+                switch (path[i]) {
+                    case LEFT -> target.onLeftEvent(LEFT);
+                    case RIGHT -> target.onRightEvent(RIGHT);
+                    case ROTATE -> target.onRotateEvent(ROTATE);
+                    default -> target.onDownEvent(DOWN, false);
+                }
+            }
+        } else {
+            moveAbove(view, placement);
+        }
+        return onDownEvent(DOWN, true);
+    }
+
+    private void moveAbove(ViewData view, Placement placement) {
+        int rotations = view.getBrickRotations().size();
+        int turns = (placement.getRotation() - view.getRotation() + rotations) % rotations;
+        for (int i = 0; i < turns; i++) {
+            view = target.onRotateEvent(ROTATE);
+        }
+        while (view.getxPosition() != placement.getX()) {
+            boolean left = view.getxPosition() > placement.getX();
+            ViewData moved = left ? target.onLeftEvent(LEFT) : target.onRightEvent(RIGHT);
+            if (moved.getxPosition() == view.getxPosition()) break;
+            view = moved;
+        }
+    }
+
+    private static boolean sameCells(RotationTable rotations, int rotation, int x, int y,
+                                     int otherRotation, int otherX, int otherY) {
+        return normalizedMask(rotations, rotation) == normalizedMask(rotations, otherRotation)
+                && x + rotations.getMinColumn(rotation) == otherX + rotations.getMinColumn(otherRotation)
+                && y + rotations.getMinRow(rotation) == otherY + rotations.getMinRow(otherRotation);
+    }
+
+    private static int normalizedMask(RotationTable rotations, int rotation) {
+        return rotations.getMask(rotation) >>> (rotations.getMinRow(rotation) * RotationTable.SIZE + rotations.getMinColumn(rotation));
+    }
+
+// Inputs
+    /**
+     * Passes the drop on, and stops the running search if the brick locked.
+     *
+     * @param event the {@link MoveEvent} of the drop
+     * @param isHardDrop {@code true} for a hard drop
+     * @return the result of the game logic
+     */
+    @Override
+    public DownData onDownEvent(MoveEvent event, boolean isHardDrop) {
+        DownData downData = target.onDownEvent(event, isHardDrop);
+        if (downData.getClearRow() != null) {
+            cancel();
+            holdRefused = false;
+        }
+        return downData;
+    }
+
+    @Override
+    public ViewData onLeftEvent(MoveEvent event) {
+        return target.onLeftEvent(event);
+    }
+
+    @Override
+    public ViewData onRightEvent(MoveEvent event) {
+        return target.onRightEvent(event);
+    }
+
+    @Override
+    public ViewData onRotateEvent(MoveEvent event) {
+        return target.onRotateEvent(event);
+    }
+
+    /**
+     * Passes the hold on, and stops the running search if the current brick changed.
+     *
+     * @param event the {@link MoveEvent} of the hold
+     * @return the result of the game logic
+     */
+    @Override
+    public ViewData onHoldEvent(MoveEvent event) {
+        ViewData view = target.onHoldEvent(event);
+        if (view != null) cancel();
+        return view;
+    }
+
+    /**
+     * Stops the running search and passes the new game on.
+     */
+    @Override
+    public void createNewGame() {
+        cancel();
+        holdRefused = false;
+        target.createNewGame();
+    }
+}
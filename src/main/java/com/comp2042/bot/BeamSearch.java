@@ -0,0 +1,432 @@
+package com.comp2042.bot;
+
+import com.comp2042.data.ClearRow;
+import com.comp2042.data.bricks.RotationTable;
+import com.comp2042.logic.BoardFeatures;
+import com.comp2042.logic.FeatureTracker;
+import com.comp2042.logic.MatrixOperations;
+import com.comp2042.logic.MoveGenerator;
+import com.comp2042.logic.Zobrist;
+import com.comp2042.view.ViewData;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Picks the placement of the current brick by looking several bricks ahead.
+ *
+ * <p>
+ * The current brick and the upcoming bricks of the preview queue are placed one after
+ * the other. At every depth a brick can also be swapped with the held brick, or with the
+ * brick after it when nothing is held, as the hold action does in the game. The placements
+ * of each brick are listed with a {@link MoveGenerator}, so tucks under overhangs are found
+ * too, and every board is scored with a {@link Heuristic} plus the lines cleared on the way there.
+ * A board is read into a {@link FeatureTracker} once before it is expanded, and each of its
+ * placements is scored from the features it would give, without copying the board.
+ * </p>
+ *
+ * <p>
+ * Every board carries its {@link Zobrist} hash, worked out from its parent's hash and the
+ * cells of the placed brick. The heuristic scores are kept in a {@link TranspositionTable}
+ * shared by all the tasks and all later searches, so a board reached again, by another order
+ * of placements or by the search for the next brick, is not scored twice. Boards that are
+ * the same, with the same held brick and the same bricks still to come, are kept only once.
+ * </p>
+ *
+ * <p>
+ * Only the best {@link #getBeamWidth()} boards of a depth are kept and expanded at the
+ * next depth. The boards of a depth are expanded in parallel on a {@link ForkJoinPool},
+ * in tasks of at most {@link #SPLIT_THRESHOLD} boards, each with its own generator and tracker.
+ * </p>
+ *
+ * <p>
+ * The search can be stopped at any time. After every complete depth the first placement
+ * that leads to the best board so far is kept, and when the deadline passes or the search
+ * is stopped, the placement of the last complete depth is returned. The first depth always
+ * runs to the end unless the search is stopped, so a placement is found whenever one exists.
+ * </p>
+ */
+public final class BeamSearch {
+
+    /** The number of boards kept at each depth, unless another is given. */
+    public static final int DEFAULT_BEAM_WIDTH = 24;
+
+    /** The most boards expanded by one fork/join task. */
+    static final int SPLIT_THRESHOLD = 2;
+
+    /** The column a new brick appears at, as used by {@link com.comp2042.controllers.GameController}. */
+    static final int SPAWN_X = 4;
+
+    /** The row a new brick appears at, as used by {@link com.comp2042.controllers.GameController}. */
+    static final int SPAWN_Y = 1;
+
+    private static final Comparator<Node> BEST_FIRST = Comparator.comparingDouble((Node node) -> node.score).reversed();
+
+    private final Heuristic heuristic;
+    private final int beamWidth;
+    private final ForkJoinPool pool;
+    private final TranspositionTable table;
+    /** The keys of the last board size searched. */
+    private volatile Zobrist zobrist;
+
+    /**
+     * Creates a search with the default beam width on the common fork/join pool.
+     *
+     * @param heuristic the scoring of the board after each placement
+     */
+    public BeamSearch(Heuristic heuristic) {
+        this(heuristic, DEFAULT_BEAM_WIDTH, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a search with its own transposition table.
+     *
+     * @param heuristic the scoring of the board after each placement
+     * @param beamWidth the number of boards kept at each depth
+     * @param pool the pool the boards are expanded on
+     */
+    public BeamSearch(Heuristic heuristic, int beamWidth, ForkJoinPool pool) {
+        this(heuristic, beamWidth, pool, new TranspositionTable());
+    }
+
+    /**
+     * Creates a search.
+     *
+     * @param heuristic the scoring of the board after each placement
+     * @param beamWidth the number of boards kept at each depth
+     * @param pool the pool the boards are expanded on
+     * @param table the cache of board scores, only shared with searches using the same heuristic
+     */
+    public BeamSearch(Heuristic heuristic, int beamWidth, ForkJoinPool pool, TranspositionTable table) {
+        if (beamWidth < 1) throw new IllegalArgumentException("The beam width must be at least 1, was " + beamWidth);
+        this.heuristic = heuristic;
+        this.beamWidth = beamWidth;
+        this.pool = pool;
+        this.table = table;
+    }
+
+    /**
+     * Returns the placement of the current brick that leads to the best board found.
+     *
+     * <p>
+     * The board matrix is only read, and must not change while the search runs, so a
+     * search running off the JavaFX thread should be given a copy.
+     * </p>
+     *
+     * @param matrix the board matrix
+     * @param view the current brick, its position and the held brick
+     * @param preview the upcoming bricks, the next brick first
+     * @param useHold {@code true} to also consider holding bricks
+     * @param deadline the {@link System#nanoTime()} after which no new depth is finished
+     * @param stop returns {@code true} when the search should give up at once
+     * @return the placement with the best board at the deepest depth reached; its score is the score of that board,
+     *         or {@code null} if the brick cannot be placed or the search was stopped during the first depth
+     */
+    public Placement search(int[][] matrix, ViewData view, RotationTable[] preview, boolean useHold,
+                            long deadline, BooleanSupplier stop) {
+        return search(matrix, keysFor(matrix).hash(matrix), view, preview, useHold, deadline, stop);
+    }
+
+    /**
+     * Returns the placement of the current brick that leads to the best board found, starting from a known hash.
+     *
+     * <p>
+     * This is {@link #search(int[][], ViewData, RotationTable[], boolean, long, BooleanSupplier)}
+     * without hashing the whole matrix first, for a board that keeps its hash up to date.
+     * </p>
+     *
+     * @param matrix the board matrix
+     * @param hash the {@link Zobrist} hash of the matrix, as given by {@link com.comp2042.interfaces.Board#getBoardHash()}
+     * @param view the current brick, its position and the held brick
+     * @param preview the upcoming bricks, the next brick first
+     * @param useHold {@code true} to also consider holding bricks
+     * @param deadline the {@link System#nanoTime()} after which no new depth is finished
+     * @param stop returns {@code true} when the search should give up at once
+     * @return the placement with the best board at the deepest depth reached, or {@code null} as for the other search
+     */
+    public Placement search(int[][] matrix, long hash, ViewData view, RotationTable[] preview, boolean useHold,
+                            long deadline, BooleanSupplier stop) {
+        RotationTable[] pieces = new RotationTable[preview.length + 1];
+        pieces[0] = view.getBrickRotations();
+        System.arraycopy(preview, 0, pieces, 1, preview.length);
+        Zobrist keys = keysFor(matrix);
+        Search search = new Search(pieces, useHold, keys, deadline, stop);
+
+        Node root = new Node(null, null, 0, 0, 0, view.getHoldBrickRotations(), 0, null);
+        root.matrix = matrix;
+        root.hash = hash;
+        Node[] beam = {root};
+        Node best = null;
+        for (int depth = 1; ; depth++) {
+            Node[][] children = new Node[beam.length][];
+            search.checkDeadline = depth > 1;
+            if (depth == 1) {
+                search.expand(root, view.getRotation(), view.getxPosition(), view.getyPosition(),
+                        new MoveGenerator(matrix.length, matrix[0].length),
+                        new FeatureTracker(matrix.length, matrix[0].length), children, 0);
+            } else {
+                pool.invoke(new ExpandTask(search, beam, children, 0, beam.length));
+            }
+            if (search.isOver()) break;
+
+            Node[] all = Arrays.stream(children).filter(Objects::nonNull).flatMap(Arrays::stream).toArray(Node[]::new);
+            if (all.length == 0) break;
+            Arrays.sort(all, BEST_FIRST);
+            best = all[0];
+            beam = selectDistinct(all);
+            if (System.nanoTime() - deadline >= 0) break;
+        }
+        if (best == null || stop.getAsBoolean()) return null;
+        Placement first = best.first;
+        return new Placement(first.isHold(), first.getRotation(), first.getX(), first.getY(), best.score);
+    }
+
+    private Zobrist keysFor(int[][] matrix) {
+        Zobrist keys = zobrist;
+        if (keys == null || keys.getRows() != matrix.length || keys.getColumns() != matrix[0].length) {
+            keys = new Zobrist(matrix.length, matrix[0].length);
+            zobrist = keys;
+        }
+        return keys;
+    }
+
+    /**
+     * Returns the best boards, skipping any that are the same as a better one.
+     */
+    private Node[] selectDistinct(Node[] sorted) {
+        Node[] beam = new Node[Math.min(beamWidth, sorted.length)];
+        int count = 0;
+        for (int i = 0; i < sorted.length && count < beam.length; i++) {
+            Node node = sorted[i];
+            boolean seen = false;
+            for (int j = 0; j < count && !seen; j++) {
+                seen = beam[j].key == node.key && beam[j].hold == node.hold && beam[j].next == node.next;
+            }
+            if (!seen) beam[count++] = node;
+        }
+        return count == beam.length ? beam : Arrays.copyOf(beam, count);
+    }
+
+    /**
+     * Starts a search on this search's pool and returns at once.
+     *
+     * <p>
+     * The arguments are the same as for {@link #search(int[][], long, ViewData, RotationTable[], boolean, long, BooleanSupplier)}.
+     * The returned task can be polled with {@link ForkJoinTask#isDone()}, so a caller on the
+     * JavaFX thread never waits for it.
+     * </p>
+     *
+     * @param matrix a copy of the board matrix, which must not change while the search runs
+     * @param hash the {@link Zobrist} hash of the matrix, as given by {@link com.comp2042.interfaces.Board#getBoardHash()}
+     * @param view the current brick, its position and the held brick
+     * @param preview the upcoming bricks, the next brick first
+     * @param useHold {@code true} to also consider holding bricks
+     * @param deadline the {@link System#nanoTime()} after which no new depth is finished
+     * @param stop returns {@code true} when the search should give up at once
+     * @return the running search, whose result is the placement found or {@code null}
+     */
+    public ForkJoinTask<Placement> submit(int[][] matrix, long hash, ViewData view, RotationTable[] preview, boolean useHold,
+                                          long deadline, BooleanSupplier stop) {
+        return pool.submit(() -> search(matrix, hash, view, preview, useHold, deadline, stop));
+    }
+
+    /**
+     * Returns the number of boards kept at each depth.
+     *
+     * @return the beam width
+     */
+    public int getBeamWidth() {
+        return beamWidth;
+    }
+
+    /**
+     * A board reached by placing some bricks, and how it was reached.
+     */
+    private static final class Node {
+        /** The board this one was placed on, until {@link #matrix} is built. */
+        Node parent;
+        final RotationTable brick;
+        final int rotation;
+        final int x;
+        final int y;
+        final RotationTable hold;
+        /** The index in the queue of the next brick to place. */
+        final int next;
+        /** The placement of the current brick that this board comes from. */
+        final Placement first;
+        /** The score of the lines cleared by the placements that built {@link #matrix}. */
+        double carried;
+        double score;
+        /** The hash of the parent's board with the last brick merged, before full rows are removed. */
+        long key;
+        /** The hash of {@link #matrix}. */
+        long hash;
+        int[][] matrix;
+
+        Node(Node parent, RotationTable brick, int rotation, int x, int y, RotationTable hold, int next, Placement first) {
+            this.parent = parent;
+            this.brick = brick;
+            this.rotation = rotation;
+            this.x = x;
+            this.y = y;
+            this.hold = hold;
+            this.next = next;
+            this.first = first;
+        }
+    }
+
+    /**
+     * The state shared by the tasks of one search.
+     */
+    private final class Search {
+        private final RotationTable[] pieces;
+        private final boolean useHold;
+        private final Zobrist keys;
+        private final long deadline;
+        private final BooleanSupplier stop;
+        volatile boolean checkDeadline;
+        volatile boolean aborted;
+
+        Search(RotationTable[] pieces, boolean useHold, Zobrist keys, long deadline, BooleanSupplier stop) {
+            this.pieces = pieces;
+            this.useHold = useHold;
+            this.keys = keys;
+            this.deadline = deadline;
+            this.stop = stop;
+        }
+
+        boolean isOver() {
+            if (!aborted && (stop.getAsBoolean() || checkDeadline && System.nanoTime() - deadline >= 0)) {
+                aborted = true;
+            }
+            return aborted;
+        }
+
+        /**
+         * Lists the boards reached by placing the next brick of a board, or the brick it is swapped with.
+         */
+        void expand(Node node, int rotation, int x, int y, MoveGenerator generator, FeatureTracker features,
+                    Node[][] out, int index) {
+            if (node.matrix == null) build(node);
+            if (node.next >= pieces.length) return;
+            features.load(node.matrix);
+            RotationTable brick = pieces[node.next];
+            Node[] children = new Node[0];
+            children = add(children, node, generator, features, brick, rotation, x, y, node.hold, node.next + 1, false);
+            if (useHold) {
+                RotationTable other = node.hold != null ? node.hold
+                        : node.next + 1 < pieces.length ? pieces[node.next + 1] : null;
+                if (other != null && other != brick) {
+                    int next = node.hold != null ? node.next + 1 : node.next + 2;
+                    children = add(children, node, generator, features, other, 0, x, y, brick, next, true);
+                }
+            }
+            out[index] = children;
+        }
+
+        private Node[] add(Node[] children, Node node, MoveGenerator generator, FeatureTracker features, RotationTable brick,
+                           int rotation, int x, int y, RotationTable hold, int next, boolean isHold) {
+            int count = generator.generate(node.matrix, brick, rotation, x, y);
+            BoardFeatures placed = new BoardFeatures();
+            int start = children.length;
+            children = Arrays.copyOf(children, start + count);
+            for (int i = 0; i < count; i++) {
+                int r = generator.getRotation(i);
+                int px = generator.getX(i);
+                int py = generator.getY(i);
+                Placement first = node.first != null ? node.first : new Placement(isHold, r, px, py, 0);
+                Node child = new Node(node, brick, r, px, py, hold, next, first);
+                child.key = node.hash ^ keys.brick(brick.getMask(r), px, py);
+                child.score = node.carried + evaluate(features, placed, brick.getMask(r), px, py, child.key);
+                children[start + i] = child;
+            }
+            return children;
+        }
+
+        private float evaluate(FeatureTracker features, BoardFeatures placed, int mask, int x, int y, long key) {
+            float score = table.probe(key);
+            if (Float.isNaN(score)) {
+                score = (float) heuristic.evaluate(features.whatIf(mask, x, y, placed));
+                table.store(key, score);
+            }
+            return score;
+        }
+
+        /**
+         * Places the last brick of a board on its parent's matrix and removes the full rows.
+         *
+         * <p>The hash starts from {@link Node#key}. When rows are cleared, only the rows from the
+         * highest block down to the lowest full row move, so only those are XOR-ed out before
+         * the clear and back in at their new rows after it.</p>
+         */
+        private void build(Node node) {
+            int[][] matrix = MatrixOperations.copy(node.parent.matrix);
+            int[] rowFill = new int[matrix.length];
+            for (int row = 0; row < matrix.length; row++) {
+                for (int cell : matrix[row]) {
+                    if (cell != 0) rowFill[row]++;
+                }
+            }
+            MatrixOperations.mergeInPlace(matrix, node.brick.getMask(node.rotation), node.brick.getColor(), node.x, node.y, rowFill);
+            int lowest = -1;
+            for (int row = Math.min(node.y + RotationTable.SIZE, matrix.length) - 1; row >= Math.max(node.y, 0) && lowest < 0; row--) {
+                if (rowFill[row] == matrix[0].length) lowest = row;
+            }
+            long hash = node.key;
+            int top = 0;
+            if (lowest >= 0) {
+                while (rowFill[top] == 0) top++;
+                hash ^= keys.rows(matrix, top, lowest);
+            }
+            ClearRow cleared = MatrixOperations.removeFullRows(matrix, rowFill, node.y, node.y + RotationTable.SIZE - 1);
+            if (cleared.getLinesRemoved() > 0) {
+                hash ^= keys.rows(matrix, top + cleared.getLinesRemoved(), lowest);
+            }
+            node.carried = node.parent.carried + heuristic.scoreLines(cleared.getLinesRemoved());
+            node.hash = hash;
+            node.matrix = matrix;
+            node.parent = null;
+        }
+    }
+
+    /**
+     * Expands a range of the boards of a depth, splitting it in half until it is small enough.
+     */
+    private static final class ExpandTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Search search;
+        private final transient Node[] beam;
+        private final transient Node[][] out;
+        private final int from;
+        private final int to;
+
+        ExpandTask(Search search, Node[] beam, Node[][] out, int from, int to) {
+            this.search = search;
+            this.beam = beam;
+            this.out = out;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                MoveGenerator generator = new MoveGenerator(search.keys.getRows(), search.keys.getColumns());
+                FeatureTracker features = new FeatureTracker(search.keys.getRows(), search.keys.getColumns());
+                for (int i = from; i < to && !search.isOver(); i++) {
+                    search.expand(beam[i], 0, SPAWN_X, SPAWN_Y, generator, features, out, i);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ExpandTask(search, beam, out, from, middle),
+                    new ExpandTask(search, beam, out, middle, to));
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.comp2042.bot;
+
+import com.comp2042.data.MoveEvent;
+import com.comp2042.enums.EventSource;
+import com.comp2042.enums.EventType;
+import com.comp2042.interfaces.Board;
+import com.comp2042.interfaces.InputEventListener;
+import com.comp2042.logic.FeatureTracker;
+import com.comp2042.view.ViewData;
+
+/**
+ * Plays the game by sending the same inputs as a player.
+ *
+ * <p>
+ * For each brick, {@link PlacementSearch} picks a landing position. The bot then holds,
+ * turns and moves the brick there through the {@link InputEventListener} and hard drops it,
+ * so the game logic, score and events work exactly as they do for a player.
+ * The search takes microseconds, far less than the fall interval at the highest level.
+ * When the bot is given the {@link Board}, the search reads the board's own
+ * {@link FeatureTracker}, which the board updates as bricks lock.
+ * </p>
+ */
+public final class BotPlayer {
+
+    private static final MoveEvent LEFT = new MoveEvent(EventType.LEFT, EventSource.USER);
+    private static final MoveEvent RIGHT = new MoveEvent(EventType.RIGHT, EventSource.USER);
+    private static final MoveEvent ROTATE = new MoveEvent(EventType.ROTATE, EventSource.USER);
+    private static final MoveEvent HOLD = new MoveEvent(EventType.HOLD, EventSource.USER);
+    private static final MoveEvent DROP = new MoveEvent(EventType.DOWN, EventSource.USER);
+
+    private final PlacementSearch search;
+    private final boolean useHold;
+
+    /**
+     * Creates a bot.
+     *
+     * @param search the search that picks each placement
+     * @param useHold {@code true} to let the bot use the hold
+     */
+    public BotPlayer(PlacementSearch search, boolean useHold) {
+        this.search = search;
+        this.useHold = useHold;
+    }
+
+    /**
+     * Places the current brick.
+     *
+     * @param game the game logic the inputs are sent to
+     * @param matrix the board matrix
+     * @param view the current brick and its position
+     * @return the placement played, or {@code null} if there was none and the brick was dropped where it is
+     */
+    public Placement playPiece(InputEventListener game, int[][] matrix, ViewData view) {
+        FeatureTracker features = new FeatureTracker(matrix.length, matrix[0].length);
+        features.load(matrix);
+        return play(game, matrix, features, view);
+    }
+
+    /**
+     * Places the current brick of a board, scoring the placements from the board's {@link FeatureTracker}.
+     *
+     * @param game the game logic the inputs are sent to
+     * @param board the board the game logic plays on
+     * @return the placement played, or {@code null} if there was none and the brick was dropped where it is
+     */
+    public Placement playPiece(InputEventListener game, Board board) {
+        return play(game, board.getBoardMatrix(), board.getFeatureTracker(), board.getViewData());
+    }
+
+    private Placement play(InputEventListener game, int[][] matrix, FeatureTracker features, ViewData view) {
+        Placement placement = search.findBest(matrix, features, view, useHold);
+        if (placement == null) {
+            game.onDownEvent(DROP, true);
+            return null;
+        }
+        if (placement.isHold()) {
+            ViewData held = game.onHoldEvent(HOLD);
+            if (held == null) {
+                placement = search.findBest(matrix, features, view, false);
+                if (placement == null) {
+                    game.onDownEvent(DROP, true);
+                    return null;
+                }
+            } else {
+                view = held;
+            }
+        }
+
+        int rotations = view.getBrickRotations().size();
+        int turns = (placement.getRotation() - view.getRotation() + rotations) % rotations;
+        for (int i = 0; i < turns; i++) {
+            view = game.onRotateEvent(ROTATE);
+        }
+        while (view.getxPosition() != placement.getX()) {
+            boolean left = view.getxPosition() > placement.getX();
+            ViewData moved = left ? game.onLeftEvent(LEFT) : game.onRightEvent(RIGHT);
+            if (moved.getxPosition() == view.getxPosition()) break;
+            view = moved;
+        }
+        game.onDownEvent(DROP, true);
+        return placement;
+    }
+}
@@ -0,0 +1,449 @@
+package com.comp2042.bot;
+
+import com.comp2042.controllers.GameController;
+import com.comp2042.data.bricks.RandomBrickGenerator;
+import com.comp2042.logic.SimpleBoard;
+import com.comp2042.view.HeadlessGameView;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Tunes the weights of the {@link Heuristic} with a genetic algorithm, from the command line.
+ *
+ * <p>
+ * Every candidate is a weight vector of unit length. Each generation, every candidate plays
+ * the same seeded games through a {@link GameController} and a {@link SimpleBoard} without a
+ * window, placing each brick with a {@link BotPlayer}, and its fitness is the number of rows
+ * it clears. A game ends when it is lost or after the piece limit. The games of a generation
+ * are new seeds, so a candidate cannot survive by being lucky once. All the games of a
+ * generation run at the same time, one fork/join task each, on one {@link ForkJoinPool}.
+ * </p>
+ *
+ * <p>
+ * After the games, offspring replace the weakest {@link #OFFSPRING_FRACTION} of the population.
+ * Each child comes from the two best of a random {@link #TOURNAMENT_FRACTION} of the
+ * population, drawn without repeats, as their average weighted by fitness, and sometimes has one weight moved by up to
+ * {@link #MUTATION_STEP}. The population is written to a checkpoint file after every generation,
+ * so a long run can be stopped and resumed with {@code --resume}.
+ * </p>
+ *
+ * <p>
+ * Run it with {@code mvn compile exec:java -Dexec.args="--generations 20"}. The options are
+ * {@code --population}, {@code --generations}, {@code --games}, {@code --pieces}, {@code --seed},
+ * {@code --checkpoint} and {@code --resume}. The report at the end lists the lines and pieces
+ * per game of the best candidates, so the weights of weaker and stronger bots can be picked from it.
+ * </p>
+ */
+public final class GeneticTuner {
+
+    /** The number of weights of a {@link Heuristic}. */
+    static final int WEIGHTS = 4;
+
+    /** The part of the population drawn for each tournament. */
+    static final double TOURNAMENT_FRACTION = 0.1;
+
+    /** The part of the population replaced by offspring each generation. */
+    static final double OFFSPRING_FRACTION = 0.3;
+
+    /** The chance that a child has one weight mutated. */
+    static final double MUTATION_CHANCE = 0.05;
+
+    /** The largest change of a mutated weight. */
+    static final double MUTATION_STEP = 0.2;
+
+    /** The checkpoint file used when none is given. */
+    public static final Path DEFAULT_CHECKPOINT = Paths.get("tuner.checkpoint");
+
+    private final Candidate[] population;
+    private final int gamesPerCandidate;
+    private final int maxPieces;
+    private final long seed;
+    private final ForkJoinPool pool;
+    private int generation;
+
+    /**
+     * Creates a tuner with a random population.
+     *
+     * @param size the number of candidates
+     * @param gamesPerCandidate the number of games each candidate plays per generation
+     * @param maxPieces the number of pieces after which a game ends
+     * @param seed the seed of the population, the evolution and the games
+     * @param pool the pool the games run on
+     */
+    public GeneticTuner(int size, int gamesPerCandidate, int maxPieces, long seed, ForkJoinPool pool) {
+        this(randomPopulation(size, seed), 0, gamesPerCandidate, maxPieces, seed, pool);
+    }
+
+    private GeneticTuner(Candidate[] population, int generation, int gamesPerCandidate, int maxPieces,
+                         long seed, ForkJoinPool pool) {
+        if (population.length < 2) throw new IllegalArgumentException("The population needs at least 2 candidates");
+        this.population = population;
+        this.generation = generation;
+        this.gamesPerCandidate = gamesPerCandidate;
+        this.maxPieces = maxPieces;
+        this.seed = seed;
+        this.pool = pool;
+    }
+
+    /**
+     * Creates a tuner that carries on from a checkpoint written by {@link #save(Path)}.
+     *
+     * @param checkpoint the checkpoint file
+     * @param gamesPerCandidate the number of games each candidate plays per generation
+     * @param maxPieces the number of pieces after which a game ends
+     * @param pool the pool the games run on
+     * @return the tuner, at the generation after the saved one
+     */
+    public static GeneticTuner resume(Path checkpoint, int gamesPerCandidate, int maxPieces, ForkJoinPool pool) {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(checkpoint);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        // the first line is "generation <n> seed <seed>"
+        String[] header = lines.getFirst().split(" ");
+        int generation = Integer.parseInt(header[1]);
+        long seed = Long.parseLong(header[3]);
+        Candidate[] population = lines.stream().skip(1).filter(line -> !line.isBlank())
+                .map(Candidate::parse).toArray(Candidate[]::new);
+        return new GeneticTuner(population, generation, gamesPerCandidate, maxPieces, seed, pool);
+    }
+
+    private static Candidate[] randomPopulation(int size, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        Candidate[] population = new Candidate[size];
+        for (int i = 0; i < size; i++) {
+            double[] weights = new double[WEIGHTS];
+            for (int w = 0; w < WEIGHTS; w++) {
+                weights[w] = random.nextDouble(-0.5, 0.5);
+            }
+            population[i] = new Candidate(normalize(weights));
+        }
+        return population;
+    }
+
+    /**
+     * Plays the games of this generation with every candidate, then replaces the weakest with offspring.
+     */
+    public void nextGeneration() {
+        evaluate();
+        breed();
+        generation++;
+    }
+
+    /**
+     * Plays the games of this generation with every candidate, in parallel, and records the results.
+     */
+    public void evaluate() {
+        List<ForkJoinTask<GameResult>> games = new ArrayList<>(population.length * gamesPerCandidate);
+        for (Candidate candidate : population) {
+            Heuristic heuristic = candidate.toHeuristic();
+            for (int game = 0; game < gamesPerCandidate; game++) {
+                long gameSeed = gameSeed(game);
+                games.add(pool.submit(() -> playGame(heuristic, gameSeed, maxPieces, pool)));
+            }
+        }
+        for (int i = 0; i < population.length; i++) {
+            Candidate candidate = population[i];
+            candidate.lines = 0;
+            candidate.pieces = 0;
+            candidate.games = gamesPerCandidate;
+            for (int game = 0; game < gamesPerCandidate; game++) {
+                GameResult result = games.get(i * gamesPerCandidate + game).join();
+                candidate.lines += result.getLines();
+                candidate.pieces += result.getPieces();
+            }
+        }
+        Arrays.sort(population, Comparator.comparingLong((Candidate candidate) -> candidate.lines).reversed());
+    }
+
+    private long gameSeed(int game) {
+        return seed * 1_000_003L + (long) generation * gamesPerCandidate + game;
+    }
+
+    private void breed() {
+        SplittableRandom random = new SplittableRandom(seed ^ (generation + 1) * 0x9E37_79B9_7F4A_7C15L);
+        int offspring = Math.max(1, (int) (population.length * OFFSPRING_FRACTION));
+        int tournament = Math.max(2, (int) (population.length * TOURNAMENT_FRACTION));
+        Candidate[] children = new Candidate[offspring];
+        int[] order = new int[population.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        for (int c = 0; c < offspring; c++) {
+            Candidate[] parents = tournament(random, order, tournament);
+            double first = parents[0].lines + 1.0;
+            double second = parents[1].lines + 1.0;
+            double[] weights = new double[WEIGHTS];
+            for (int w = 0; w < WEIGHTS; w++) {
+                weights[w] = parents[0].weights[w] * first + parents[1].weights[w] * second;
+            }
+            if (random.nextDouble() < MUTATION_CHANCE) {
+                weights[random.nextInt(WEIGHTS)] += random.nextDouble(-MUTATION_STEP, MUTATION_STEP);
+            }
+            children[c] = new Candidate(normalize(weights));
+        }
+        // the population is sorted best first, so the children take the places of the weakest
+        System.arraycopy(children, 0, population, population.length - offspring, offspring);
+    }
+
+    // draws size distinct candidates with a partial Fisher-Yates shuffle of order, so the parents always differ
+    private Candidate[] tournament(SplittableRandom random, int[] order, int size) {
+        Candidate best = null;
+        Candidate second = null;
+        for (int i = 0; i < size; i++) {
+            int j = random.nextInt(i, order.length);
+            int index = order[j];
+            order[j] = order[i];
+            order[i] = index;
+            Candidate drawn = population[index];
+            if (best == null || drawn.lines > best.lines) {
+                second = best;
+                best = drawn;
+            } else if (second == null || drawn.lines > second.lines) {
+                second = drawn;
+            }
+        }
+        return new Candidate[]{best, second};
+    }
+
+    private static double[] normalize(double[] weights) {
+        double length = 0;
+        for (double weight : weights) {
+            length += weight * weight;
+        }
+        length = Math.sqrt(length);
+        if (length == 0) return weights;
+        for (int w = 0; w < weights.length; w++) {
+            weights[w] /= length;
+        }
+        return weights;
+    }
+
+    /**
+     * Plays one game with a heuristic, without a window.
+     *
+     * @param heuristic the scoring used to place every brick
+     * @param seed the seed of the brick generator
+     * @param maxPieces the number of pieces after which the game ends
+     * @param pool the pool the placements are scored on
+     * @return the lines cleared and pieces placed
+     */
+    public static GameResult playGame(Heuristic heuristic, long seed, int maxPieces, ForkJoinPool pool) {
+        HeadlessGameView view = new HeadlessGameView();
+        GameController game = new GameController(view, new SimpleBoard(25, 10, new RandomBrickGenerator(seed)));
+        game.getBoard().getScore().setRecordsHighScore(false);
+        BotPlayer bot = new BotPlayer(new PlacementSearch(heuristic, pool), false);
+        int pieces = 0;
+        while (pieces < maxPieces && !view.isGameOver()) {
+            bot.playPiece(game, game.getBoard());
+            pieces++;
+        }
+        return new GameResult(game.getStats().getLinesCleared(), pieces);
+    }
+
+    /**
+     * Writes the population to a checkpoint file, replacing the previous checkpoint in one step.
+     *
+     * @param checkpoint the checkpoint file
+     */
+    public void save(Path checkpoint) {
+        Path temporary = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temporary)) {
+            writer.write("generation " + generation + " seed " + seed);
+            writer.newLine();
+            for (Candidate candidate : population) {
+                writer.write(candidate.format());
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        try {
+            Files.move(temporary, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns the candidates, best first after {@link #evaluate()}.
+     *
+     * @return the population
+     */
+    public Candidate[] getPopulation() {
+        return population.clone();
+    }
+
+    /**
+     * Returns the number of generations bred so far.
+     *
+     * @return the generation
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Runs the tuner.
+     *
+     * @param args the options, each as {@code --name value}, or {@code --resume} alone
+     */
+    public static void main(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--")) throw new IllegalArgumentException("Unknown argument: " + args[i]);
+            boolean flag = i + 1 == args.length || args[i + 1].startsWith("--");
+            options.put(args[i].substring(2), flag ? "true" : args[++i]);
+        }
+        int size = Integer.parseInt(options.getOrDefault("population", "100"));
+        int generations = Integer.parseInt(options.getOrDefault("generations", "20"));
+        int games = Integer.parseInt(options.getOrDefault("games", "10"));
+        int pieces = Integer.parseInt(options.getOrDefault("pieces", "500"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "1"));
+        Path checkpoint = options.containsKey("checkpoint") ? Paths.get(options.get("checkpoint")) : DEFAULT_CHECKPOINT;
+
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        GeneticTuner tuner = options.containsKey("resume") && Files.exists(checkpoint)
+                ? resume(checkpoint, games, pieces, pool)
+                : new GeneticTuner(size, games, pieces, seed, pool);
+
+        while (tuner.getGeneration() < generations) {
+            long start = System.nanoTime();
+            tuner.nextGeneration();
+            tuner.save(checkpoint);
+            Candidate best = tuner.population[0];
+            System.out.printf(Locale.ROOT, "generation %d: best %.1f lines and %.1f pieces per game, %s (%.1f s)%n",
+                    tuner.getGeneration(), best.getLinesPerGame(), best.getPiecesPerGame(),
+                    Arrays.toString(best.weights), (System.nanoTime() - start) / 1e9);
+        }
+
+        tuner.evaluate();
+        tuner.save(checkpoint);
+        System.out.println();
+        System.out.println("lines/game  pieces/game  height      lines       holes       bumpiness");
+        for (Candidate candidate : Arrays.copyOf(tuner.population, Math.min(10, tuner.population.length))) {
+            System.out.printf(Locale.ROOT, "%10.1f  %11.1f  %10.6f  %10.6f  %10.6f  %10.6f%n",
+                    candidate.getLinesPerGame(), candidate.getPiecesPerGame(),
+                    candidate.weights[0], candidate.weights[1], candidate.weights[2], candidate.weights[3]);
+        }
+    }
+
+    /**
+     * A weight vector and the results of its games in the last evaluated generation.
+     */
+    public static final class Candidate {
+        private final double[] weights;
+        private long lines;
+        private long pieces;
+        private int games;
+
+        Candidate(double[] weights) {
+            this.weights = weights;
+        }
+
+        /**
+         * Returns the heuristic with these weights.
+         *
+         * @return the heuristic, with the weights in the order of {@link Heuristic#Heuristic(double, double, double, double)}
+         */
+        public Heuristic toHeuristic() {
+            return new Heuristic(weights[0], weights[1], weights[2], weights[3]);
+        }
+
+        /**
+         * Returns the weights.
+         *
+         * @return a copy of the weights
+         */
+        public double[] getWeights() {
+            return weights.clone();
+        }
+
+        /**
+         * Returns the average number of rows cleared per game.
+         *
+         * @return the lines per game, 0 before the first evaluation
+         */
+        public double getLinesPerGame() {
+            return games == 0 ? 0 : (double) lines / games;
+        }
+
+        /**
+         * Returns the average number of pieces placed per game.
+         *
+         * @return the pieces per game, 0 before the first evaluation
+         */
+        public double getPiecesPerGame() {
+            return games == 0 ? 0 : (double) pieces / games;
+        }
+
+        String format() {
+            StringBuilder line = new StringBuilder();
+            for (double weight : weights) {
+                line.append(weight).append(' ');
+            }
+            return line.append(lines).append(' ').append(pieces).append(' ').append(games).toString();
+        }
+
+        static Candidate parse(String line) {
+            String[] fields = line.trim().split(" ");
+            double[] weights = new double[WEIGHTS];
+            for (int w = 0; w < WEIGHTS; w++) {
+                weights[w] = Double.parseDouble(fields[w]);
+            }
+            Candidate candidate = new Candidate(weights);
+            candidate.lines = Long.parseLong(fields[WEIGHTS]);
+            candidate.pieces = Long.parseLong(fields[WEIGHTS + 1]);
+            candidate.games = Integer.parseInt(fields[WEIGHTS + 2]);
+            return candidate;
+        }
+    }
+
+    /**
+     * The lines cleared and pieces placed in one game.
+     */
+    public static final class GameResult {
+        private final int lines;
+        private final int pieces;
+
+        GameResult(int lines, int pieces) {
+            this.lines = lines;
+            this.pieces = pieces;
+        }
+
+        /**
+         * Returns the number of rows cleared.
+         *
+         * @return the lines
+         */
+        public int getLines() {
+            return lines;
+        }
+
+        /**
+         * Returns the number of pieces placed.
+         *
+         * @return the pieces
+         */
+        public int getPieces() {
+            return pieces;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.comp2042.bot;
+
+/**
+ * A landing position of a brick chosen by {@link PlacementSearch}.
+ *
+ * <p>The position is where the brick ends up after its rotations, sideways moves and a hard drop.</p>
+ */
+public final class Placement {
+
+    private final boolean hold;
+    private final int rotation;
+    private final int x;
+    private final int y;
+    private final double score;
+
+    /**
+     * Creates a placement.
+     *
+     * @param hold {@code true} if the brick is placed after a hold
+     * @param rotation the rotation index of the brick
+     * @param x the column of the brick
+     * @param y the landing row of the brick
+     * @param score the heuristic score of the board after the placement
+     */
+    public Placement(boolean hold, int rotation, int x, int y, double score) {
+        this.hold = hold;
+        this.rotation = rotation;
+        this.x = x;
+        this.y = y;
+        this.score = score;
+    }
+
+    /**
+     * Returns whether the brick is placed after a hold, so the held or next brick is the one placed.
+     *
+     * @return {@code true} if the hold action is used first
+     */
+    public boolean isHold() {
+        return hold;
+    }
+
+    /**
+     * Returns the rotation index of the placed brick.
+     *
+     * @return the rotation index
+     */
+    public int getRotation() {
+        return rotation;
+    }
+
+    /**
+     * Returns the column of the placed brick.
+     *
+     * @return the x coordinate
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * Returns the landing row of the placed brick.
+     *
+     * @return the y coordinate
+     */
+    public int getY() {
+        return y;
+    }
+
+    /**
+     * Returns the heuristic score of the board after the placement.
+     *
+     * @return the score, higher is better
+     */
+    public double getScore() {
+        return score;
+    }
+}
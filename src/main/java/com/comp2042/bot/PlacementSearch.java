@@ -0,0 +1,216 @@
+package com.comp2042.bot;
+
+import com.comp2042.data.bricks.RotationTable;
+import com.comp2042.logic.BoardFeatures;
+import com.comp2042.logic.FeatureTracker;
+import com.comp2042.logic.MatrixOperations;
+import com.comp2042.view.ViewData;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Finds the best landing position for the current brick.
+ *
+ * <p>
+ * Every placement the player could reach is listed first: the brick is turned at its
+ * current position as long as each turn is free, then moved sideways one column at a
+ * time until it is blocked, and then hard dropped. Every collision check uses
+ * {@link MatrixOperations#intersect(int[][], int, int, int)}. When the hold is allowed,
+ * the held brick, or the next brick if nothing is held, is listed in the same way.
+ * </p>
+ *
+ * <p>
+ * The placements are then scored with a {@link Heuristic} in parallel on a
+ * {@link ForkJoinPool}, which splits the list into tasks of at most
+ * {@link #SPLIT_THRESHOLD} placements. Each placement is scored from the features a
+ * {@link FeatureTracker} of the board says it would give, without changing the board.
+ * The tracker is read from the matrix, or is the one the board keeps up to date.
+ * </p>
+ */
+public final class PlacementSearch {
+
+    /** The most placements scored by one fork/join task. */
+    static final int SPLIT_THRESHOLD = 8;
+
+    private final Heuristic heuristic;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a search that scores placements on the common fork/join pool.
+     *
+     * @param heuristic the scoring of the board after each placement
+     */
+    public PlacementSearch(Heuristic heuristic) {
+        this(heuristic, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a search that scores placements on the given pool.
+     *
+     * @param heuristic the scoring of the board after each placement
+     * @param pool the pool the scoring runs on
+     */
+    public PlacementSearch(Heuristic heuristic, ForkJoinPool pool) {
+        this.heuristic = heuristic;
+        this.pool = pool;
+    }
+
+    /**
+     * Returns the best placement of the current brick.
+     *
+     * @param matrix the board matrix
+     * @param view the current brick, its position and the next and held bricks
+     * @param useHold {@code true} to also consider holding the brick and placing the other one
+     * @return the placement with the highest score, or {@code null} if the brick cannot be placed
+     */
+    public Placement findBest(int[][] matrix, ViewData view, boolean useHold) {
+        FeatureTracker features = new FeatureTracker(matrix.length, matrix[0].length);
+        features.load(matrix);
+        return findBest(matrix, features, view, useHold);
+    }
+
+    /**
+     * Returns the best placement of the current brick, scored from a tracker that already follows the board.
+     *
+     * <p>This skips reading the whole board into a new tracker, so the tracker a board keeps
+     * up to date, from {@link com.comp2042.interfaces.Board#getFeatureTracker()}, can be passed in.</p>
+     *
+     * @param matrix the board matrix
+     * @param features the features of the same board, which are only read
+     * @param view the current brick, its position and the next and held bricks
+     * @param useHold {@code true} to also consider holding the brick and placing the other one
+     * @return the placement with the highest score, or {@code null} if the brick cannot be placed
+     */
+    public Placement findBest(int[][] matrix, FeatureTracker features, ViewData view, boolean useHold) {
+        int x = view.getxPosition();
+        int y = view.getyPosition();
+        Candidates candidates = new Candidates(matrix[0].length);
+        candidates.list(matrix, view.getBrickRotations(), view.getRotation(), x, y, false);
+        if (useHold) {
+            RotationTable other = view.getHoldBrickRotations() != null
+                    ? view.getHoldBrickRotations() : view.getNextBrickRotations();
+            candidates.list(matrix, other, 0, x, y, true);
+        }
+        if (candidates.count == 0) return null;
+
+        double[] scores = new double[candidates.count];
+        pool.invoke(new ScoreTask(heuristic, features, candidates, scores, 0, candidates.count));
+
+        int best = 0;
+        for (int i = 1; i < scores.length; i++) {
+            if (scores[i] > scores[best]) best = i;
+        }
+        return new Placement(candidates.hold[best], candidates.rotation[best],
+                candidates.x[best], candidates.y[best], scores[best]);
+    }
+
+    /**
+     * Counts the placements that {@link #findBest(int[][], ViewData, boolean)} would score.
+     *
+     * @param matrix the board matrix
+     * @param rotations the brick
+     * @param rotation the current rotation index of the brick
+     * @param x the current column of the brick
+     * @param y the current row of the brick
+     * @return the number of reachable placements
+     */
+    static int countPlacements(int[][] matrix, RotationTable rotations, int rotation, int x, int y) {
+        Candidates candidates = new Candidates(matrix[0].length);
+        candidates.list(matrix, rotations, rotation, x, y, false);
+        return candidates.count;
+    }
+
+    /**
+     * The reachable placements, kept in parallel arrays.
+     */
+    private static final class Candidates {
+        final boolean[] hold;
+        final int[] rotation;
+        final int[] x;
+        final int[] y;
+        final int[] mask;
+        int count;
+
+        Candidates(int columns) {
+            // two bricks, four rotations, and a brick can stick out up to 3 columns each side
+            int capacity = 2 * RotationTable.SIZE * (columns + 2 * (RotationTable.SIZE - 1));
+            hold = new boolean[capacity];
+            rotation = new int[capacity];
+            x = new int[capacity];
+            y = new int[capacity];
+            mask = new int[capacity];
+        }
+
+        void list(int[][] matrix, RotationTable rotations, int startRotation, int startX, int startY, boolean isHold) {
+            int current = startRotation;
+            if (MatrixOperations.intersect(matrix, rotations.getMask(current), startX, startY)) return;
+            for (int turns = 0; turns < rotations.size(); turns++) {
+                if (turns > 0) {
+                    int next = (current + 1) % rotations.size();
+                    if (MatrixOperations.intersect(matrix, rotations.getMask(next), startX, startY)) return;
+                    current = next;
+                }
+                int brickMask = rotations.getMask(current);
+                add(matrix, brickMask, current, startX, startY, isHold);
+                for (int column = startX - 1; !MatrixOperations.intersect(matrix, brickMask, column, startY); column--) {
+                    add(matrix, brickMask, current, column, startY, isHold);
+                }
+                for (int column = startX + 1; !MatrixOperations.intersect(matrix, brickMask, column, startY); column++) {
+                    add(matrix, brickMask, current, column, startY, isHold);
+                }
+            }
+        }
+
+        private void add(int[][] matrix, int brickMask, int brickRotation, int column, int startY, boolean isHold) {
+            int row = startY;
+            while (!MatrixOperations.intersect(matrix, brickMask, column, row + 1)) {
+                row++;
+            }
+            hold[count] = isHold;
+            rotation[count] = brickRotation;
+            x[count] = column;
+            y[count] = row;
+            mask[count] = brickMask;
+            count++;
+        }
+    }
+
+    /**
+     * Scores a range of placements, splitting it in half until it is small enough.
+     */
+    private static final class ScoreTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Heuristic heuristic;
+        private final transient FeatureTracker features;
+        private final transient Candidates candidates;
+        private final transient double[] scores;
+        private final int from;
+        private final int to;
+
+        ScoreTask(Heuristic heuristic, FeatureTracker features, Candidates candidates, double[] scores, int from, int to) {
+            this.heuristic = heuristic;
+            this.features = features;
+            this.candidates = candidates;
+            this.scores = scores;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                BoardFeatures placed = new BoardFeatures();
+                for (int i = from; i < to; i++) {
+                    features.whatIf(candidates.mask[i], candidates.x[i], candidates.y[i], placed);
+                    scores[i] = heuristic.evaluate(placed);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ScoreTask(heuristic, features, candidates, scores, from, middle),
+                    new ScoreTask(heuristic, features, candidates, scores, middle, to));
+        }
+    }
+}
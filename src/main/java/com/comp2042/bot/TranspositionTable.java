@@ -0,0 +1,129 @@
+package com.comp2042.bot;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * Remembers the scores of boards already evaluated, keyed by their Zobrist hash.
+ *
+ * <p>
+ * The table is a fixed number of 16 byte entries in one off-heap {@link MemorySegment},
+ * so it creates no objects as it fills and the garbage collector never scans it. The entries
+ * are grouped in buckets of {@link #BUCKET_SIZE}, one cache line each. A key is looked up in
+ * the bucket its low bits select; a new key takes an empty entry of the bucket, or else
+ * replaces the entry its high bits select.
+ * </p>
+ *
+ * <p>
+ * Many threads can probe and store at the same time without locks. Each entry holds the
+ * data word and the key XOR-ed with the data word, both written with plain 64-bit writes.
+ * If two threads write the same entry at once, the two words may come from different
+ * writes, and then the key read back does not match, so a probe sees a miss instead of a
+ * wrong score. The table keeps no record of which heuristic made a score, so it must only
+ * be shared by searches that use the same {@link Heuristic}.
+ * </p>
+ */
+public final class TranspositionTable {
+
+    /** The number of entries in a bucket, a power of two. */
+    public static final int BUCKET_SIZE = 4;
+
+    /** The number of entries of a table created without a size. */
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    private static final long ENTRY_BYTES = 2 * Long.BYTES;
+    private static final long BUCKET_BYTES = BUCKET_SIZE * ENTRY_BYTES;
+    /** Set in every stored data word, so an empty entry never matches. */
+    private static final long STORED = 1L << 32;
+    /** Moves the top bits of a key down to pick the entry a full bucket replaces. */
+    private static final int REPLACE_SHIFT = Long.SIZE - Integer.numberOfTrailingZeros(BUCKET_SIZE);
+
+    static {
+        if (Integer.bitCount(BUCKET_SIZE) != 1) {
+            throw new IllegalStateException("BUCKET_SIZE must be a power of two, was " + BUCKET_SIZE);
+        }
+    }
+
+    private final MemorySegment entries;
+    private final long bucketMask;
+
+    /**
+     * Creates a table with {@link #DEFAULT_CAPACITY} entries.
+     */
+    public TranspositionTable() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a table. The memory is freed when the table is no longer reachable.
+     *
+     * @param capacity the number of entries, rounded up to a power of two of at least one bucket
+     */
+    public TranspositionTable(int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("The capacity must be positive, was " + capacity);
+        long buckets = Long.highestOneBit(Math.max(capacity / BUCKET_SIZE, 1));
+        if (buckets * BUCKET_SIZE < capacity) buckets <<= 1;
+        bucketMask = buckets - 1;
+        entries = Arena.ofAuto().allocate(buckets * BUCKET_BYTES, BUCKET_BYTES);
+        entries.fill((byte) 0);
+    }
+
+    /**
+     * Returns the score stored for a key.
+     *
+     * @param key the Zobrist hash of the board
+     * @return the stored score, or {@link Float#NaN} if the key is not in the table
+     */
+    public float probe(long key) {
+        long bucket = (key & bucketMask) * BUCKET_BYTES;
+        for (int i = 0; i < BUCKET_SIZE; i++) {
+            long offset = bucket + i * ENTRY_BYTES;
+            long data = entries.get(ValueLayout.JAVA_LONG, offset + Long.BYTES);
+            if (data != 0 && (entries.get(ValueLayout.JAVA_LONG, offset) ^ data) == key) {
+                return Float.intBitsToFloat((int) data);
+            }
+        }
+        return Float.NaN;
+    }
+
+    /**
+     * Stores the score of a key, replacing the entry of the same key or an older one.
+     *
+     * @param key the Zobrist hash of the board
+     * @param score the score of the board
+     */
+    public void store(long key, float score) {
+        long bucket = (key & bucketMask) * BUCKET_BYTES;
+        long target = -1;
+        for (int i = 0; i < BUCKET_SIZE && target < 0; i++) {
+            long offset = bucket + i * ENTRY_BYTES;
+            long data = entries.get(ValueLayout.JAVA_LONG, offset + Long.BYTES);
+            if (data == 0 || (entries.get(ValueLayout.JAVA_LONG, offset) ^ data) == key) target = offset;
+        }
+        if (target < 0) {
+            target = bucket + (key >>> REPLACE_SHIFT & BUCKET_SIZE - 1) * ENTRY_BYTES;
+        }
+        long data = STORED | Float.floatToRawIntBits(score) & 0xFFFF_FFFFL;
+        entries.set(ValueLayout.JAVA_LONG, target, key ^ data);
+        entries.set(ValueLayout.JAVA_LONG, target + Long.BYTES, data);
+    }
+
+    /**
+     * Removes every entry.
+     *
+     * <p>This must not run while other threads probe or store.</p>
+     */
+    public void clear() {
+        entries.fill((byte) 0);
+    }
+
+    /**
+     * Returns the number of entries the table holds.
+     *
+     * @return the capacity, a power of two
+     */
+    public long getCapacity() {
+        return (bucketMask + 1) * BUCKET_SIZE;
+    }
+}
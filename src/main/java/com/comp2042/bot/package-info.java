@@ -0,0 +1,22 @@
+/**
+ * This package contains the computer player.
+ *
+ * <p>This package includes: </p>
+ * <ul>
+ *   <li>{@link com.comp2042.bot.AutoPlayer} – plays the game screen with a beam search running in the background.</li>
+ *   <li>{@link com.comp2042.bot.BeamSearch} – looks ahead through the preview queue and the hold, keeping the best boards of each depth.</li>
+ *   <li>{@link com.comp2042.bot.BotPlayer} – plays bricks by sending inputs to the game logic.</li>
+ *   <li>{@link com.comp2042.bot.GeneticTuner} – evolves the heuristic weights by playing seeded games in parallel, from the command line.</li>
+ *   <li>{@link com.comp2042.bot.Heuristic} – scores a board after a brick has been placed.</li>
+ *   <li>{@link com.comp2042.bot.Placement} – a landing position chosen for a brick.</li>
+ *   <li>{@link com.comp2042.bot.PlacementSearch} – lists the reachable placements of a brick and scores them in parallel.</li>
+ *   <li>{@link com.comp2042.bot.TranspositionTable} – an off-heap cache of board scores shared by parallel searches without locks.</li>
+ * </ul>
+ *
+ * <p>
+ * Classes in this package only send inputs to the game through {@link com.comp2042.interfaces.InputEventListener},
+ * so the bot can play on the game screen or in games played without a window.
+ * The game screen is played by the bot when the game starts with {@code -Dtetris.bot=true}.
+ * </p>
+ */
+package com.comp2042.bot;
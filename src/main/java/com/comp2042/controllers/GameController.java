@@ -1,11 +1,15 @@
 package com.comp2042.controllers;
 
 import com.comp2042.enums.EventSource;
+import com.comp2042.enums.GameEventType;
 import com.comp2042.interfaces.Board;
+import com.comp2042.interfaces.GameView;
 import com.comp2042.interfaces.InputEventListener;
 import com.comp2042.data.ClearRow;
 import com.comp2042.data.DownData;
+import com.comp2042.data.GameStats;
 import com.comp2042.data.MoveEvent;
+import com.comp2042.logic.GameEventBus;
 import com.comp2042.logic.SimpleBoard;
 import com.comp2042.view.ViewData;
 
@@ -14,9 +18,14 @@ import com.comp2042.view.ViewData;
  *
  * <p>
  * It connects the game logic implemented in {@link Board} and the
- * game interface provided by {@link GuiController}.
+ * game interface provided by a {@link GameView}, normally {@link GuiController}.
  * User actions are process through {@link Board}.
- * Game interface is updated using {@link GuiController} and {@link ViewData}.
+ * Game interface is updated using {@link GameView} and {@link ViewData}.
+ * </p>
+ *
+ * <p>
+ * With a {@link com.comp2042.view.HeadlessGameView} the game runs without a window,
+ * so whole games can be played by tests and benchmarks.
  * </p>
  *
  * <p>
@@ -27,20 +36,31 @@ import com.comp2042.view.ViewData;
  *     <li>Managing level progression and game speed.</li>
  *     <li>Refreshing the GUI display.</li>
  *     <li>Detecting game-over.</li>
+ *     <li>Delivering the game events of each move to the GUI and the statistics.</li>
  * </ul>
  */
 
 public class GameController implements InputEventListener {
 
     /**
-     * Initiate the game board size and game logic.
+     * The game board size and game logic.
      */
-    private final Board board = new SimpleBoard(25, 10);
+    private final Board board;
 
     /**
-     * The controller for managing and updating the game's GUI elements.
+     * The view that shows the game, normally the {@link GuiController} of the game screen.
      */
-    private final GuiController viewGuiController;
+    private final GameView viewGuiController;
+
+    /**
+     * The bus on which the board and this controller publish game events.
+     */
+    private final GameEventBus eventBus;
+
+    /**
+     * The statistics of the current game, counted from the game events.
+     */
+    private final GameStats stats = new GameStats();
 
 
     /**
@@ -48,10 +68,26 @@ public class GameController implements InputEventListener {
      * <p>Creates a new {@code GameController} and initialise the game logic from {@link SimpleBoard}
      * and the GUI from {@link GuiController}</p>
      *
-     * @param guiController the {@link GuiController} that is responsible for the game's GUI interactions
+     * @param guiController the {@link GameView} that is responsible for the game's GUI interactions
      */
-    public GameController(GuiController guiController) {
+    public GameController(GameView guiController) {
+        this(guiController, new SimpleBoard(25, 10));
+    }
+
+    /**
+     * Initialises the gameplay and the GUI on the given game board.
+     * <p>This allows another {@link Board} implementation, such as {@link com.comp2042.logic.BitBoard},
+     * to be used in place of the default {@link SimpleBoard}.</p>
+     *
+     * @param guiController the {@link GameView} that is responsible for the game's GUI interactions
+     * @param board the game board, created with 25 rows and 10 columns for the standard layout
+     */
+    public GameController(GameView guiController, Board board) {
         this.viewGuiController = guiController;
+        this.board = board;
+        eventBus = board.getEventBus();
+        eventBus.subscribe(guiController);
+        eventBus.subscribe(stats);
         board.createNewBrick(4, 1);
         board.moveGhostPiece();
         viewGuiController.setEventListener(this);
@@ -93,10 +129,9 @@ public class GameController implements InputEventListener {
     public DownData onDownEvent(MoveEvent event, boolean isHardDrop) {
         boolean canMove = true;
         if (isHardDrop){
-            while (canMove) {
-                canMove = board.moveBrickDown();
-                board.getScore().add(1);
-            }
+            // one point per row dropped and one for the final blocked move, added at once
+            board.getScore().add(board.hardDropBrick() + 1);
+            canMove = false;
         }
         if (!isHardDrop) {
             canMove = board.moveBrickDown();
@@ -115,13 +150,15 @@ public class GameController implements InputEventListener {
                 if (board.getLevel().reachLevelRequirement(board.getTotalLinesCleared().PropertiesTotalLinesCleared().getValue())){
                     board.getLevel().levelUp();
                     viewGuiController.setSpeed(board.getLevel().calcSpeed());
+                    eventBus.publish(GameEventType.LEVEL_UP, board.getLevel().propertiesLevel().get());
                 }
             }
             if (board.createNewBrick(4, 1)) {
+                eventBus.publish(GameEventType.GAME_OVER, board.getScore().scoreProperty().get());
                 viewGuiController.gameOver();
             }
 
-            viewGuiController.refreshGameBackground(board.getBoardMatrix());
+            viewGuiController.refreshGameBackground(board.getBoardMatrix(), board.takeChangedRows());
             viewGuiController.refreshNextBrick(board.getViewData());
             board.moveGhostPiece();
 
@@ -130,6 +167,7 @@ public class GameController implements InputEventListener {
                 board.getScore().add(1);
             }
         }
+        eventBus.drain();
         return new DownData(clearRow, board.getViewData());
     }
 
@@ -208,7 +246,7 @@ public class GameController implements InputEventListener {
 
     public ViewData onHoldEvent(MoveEvent event) {
         if(board.holdBrick()) {
-            board.getViewData().refreshHoldBrickData();
+            eventBus.drain();
             return board.getViewData();
         } else {return null;}
     }
@@ -225,7 +263,8 @@ public class GameController implements InputEventListener {
     @Override
     public void createNewGame() {
         board.newGame();
-        viewGuiController.refreshGameBackground(board.getBoardMatrix());
+        stats.reset();
+        viewGuiController.refreshGameBackground(board.getBoardMatrix(), board.takeChangedRows());
     }
 
     /**
@@ -241,4 +280,13 @@ public class GameController implements InputEventListener {
     public Board getBoard(){
         return this.board;
     }
+
+    /**
+     * Returns the statistics of the current game.
+     *
+     * @return the {@link GameStats} counted from this game's events
+     */
+    public GameStats getStats() {
+        return stats;
+    }
 }
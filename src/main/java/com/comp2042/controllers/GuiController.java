@@ -1,18 +1,28 @@
 package com.comp2042.controllers;
 
+import com.comp2042.bot.AutoPlayer;
+import com.comp2042.bot.BeamSearch;
+import com.comp2042.bot.Heuristic;
+import com.comp2042.logic.GameLoop;
+import com.comp2042.logic.ReplayRecorder;
 import com.comp2042.logic.Timer;
 import com.comp2042.enums.EventSource;
 import com.comp2042.enums.EventType;
-import com.comp2042.data.SaveData;
+import com.comp2042.enums.GameEventType;
+import com.comp2042.enums.RenderMode;
+import com.comp2042.data.HighScoreStore;
+import com.comp2042.data.Settings;
 import com.comp2042.enums.SaveDataType;
+import com.comp2042.interfaces.Board;
+import com.comp2042.interfaces.GameView;
 import com.comp2042.interfaces.InputEventListener;
 import com.comp2042.data.DownData;
 import com.comp2042.data.MoveEvent;
 import com.comp2042.media.Sfx;
+import com.comp2042.view.CanvasRenderer;
 import com.comp2042.view.NotificationPanel;
 import com.comp2042.view.ViewData;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
+import javafx.animation.AnimationTimer;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.SimpleBooleanProperty;
@@ -26,7 +36,6 @@ import javafx.scene.control.Label;
 import javafx.scene.control.Labeled;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
-import javafx.scene.input.KeyCode;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
@@ -35,9 +44,8 @@ import javafx.scene.paint.Paint;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.shape.StrokeType;
 import javafx.stage.Stage;
-import javafx.util.Duration;
-import java.io.IOException;
 import java.net.URL;
+import java.nio.file.Path;
 import java.util.ResourceBundle;
 
 /**
@@ -76,17 +84,28 @@ import java.util.ResourceBundle;
  * </p>
  *
  * <p>
+ * The playfield is drawn with {@code Rectangle} nodes by default. When the
+ * {@link RenderMode#CANVAS} mode is chosen, it is drawn by a {@link CanvasRenderer} instead,
+ * and the grid panes only hold the canvases.
+ * </p>
+ *
+ * <p>
  * This class is uses {@link ViewData} to stores the position and color
- * information for bricks, and {@link SaveData} to get user keybindings and toggle preferences.
+ * information for bricks, and {@link Settings} to get user keybindings and toggle preferences.
  * </p>
  */
 
 
 
-public class GuiController implements Initializable {
+public class GuiController implements Initializable, GameView {
 
     private static final int BRICK_SIZE = 20;
 
+    /**
+     * The number of rows at the top of the board that are not displayed.
+     */
+    private static final int HIDDEN_ROWS = 2;
+
 // FXML
     @FXML private StackPane rootPane;
 
@@ -113,6 +132,11 @@ public class GuiController implements Initializable {
      */
     private Rectangle[][] displayMatrix;
 
+    /**
+     * The colour value currently shown by each cell of {@link #displayMatrix}.
+     */
+    private int[][] displayedColors;
+
     /**
      * The matrix representing the current falling brick.
      */
@@ -133,15 +157,52 @@ public class GuiController implements Initializable {
      */
     private Rectangle[][] rectanglesGhostPiece;
 
+    /**
+     * The version of the last {@link ViewData} drawn by {@link #refreshBrick(ViewData)}.
+     */
+    private long renderedVersion = -1;
+
+    /**
+     * The shape id and rotation of the last brick drawn, so the cells are only
+     * redrawn when the shape changes.
+     */
+    private int renderedShapeId = -1, renderedRotation = -1;
+
+    /**
+     * Draws the playfield when the canvas render mode is used, otherwise {@code null}.
+     */
+    private CanvasRenderer canvasRenderer;
+
     /**
      * Handles all input events triggered by the player during gameplay.
      */
     private InputEventListener eventListener;
 
     /**
-     * Controls the game's main update loop, triggering movement and logic at fixed intervals.
+     * The soft drop event sent by gravity, shared by every gravity step.
+     */
+    private static final MoveEvent GRAVITY_EVENT = new MoveEvent(EventType.DOWN, EventSource.THREAD);
+
+    /**
+     * Controls the game's main update loop, moving the brick down at the speed of the current level.
+     */
+    private final GameLoop gameLoop = new GameLoop(this::gravityStep);
+
+    /**
+     * Advances {@link #gameLoop} and updates {@link Timer} on every JavaFX pulse,
+     * so the time-up is handled in the frame it happens.
+     */
+    private AnimationTimer framePulse;
+
+    /**
+     * Records the inputs of this game into a replay file, or {@code null} if nothing is recorded.
+     */
+    private ReplayRecorder recorder;
+
+    /**
+     * Plays the game in place of the player, or {@code null} if the player is playing.
      */
-    private Timeline timeLine;
+    private AutoPlayer autoPlayer;
 
     /**
      * Indicates whether the player has used the hold action during the current turn.
@@ -167,7 +228,7 @@ public class GuiController implements Initializable {
     /**
      * Initializes the GUI components and sets up keyboard and mouse events.
      * <ul>
-     *   <li>Sets up keyboard controls using {@link SaveData} to retrieve the user's
+     *   <li>Sets up keyboard controls using {@link Settings} to retrieve the user's
      *       custom key bindings, and {@link SaveDataType} to determine which actions
      *       to trigger.</li>
      *   <li>Sets up mouse events with sound effects using {@link Sfx}.</li>
@@ -210,51 +271,29 @@ public class GuiController implements Initializable {
             if (rootPane.getChildren().contains(settingsPane))
                 return;
 
-            // Pause
-            if (keyEvent.getCode() == getKeyCode(SaveData.getKeyEvent(SaveDataType.PAUSE))) {
-                pauseGame();
-                keyEvent.consume();
-            }
-
-            // New Game / Restart
-            if (keyEvent.getCode() == getKeyCode(SaveData.getKeyEvent(SaveDataType.RESTART))) {
-                newGame();
-                keyEvent.consume();
-            }
-
-            // If game is not paused and not over
-            if (!isPause.getValue() && !isGameOver.getValue()) {
-
-                // Move Left
-                if (keyEvent.getCode() == getKeyCode(SaveData.getKeyEvent(SaveDataType.LEFT))) {
-                    refreshBrick(eventListener.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER)));
-                    keyEvent.consume();
-                }
-                // Move Right
-                else if (keyEvent.getCode() == getKeyCode(SaveData.getKeyEvent(SaveDataType.RIGHT))) {
-                    refreshBrick(eventListener.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER)));
-                    keyEvent.consume();
-                }
-                // Rotate
-                else if (keyEvent.getCode() == getKeyCode(SaveData.getKeyEvent(SaveDataType.ROTATE))) {
-                    refreshBrick(eventListener.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER)));
-                    keyEvent.consume();
-                }
-                // Move Down
-                else if (keyEvent.getCode() == getKeyCode(SaveData.getKeyEvent(SaveDataType.DOWN))) {
-                    moveDown(new MoveEvent(EventType.DOWN, EventSource.USER));
-                    keyEvent.consume();
-                }
-                // Hold
-                else if (isHoldOn && (keyEvent.getCode() == getKeyCode(SaveData.getKeyEvent(SaveDataType.HOLD)))) {
-                    refreshHoldBrick(eventListener.onHoldEvent(new MoveEvent(EventType.HOLD, EventSource.USER)));
-                    keyEvent.consume();
-                }
-                else if (keyEvent.getCode() == getKeyCode(SaveData.getKeyEvent(SaveDataType.HARDDROP))) {
-                    HardDrop(new MoveEvent(EventType.DOWN, EventSource.USER));
-                    keyEvent.consume();
+            // one lookup in the key binding table of the current settings
+            SaveDataType action = Settings.get().getAction(keyEvent.getCode());
+            if (action == null) return;
+
+            // If game is paused or over, only pause and restart work
+            boolean playing = !isPause.getValue() && !isGameOver.getValue();
+            if (!playing && action != SaveDataType.PAUSE && action != SaveDataType.RESTART) return;
+            if (action == SaveDataType.HOLD && !isHoldOn) return;
+
+            switch (action) {
+                case PAUSE -> pauseGame();
+                case RESTART -> newGame();
+                case LEFT -> refreshBrick(eventListener.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER)));
+                case RIGHT -> refreshBrick(eventListener.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER)));
+                case ROTATE -> refreshBrick(eventListener.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER)));
+                case DOWN -> moveDown(new MoveEvent(EventType.DOWN, EventSource.USER));
+                case HOLD -> refreshHoldBrick(eventListener.onHoldEvent(new MoveEvent(EventType.HOLD, EventSource.USER)));
+                case HARDDROP -> HardDrop(new MoveEvent(EventType.DOWN, EventSource.USER));
+                default -> {
+                    return;
                 }
             }
+            keyEvent.consume();
         });
 
         /* Playing Mouse Events */
@@ -301,7 +340,23 @@ public class GuiController implements Initializable {
             settingsPane = SettingsController.openSettings(rootPane);
         });
 
+        Timer.setOnTimeUp(this::timeUp);
         Timer.start();
+        framePulse = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                gameLoop.advance(now);
+                if (autoPlayer != null && !isPause.getValue() && !isGameOver.getValue()) {
+                    DownData downData = autoPlayer.update();
+                    if (downData != null) {
+                        showDrop(downData);
+                        refreshHoldBrick(downData.getViewData());
+                    }
+                }
+                Timer.update();
+            }
+        };
+        framePulse.start();
     }
 
     /**
@@ -312,6 +367,11 @@ public class GuiController implements Initializable {
      * @param brick       the current brick and its associated view data
      */
     public void initGameView(int[][] boardMatrix, ViewData brick) {
+        if (RenderMode.fromSystemProperty() == RenderMode.CANVAS) {
+            initCanvasView(boardMatrix, brick);
+            return;
+        }
+
         // display grid
         for (int i = 2; i < boardMatrix.length; i++) {
             for (int j = 0; j < boardMatrix[i].length; j++) {
@@ -326,6 +386,7 @@ public class GuiController implements Initializable {
 
         // display blocks that are snapped to grid
         displayMatrix = new Rectangle[boardMatrix.length][boardMatrix[0].length];
+        displayedColors = new int[boardMatrix.length][boardMatrix[0].length];
         for (int i = 2; i < boardMatrix.length; i++) {
             for (int j = 0; j < boardMatrix[i].length; j++) {
                 Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
@@ -336,12 +397,12 @@ public class GuiController implements Initializable {
         }
 
         // Get Current Falling Brick
-        rectangles = new Rectangle[brick.getBrickData().length][brick.getBrickData()[0].length];
-        for (int i = 0; i < brick.getBrickData().length; i++) {
-            for (int j = 0; j < brick.getBrickData()[i].length; j++) {
+        rectangles = new Rectangle[ViewData.SHAPE_SIZE][ViewData.SHAPE_SIZE];
+        for (int i = 0; i < ViewData.SHAPE_SIZE; i++) {
+            for (int j = 0; j < ViewData.SHAPE_SIZE; j++) {
                 Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                rectangle.setFill(getFillColor(brick.getBrickData()[i][j]));
-                rectangle.setStroke(getBorderColour(brick.getBrickData()[i][j]));
+                rectangle.setFill(getFillColor(brick.getBrickCell(i, j)));
+                rectangle.setStroke(getBorderColour(brick.getBrickCell(i, j)));
                 rectangle.setStrokeType(StrokeType.INSIDE);
                 rectangle.setStrokeWidth(1);
                 rectangles[i][j] = rectangle;
@@ -355,8 +416,8 @@ public class GuiController implements Initializable {
         for (int i = 0; i < rectangles.length; i++) {
             for (int j = 0; j < rectangles[i].length; j++) {
                 Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                rectangle.setFill(getFillColor(brick.getBrickData()[i][j]));
-                rectangle.setStroke(getBorderColour(brick.getBrickData()[i][j]));
+                rectangle.setFill(getFillColor(brick.getBrickCell(i, j)));
+                rectangle.setStroke(getBorderColour(brick.getBrickCell(i, j)));
                 rectangle.setStrokeType(StrokeType.INSIDE);
                 rectangle.setStrokeWidth(1);
                 rectangle.setOpacity(0.5);
@@ -365,11 +426,14 @@ public class GuiController implements Initializable {
             }
         }
         refreshGhostPiece(brick);
+        renderedVersion = brick.getVersion();
+        renderedShapeId = brick.getShapeId();
+        renderedRotation = brick.getRotation();
 
         //Get Next Brick
-        rectanglesNextBrick = new Rectangle[brick.getNextBrickData().length][brick.getNextBrickData()[0].length];
-        for (int i = 0; i < brick.getNextBrickData().length; i++) {
-            for (int j = 0; j < brick.getNextBrickData()[i].length; j++) {
+        rectanglesNextBrick = new Rectangle[ViewData.SHAPE_SIZE][ViewData.SHAPE_SIZE];
+        for (int i = 0; i < ViewData.SHAPE_SIZE; i++) {
+            for (int j = 0; j < ViewData.SHAPE_SIZE; j++) {
                 Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
                 rectanglesNextBrick[i][j] = rectangle;
                 nextBrickDisplay.add(rectangle, j, i);
@@ -378,9 +442,9 @@ public class GuiController implements Initializable {
         refreshNextBrick(brick);
 
         // set up display for hold brick
-        rectanglesHoldBrick = new Rectangle[brick.getBrickData().length][brick.getBrickData()[0].length];
-        for (int i = 0; i < brick.getBrickData().length; i++) {
-            for (int j = 0; j < brick.getBrickData()[i].length; j++) {
+        rectanglesHoldBrick = new Rectangle[ViewData.SHAPE_SIZE][ViewData.SHAPE_SIZE];
+        for (int i = 0; i < ViewData.SHAPE_SIZE; i++) {
+            for (int j = 0; j < ViewData.SHAPE_SIZE; j++) {
                 Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
                 rectangle.setFill(Color.TRANSPARENT);
                 rectanglesHoldBrick[i][j] = rectangle;
@@ -390,6 +454,38 @@ public class GuiController implements Initializable {
 
     }
 
+    /**
+     * Initializes the game view with a {@link CanvasRenderer}.
+     *
+     * <p>
+     * The board canvas is placed in the game panel, which keeps the keyboard focus, and the
+     * preview canvases in the next and hold displays. The brick and ghost panels stay empty.
+     * </p>
+     *
+     * @param boardMatrix the current game board matrix
+     * @param brick       the current brick and its associated view data
+     */
+    private void initCanvasView(int[][] boardMatrix, ViewData brick) {
+        // one extra colour for unknown values, drawn white like the node renderer
+        Paint[] fills = new Paint[9];
+        Paint[] borders = new Paint[9];
+        for (int i = 0; i < fills.length; i++) {
+            fills[i] = getFillColor(i);
+            borders[i] = getBorderColour(i);
+        }
+        canvasRenderer = new CanvasRenderer(boardMatrix.length, boardMatrix[0].length, BRICK_SIZE, HIDDEN_ROWS, fills, borders);
+        gamePanel.add(canvasRenderer.getBoardCanvas(), 0, 0);
+        nextBrickDisplay.add(canvasRenderer.getNextCanvas(), 0, 0);
+        holdBrickDisplay.add(canvasRenderer.getHoldCanvas(), 0, 0);
+        canvasRenderer.setGhostVisible(ghostPiecePanel.isVisible());
+
+        canvasRenderer.setBoard(boardMatrix);
+        canvasRenderer.setBrick(brick);
+        canvasRenderer.setNextBrick(brick);
+        renderedVersion = brick.getVersion();
+        canvasRenderer.start();
+    }
+
     /**
      * Returns the fill color associated with the specified block type.
      *
@@ -474,22 +570,36 @@ public class GuiController implements Initializable {
      * and also refreshes the rendering of its ghost piece.
      * </p>
      *
+     * <p>
+     * Nothing is redrawn if the {@link ViewData#getVersion()} has not changed since the last
+     * refresh, and the cells are only redrawn when the shape or rotation has changed.
+     * </p>
+     *
      * @param brick the {@link ViewData} representing the current brick
      */
 
     private void refreshBrick(ViewData brick) {
-        if (isPause.getValue() == Boolean.FALSE) {
+        if (isPause.getValue() == Boolean.FALSE && brick.getVersion() != renderedVersion) {
+            if (canvasRenderer != null) {
+                canvasRenderer.setBrick(brick);
+                renderedVersion = brick.getVersion();
+                return;
+            }
             refreshGhostPiece(brick);
             // brick x and y position
             brickPanel.setLayoutX(gamePanel.getLayoutX() + brick.getxPosition() * BRICK_SIZE);
             brickPanel.setLayoutY(-40 + gamePanel.getLayoutY() + brick.getyPosition() * BRICK_SIZE);
 
-            for (int i = 0; i < brick.getBrickData().length; i++) {
-                for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                    setRectangleData(brick.getBrickData()[i][j], rectangles[i][j]);
+            if (brick.getShapeId() != renderedShapeId || brick.getRotation() != renderedRotation) {
+                for (int i = 0; i < ViewData.SHAPE_SIZE; i++) {
+                    for (int j = 0; j < ViewData.SHAPE_SIZE; j++) {
+                        setRectangleData(brick.getBrickCell(i, j), rectangles[i][j]);
+                    }
                 }
+                renderedShapeId = brick.getShapeId();
+                renderedRotation = brick.getRotation();
             }
-            refreshGhostPiece(brick);
+            renderedVersion = brick.getVersion();
         }
     }
 
@@ -511,11 +621,12 @@ public class GuiController implements Initializable {
         ghostPiecePanel.setLayoutX(gamePanel.getLayoutX() + brick.getGhostPieceXPosition() * BRICK_SIZE);
         ghostPiecePanel.setLayoutY(-40 + gamePanel.getLayoutY() + brick.getGhostPieceYPosition() * BRICK_SIZE);
 
-        if (isPause.getValue() == Boolean.FALSE) {
-            for (int i = 0; i < brick.getBrickData().length; i++) {
-                for (int j = 0; j < brick.getBrickData()[i].length; j++) {
+        if (isPause.getValue() == Boolean.FALSE
+                && (brick.getShapeId() != renderedShapeId || brick.getRotation() != renderedRotation)) {
+            for (int i = 0; i < ViewData.SHAPE_SIZE; i++) {
+                for (int j = 0; j < ViewData.SHAPE_SIZE; j++) {
                     Rectangle rectangle = rectanglesGhostPiece[i][j];
-                    int value = brick.getBrickData()[i][j];
+                    int value = brick.getBrickCell(i, j);
 
                     rectangle.setFill(getFillColor(value));
                     rectangle.setStroke(getBorderColour(value));
@@ -530,7 +641,7 @@ public class GuiController implements Initializable {
      *
      * <p>
      * This method updates the next piece's display matrix based on
-     * {@link ViewData#getNextBrickData()}, using the GridPane defined in the FXML layout
+     * {@link ViewData#getNextBrickCell(int, int)}, using the GridPane defined in the FXML layout
      * with {@code setRectangleData}.
      * The layout position (x and y coordinates) remains unchanged.
      * </p>
@@ -539,10 +650,14 @@ public class GuiController implements Initializable {
      */
 
     public void refreshNextBrick(ViewData brick){
+        if (canvasRenderer != null) {
+            if (isPause.getValue() == Boolean.FALSE) canvasRenderer.setNextBrick(brick);
+            return;
+        }
         if (isPause.getValue() == Boolean.FALSE) {
-            for (int i = 0; i < brick.getNextBrickData().length; i++) {
-                for (int j = 0; j < brick.getNextBrickData()[i].length; j++) {
-                    setRectangleData(brick.getNextBrickData()[i][j], rectanglesNextBrick[i][j]);
+            for (int i = 0; i < ViewData.SHAPE_SIZE; i++) {
+                for (int j = 0; j < ViewData.SHAPE_SIZE; j++) {
+                    setRectangleData(brick.getNextBrickCell(i, j), rectanglesNextBrick[i][j]);
                 }
             }
         }
@@ -553,7 +668,7 @@ public class GuiController implements Initializable {
      *
      * <p>
      * This method displays the hold piece's display with the
-     * {@link ViewData#getHoldBrickData()}, using the GridPane defined in the FXML layout
+     * {@link ViewData#getHoldBrickCell(int, int)}, using the GridPane defined in the FXML layout
      * with {@code setRectangleData}.
      * The layout position (x and y coordinates) remains unchanged.
      * </p>
@@ -565,10 +680,17 @@ public class GuiController implements Initializable {
         if (brick == null || isPause.getValue() == Boolean.TRUE) {
             return;
         }
-        if (brick.getHoldBrickData() != null) {
-            for (int i = 0; i < brick.getHoldBrickData().length; i++) {
-                for (int j = 0; j < brick.getHoldBrickData()[i].length; j++) {
-                    setRectangleData(brick.getHoldBrickData()[i][j], rectanglesHoldBrick[i][j]);
+        if (canvasRenderer != null) {
+            canvasRenderer.setHoldBrick(brick);
+            canvasRenderer.setNextBrick(brick);
+            canvasRenderer.setBrick(brick);
+            renderedVersion = brick.getVersion();
+            return;
+        }
+        if (brick.getHoldShapeId() != 0) {
+            for (int i = 0; i < ViewData.SHAPE_SIZE; i++) {
+                for (int j = 0; j < ViewData.SHAPE_SIZE; j++) {
+                    setRectangleData(brick.getHoldBrickCell(i, j), rectanglesHoldBrick[i][j]);
                 }
             }
             refreshNextBrick(brick);
@@ -586,6 +708,10 @@ public class GuiController implements Initializable {
      */
 
     public void resetHoldBrickDisplay() {
+        if (canvasRenderer != null) {
+            canvasRenderer.setHoldBrick(null);
+            return;
+        }
         if (rectanglesHoldBrick == null) return;
 
         for (Rectangle[] value : rectanglesHoldBrick) {
@@ -599,17 +725,46 @@ public class GuiController implements Initializable {
      * Refreshes the game background display based on the current board state.
      *
      * <p>
-     * This method iterates through the board matrix and updates each
-     * corresponding brick data in the display matrix using {@code setRectangleData}.
+     * This method checks every row of the board matrix, see
+     * {@link #refreshGameBackground(int[][], long)}.
      * </p>
      *
      * @param board the matrix of the current board state
      */
 
     public void refreshGameBackground(int[][] board) {
-        for (int i = 2; i < board.length; i++) {
+        refreshGameBackground(board, -1L);
+    }
+
+    /**
+     * Refreshes the rows of the game background display that have changed.
+     *
+     * <p>
+     * This method iterates through the changed rows of the board matrix and updates each
+     * corresponding brick data in the display matrix using {@code setRectangleData}.
+     * Cells that already show the same colour value are skipped.
+     * </p>
+     *
+     * @param board the matrix of the current board state
+     * @param changedRows the changed rows, bit {@code r} being row {@code r}, as given by
+     *                    {@link com.comp2042.interfaces.Board#takeChangedRows()}
+     */
+
+    public void refreshGameBackground(int[][] board, long changedRows) {
+        if (canvasRenderer != null) {
+            canvasRenderer.setBoard(board);
+            return;
+        }
+        if (displayMatrix == null) return;
+
+        for (int i = HIDDEN_ROWS; i < board.length; i++) {
+            if (i < Long.SIZE && (changedRows & (1L << i)) == 0) continue;
             for (int j = 0; j < board[i].length; j++) {
-                setRectangleData(board[i][j], displayMatrix[i][j]);
+                int color = board[i][j];
+                if (displayedColors[i][j] != color) {
+                    setRectangleData(color, displayMatrix[i][j]);
+                    displayedColors[i][j] = color;
+                }
             }
         }
     }
@@ -636,8 +791,15 @@ public class GuiController implements Initializable {
         rectangle.setStrokeWidth(1);
     }
 
+    // move block down by gravity
+    private void gravityStep() {
+        if (eventListener != null) {
+            moveDown(GRAVITY_EVENT);
+        }
+    }
+
     /**
-     * Handles a soft drop action, moving the active brick downward by one tile and check if the time is up
+     * Handles a soft drop action, moving the active brick downward by one tile
      *
      * <p>
      * If the game is not paused, this method calls
@@ -645,7 +807,6 @@ public class GuiController implements Initializable {
      * movement, passing {@code false} to indicate that the action not a hard drop.
      * If there is any rows cleared, a score notification will is displayed based on how many
      * rows were removed.
-     * If the time is up return game over.
      * </p>
      *
      * <p>
@@ -659,16 +820,8 @@ public class GuiController implements Initializable {
     // move block down
     private void moveDown(MoveEvent event) {
         if (isPause.getValue() == Boolean.FALSE) {
-            if (Timer.getStartingTime()!=0 && Timer.getRemainingSeconds() <= 0) {
-                gameOver();
-            }
             DownData downData = eventListener.onDownEvent(event, false);
-            if (downData.getClearRow() != null && downData.getClearRow().getLinesRemoved() > 0) {
-                NotificationPanel notificationPanel = new NotificationPanel("+" + downData.getClearRow().getScoreBonus());
-                groupNotification.getChildren().add(notificationPanel);
-                notificationPanel.showScore(groupNotification.getChildren());
-            }
-            refreshBrick(downData.getViewData());
+            showDrop(downData);
         }
         gamePanel.requestFocus();
     }
@@ -697,81 +850,64 @@ public class GuiController implements Initializable {
     private void HardDrop(MoveEvent event) {
         if (isPause.getValue() == Boolean.FALSE) {
             DownData downData = eventListener.onDownEvent(event, true);
-            if (downData.getClearRow() != null && downData.getClearRow().getLinesRemoved() > 0) {
-                NotificationPanel notificationPanel = new NotificationPanel("+" + downData.getClearRow().getScoreBonus());
-                groupNotification.getChildren().add(notificationPanel);
-                notificationPanel.showScore(groupNotification.getChildren());
-            }
-            refreshBrick(downData.getViewData());
+            showDrop(downData);
         }
         gamePanel.requestFocus();
     }
 
-    /**
-     * Retrieves a keyboard key binding from the save file.
-     *
-     * <p>
-     * This method calls {@link SaveData#ReadKeyCode(int)} to load the key associated with
-     * a specific action, based on the line number provided.
-     * </p>
-     *
-     * @param saveDataLine the line number in the save data that stores the key binding
-     * @return the {@link KeyCode} assigned to the action
-     * @throws RuntimeException if the save file cannot be read
-     */
-
-    private KeyCode getKeyCode(int saveDataLine){
-        try {
-            return SaveData.ReadKeyCode(saveDataLine);
-
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+    // display score when a row is cleared and the brick after the drop
+    private void showDrop(DownData downData) {
+        if (downData.getClearRow() != null && downData.getClearRow().getLinesRemoved() > 0) {
+            NotificationPanel notificationPanel = new NotificationPanel("+" + downData.getClearRow().getScoreBonus());
+            groupNotification.getChildren().add(notificationPanel);
+            notificationPanel.showScore(groupNotification.getChildren());
         }
+        refreshBrick(downData.getViewData());
     }
 
     /**
      * Updates the visibility of various UI panels based on the user's saved toggle preferences.
      *
      * <p>
-     * This method reads boolean values from {@link SaveData} to determine whether
+     * This method reads boolean values from {@link Settings} to determine whether
      * the hold panel, next panel, ghost piece, or keyboard controls should be displayed.
      * Panels will be shown if the value is true and hidden if the value is false.
      * </p>
-     *
-     * @throws RuntimeException if toggle data cannot be read from the save file
      */
 
     private void checkToggles (){
-        try {
-            isHoldOn = SaveData.ReadBoolean(SaveData.getKeyEvent(SaveDataType.TOGGLE_HOLD));
-            HoldPanel.setVisible(isHoldOn);
-            HoldPanel.setManaged(isHoldOn);
-
-            if (!SaveData.ReadBoolean(SaveData.getKeyEvent(SaveDataType.TOGGLE_NEXT))) {
-                NextPanel.setVisible(false);
-                NextPanel.setManaged(false);
-            }
-            else {
-                NextPanel.setVisible(true);
-                NextPanel.setManaged(true);
-            }
+        Settings settings = Settings.get();
+        isHoldOn = settings.isEnabled(SaveDataType.TOGGLE_HOLD);
+        HoldPanel.setVisible(isHoldOn);
+        HoldPanel.setManaged(isHoldOn);
+        if (autoPlayer != null) {
+            autoPlayer.setUseHold(isHoldOn);
+        }
 
-            if (!SaveData.ReadBoolean(SaveData.getKeyEvent(SaveDataType.TOGGLE_GHOST))) {
-                ghostPiecePanel.setVisible(false);
-                ghostPiecePanel.setManaged(false);
-            }else {
-                ghostPiecePanel.setVisible(true);
-                ghostPiecePanel.setManaged(true);
-            }
+        if (!settings.isEnabled(SaveDataType.TOGGLE_NEXT)) {
+            NextPanel.setVisible(false);
+            NextPanel.setManaged(false);
+        }
+        else {
+            NextPanel.setVisible(true);
+            NextPanel.setManaged(true);
+        }
 
-            if (!SaveData.ReadBoolean(SaveData.getKeyEvent(SaveDataType.TOGGLE_CONTROLS))) {
-                KeyboardKeys.setVisible(false);
-            }else {
-                KeyboardKeys.setVisible(true);
-            }
+        if (!settings.isEnabled(SaveDataType.TOGGLE_GHOST)) {
+            ghostPiecePanel.setVisible(false);
+            ghostPiecePanel.setManaged(false);
+        }else {
+            ghostPiecePanel.setVisible(true);
+            ghostPiecePanel.setManaged(true);
+        }
+        if (canvasRenderer != null) {
+            canvasRenderer.setGhostVisible(ghostPiecePanel.isVisible());
+        }
 
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+        if (!settings.isEnabled(SaveDataType.TOGGLE_CONTROLS)) {
+            KeyboardKeys.setVisible(false);
+        }else {
+            KeyboardKeys.setVisible(true);
         }
     }
 
@@ -797,6 +933,10 @@ public class GuiController implements Initializable {
             isPause.setValue(Boolean.TRUE);
         }
         Timer.pause(isPause.getValue());
+        gameLoop.setRunning(!isPause.getValue() && !isGameOver.getValue());
+        if (isPause.getValue()) {
+            HighScoreStore.flush();
+        }
         PauseMenu.setVisible(isPause.getValue());
         pauseImage.setVisible(!isPause.getValue());
         checkToggles();
@@ -805,17 +945,46 @@ public class GuiController implements Initializable {
 
     // create new game
     private void newGame() {
-        timeLine.stop();
+        gameLoop.setRunning(false);
         GameOverMenu.setVisible(false);
         PauseMenu.setVisible(false);
         pauseImage.setVisible(true);
         eventListener.createNewGame();
         gamePanel.requestFocus();
-        timeLine.play();
+        gameLoop.reset();
+        gameLoop.setRunning(true);
         isPause.setValue(Boolean.FALSE);
         isGameOver.setValue(Boolean.FALSE);
         resetHoldBrickDisplay();
         Timer.reset();
+        Timer.setLabel(TimerDisplay, TimerPanel);
+        Timer.start();
+    }
+
+    /**
+     * Shows a notification for game events that the player should see.
+     *
+     * <p>
+     * This method is subscribed to the game event bus by {@link GameController}.
+     * A level up shows the new level in the same way as the score bonus.
+     * </p>
+     *
+     * @param type the type of the game event
+     * @param value the number carried by the event
+     */
+    public void onGameEvent(GameEventType type, int value) {
+        if (type != GameEventType.LEVEL_UP || groupNotification == null) return;
+        NotificationPanel notificationPanel = new NotificationPanel("Level " + value);
+        groupNotification.getChildren().add(notificationPanel);
+        notificationPanel.showScore(groupNotification.getChildren());
+    }
+
+    // end a timed game, recording the time-up so a replay ends at the same point
+    private void timeUp() {
+        if (recorder != null) {
+            recorder.recordTimeUp();
+        }
+        gameOver();
     }
 
     // show game over
@@ -823,16 +992,20 @@ public class GuiController implements Initializable {
      * Displays the game-over screen and stops all gameplay activity.
      *
      * <p>
-     * This method stops the timeline, shows the game-over menu, updates the
-     * game-over state flag and stops {@link Timer}.
+     * This method stops the game loop, shows the game-over menu, updates the
+     * game-over state flag, stops {@link Timer} and saves the high score with {@link HighScoreStore}.
      * </p>
      */
 
     public void gameOver() {
-        timeLine.stop();
+        gameLoop.setRunning(false);
         GameOverMenu.setVisible(true);
         isGameOver.setValue(Boolean.TRUE);
         Timer.stop();
+        HighScoreStore.flush();
+        if (recorder != null) {
+            recorder.flush();
+        }
     }
 
     /**
@@ -847,6 +1020,17 @@ public class GuiController implements Initializable {
     private void returnHome(){
         try {
             Timer.stop();
+            Timer.setOnTimeUp(null);
+            if (framePulse != null) {
+                framePulse.stop();
+            }
+            if (autoPlayer != null) {
+                autoPlayer.cancel();
+            }
+            stopRecording();
+            if (canvasRenderer != null) {
+                canvasRenderer.stop();
+            }
 
             FXMLLoader loader = new FXMLLoader(
                     getClass().getResource("/homeLayout.fxml")
@@ -854,6 +1038,7 @@ public class GuiController implements Initializable {
             Parent home = loader.load();
 
             Stage stage = (Stage) Pause_Home.getScene().getWindow();
+            stage.setOnCloseRequest(null);
             stage.setScene(new Scene(home));
 
         } catch (Exception ex) {
@@ -901,24 +1086,21 @@ public class GuiController implements Initializable {
      * Sets the label text to inform the user of the current control shortcuts.
      *
      * <p>
-     * Retrieves the user's custom key bindings using {@link SaveData} and determines
+     * Retrieves the user's custom key bindings using {@link Settings} and determines
      * which keys to display using {@link SaveDataType}.
      * </p>
      */
 
     public void updateKeyLabels() {
-        try {
-            LeftKeyLabel.setText("Left : " +SaveData.ReadKeyCode(SaveData.getKeyEvent(SaveDataType.LEFT)).getName());
-            RightKeyLabel.setText("Right : " +SaveData.ReadKeyCode(SaveData.getKeyEvent(SaveDataType.RIGHT)).getName());
-            RotateKeyLabel.setText("Rotate : " +SaveData.ReadKeyCode(SaveData.getKeyEvent(SaveDataType.ROTATE)).getName());
-            DownKeyLabel.setText("Down : " +SaveData.ReadKeyCode(SaveData.getKeyEvent(SaveDataType.DOWN)).getName());
-            HoldKeyLabel.setText("Hold : " +SaveData.ReadKeyCode(SaveData.getKeyEvent(SaveDataType.HOLD)).getName());
-            PauseKeyLabel.setText("Pause : " +SaveData.ReadKeyCode(SaveData.getKeyEvent(SaveDataType.PAUSE)).getName());
-            RestartKeyLabel.setText("Restart : " +SaveData.ReadKeyCode(SaveData.getKeyEvent(SaveDataType.RESTART)).getName());
-            HardDropKeyLabel.setText("HardDrop : " +SaveData.ReadKeyCode(SaveData.getKeyEvent(SaveDataType.HARDDROP)).getName());
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        Settings settings = Settings.get();
+        LeftKeyLabel.setText("Left : " +settings.getKey(SaveDataType.LEFT).getName());
+        RightKeyLabel.setText("Right : " +settings.getKey(SaveDataType.RIGHT).getName());
+        RotateKeyLabel.setText("Rotate : " +settings.getKey(SaveDataType.ROTATE).getName());
+        DownKeyLabel.setText("Down : " +settings.getKey(SaveDataType.DOWN).getName());
+        HoldKeyLabel.setText("Hold : " +settings.getKey(SaveDataType.HOLD).getName());
+        PauseKeyLabel.setText("Pause : " +settings.getKey(SaveDataType.PAUSE).getName());
+        RestartKeyLabel.setText("Restart : " +settings.getKey(SaveDataType.RESTART).getName());
+        HardDropKeyLabel.setText("HardDrop : " +settings.getKey(SaveDataType.HARDDROP).getName());
     }
 
     //setters
@@ -927,27 +1109,16 @@ public class GuiController implements Initializable {
      * Sets the drop speed for the falling bricks.
      *
      * <p>
-     * This method redefines the timeline whenever the speed needs to be changed.
-     * A shorter timeline interval results in faster falling blocks.
+     * This method only changes how much gravity {@link GameLoop} adds per tick,
+     * so the brick keeps its place in the current fall and nothing is rebuilt.
+     * A shorter interval results in faster falling blocks.
      * </p>
      *
      * @param speed the drop interval in milliseconds
      */
 
     public void setSpeed(int speed) {
-
-        // Reset the timeline to fit the new speed
-        if (timeLine != null) {
-            timeLine.stop();
-        }
-
-        // Create a new timeline with updated speed
-        timeLine = new Timeline(new KeyFrame(
-                Duration.millis(speed),
-                _ -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))
-        ));
-        timeLine.setCycleCount(Timeline.INDEFINITE);
-        timeLine.play();
+        gameLoop.setFallMillis(speed);
     }
 
     /**
@@ -958,5 +1129,47 @@ public class GuiController implements Initializable {
     public void setEventListener(InputEventListener eventListener) {
         this.eventListener = eventListener;
     }
+
+    /**
+     * Starts recording every input sent to the current {@link InputEventListener} into a replay file.
+     *
+     * <p>
+     * The inputs are time stamped with the ticks of the game loop, and the {@link Timer}
+     * length and a time-up are recorded with them. The file is flushed when the game is over and closed by {@link #stopRecording()} when the player returns
+     * home or the window is closed.
+     * </p>
+     *
+     * @param file the replay file
+     * @param seed the seed of the game's brick generator
+     */
+    public void startRecording(Path file, long seed) {
+        recorder = new ReplayRecorder(eventListener, file, seed, Timer.getStartingTime() / 60, gameLoop::getTicks);
+        eventListener = recorder;
+    }
+
+    /**
+     * Writes the rest of the replay and closes its file, if the game is being recorded.
+     */
+    public void stopRecording() {
+        if (recorder != null) {
+            recorder.close();
+        }
+    }
+
+    /**
+     * Lets an {@link AutoPlayer} play the game in place of the player.
+     *
+     * <p>
+     * The bot sends its inputs to the current {@link InputEventListener}, so they are
+     * recorded too when recording started first. Its searches run in the background and
+     * are polled once per frame, and the running search is stopped by a new game.
+     * </p>
+     *
+     * @param board the board of the game, which the bot reads
+     */
+    public void startBot(Board board) {
+        autoPlayer = new AutoPlayer(eventListener, board, new BeamSearch(Heuristic.DEFAULT), isHoldOn);
+        eventListener = autoPlayer;
+    }
 //
 }
@@ -1,6 +1,11 @@
 package com.comp2042.controllers;
 
+import com.comp2042.bot.AutoPlayer;
+import com.comp2042.data.HighScoreStore;
 import com.comp2042.data.SaveData;
+import com.comp2042.data.bricks.RandomBrickGenerator;
+import com.comp2042.logic.ReplayRecorder;
+import com.comp2042.logic.SimpleBoard;
 import com.comp2042.logic.Timer;
 import com.comp2042.enums.SaveDataType;
 import com.comp2042.media.Bgm;
@@ -14,7 +19,6 @@ import javafx.scene.control.Label;
 import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 
-import java.io.IOException;
 import java.net.URL;
 import java.util.ResourceBundle;
 
@@ -68,11 +72,7 @@ public class HomeController implements Initializable {
         SaveData.createSaveFile();
 
         TimerDisplay.setText("None");
-        try {
-            HighScoreDisplay.setText(SaveData.ReadFileString(SaveData.getKeyEvent(SaveDataType.HIGHSCORE)));
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        HighScoreDisplay.setText(String.valueOf(HighScoreStore.getBest(SaveDataType.HIGHSCORE)));
 
         // play bgm
         Bgm.init();
@@ -100,9 +100,19 @@ public class HomeController implements Initializable {
                 StackPane gamePane = loader.load();
 
                 GuiController guiController = loader.getController();
-                GameController gameController = new GameController(guiController);
+                RandomBrickGenerator bricks = new RandomBrickGenerator();
+                GameController gameController = new GameController(guiController, new SimpleBoard(25, 10, bricks));
+                // only the game screen plays sounds, headless games stay free of media
+                gameController.getBoard().getEventBus().subscribe(Sfx::onGameEvent);
+                if (ReplayRecorder.isEnabled()) {
+                    guiController.startRecording(ReplayRecorder.LAST_GAME, bricks.getSeed());
+                }
+                if (AutoPlayer.isEnabled()) {
+                    guiController.startBot(gameController.getBoard());
+                }
 
                 Stage stage = (Stage) Play.getScene().getWindow();
+                stage.setOnCloseRequest(_ -> guiController.stopRecording());
                 stage.setScene(new Scene(gamePane)); //create the game
 
             } catch (Exception ex) {
@@ -142,36 +152,33 @@ public class HomeController implements Initializable {
             option--;
             if (option < 1) option = 5;   // wrap
         }
-        try {
-            switch (option) {
-                case 1 -> {
-                    Timer.setTimer(0);
-                    TimerDisplay.setText("None");
-                    HighScoreDisplay.setText(SaveData.ReadFileString(SaveData.getKeyEvent(SaveDataType.HIGHSCORE)));
-                }
-                case 2 -> {
-                    Timer.setTimer(5);
-                    TimerDisplay.setText("5 minutes");
-                    HighScoreDisplay.setText(SaveData.ReadFileString(SaveData.getKeyEvent(SaveDataType.HIGHSCORE_5)));
-                }
-                case 3 -> {
-                    Timer.setTimer(10);
-                    TimerDisplay.setText("10 minutes");
-                    HighScoreDisplay.setText(SaveData.ReadFileString(SaveData.getKeyEvent(SaveDataType.HIGHSCORE_10)));
-                }
-                case 4 -> {
-                    Timer.setTimer(15);
-                    TimerDisplay.setText("15 minutes");
-                    HighScoreDisplay.setText(SaveData.ReadFileString(SaveData.getKeyEvent(SaveDataType.HIGHSCORE_15)));
-                }
-                case 5 -> {
-                    Timer.setTimer(20);
-                    TimerDisplay.setText("20 minutes");
-                    HighScoreDisplay.setText(SaveData.ReadFileString(SaveData.getKeyEvent(SaveDataType.HIGHSCORE_20)));
-                }
+        HighScoreStore.flush();
+        switch (option) {
+            case 1 -> {
+                Timer.setTimer(0);
+                TimerDisplay.setText("None");
+                HighScoreDisplay.setText(String.valueOf(HighScoreStore.getBest(SaveDataType.HIGHSCORE)));
+            }
+            case 2 -> {
+                Timer.setTimer(5);
+                TimerDisplay.setText("5 minutes");
+                HighScoreDisplay.setText(String.valueOf(HighScoreStore.getBest(SaveDataType.HIGHSCORE_5)));
+            }
+            case 3 -> {
+                Timer.setTimer(10);
+                TimerDisplay.setText("10 minutes");
+                HighScoreDisplay.setText(String.valueOf(HighScoreStore.getBest(SaveDataType.HIGHSCORE_10)));
+            }
+            case 4 -> {
+                Timer.setTimer(15);
+                TimerDisplay.setText("15 minutes");
+                HighScoreDisplay.setText(String.valueOf(HighScoreStore.getBest(SaveDataType.HIGHSCORE_15)));
+            }
+            case 5 -> {
+                Timer.setTimer(20);
+                TimerDisplay.setText("20 minutes");
+                HighScoreDisplay.setText(String.valueOf(HighScoreStore.getBest(SaveDataType.HIGHSCORE_20)));
             }
-        } catch (IOException e) {
-            throw new RuntimeException(e);
         }
     }
 }
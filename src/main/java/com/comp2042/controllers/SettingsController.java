@@ -1,7 +1,7 @@
 package com.comp2042.controllers;
 
 import com.comp2042.enums.SaveDataType;
-import com.comp2042.data.SaveData;
+import com.comp2042.data.Settings;
 import com.comp2042.media.Bgm;
 import com.comp2042.media.Sfx;
 import javafx.event.EventHandler;
@@ -29,7 +29,7 @@ import java.util.ResourceBundle;
  * <ul>
  *     <li>Load the saved Settings</li>
  *     <li>Display the saved Settings</li>
- *     <li>Change the saved setting through {@link SaveData}</li>
+ *     <li>Change the saved setting through {@link Settings}</li>
  * </ul>
  *
  * <p>
@@ -80,59 +80,42 @@ public class SettingsController implements Initializable {
         MusicNVisual.setVisible(true);
         SettingsLeft.setVisible(false);
 
-        try {
-            MusicSlider.setValue(SaveData.ReadFileInt(SaveData.getKeyEvent(SaveDataType.MUSIC))); // get saved volume (0-100)
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
-
-        try {
-            String[] buttonsData = SaveData.ReadFileList(SaveData.getKeyEvent(SaveDataType.BUTTONS));
-            double buttonsVolume = Double.parseDouble(buttonsData[1]);
-            ButtonsSlider.setValue(buttonsVolume * 100);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
-
-        try {
-            String[] clearLinesData = SaveData.ReadFileList(SaveData.getKeyEvent(SaveDataType.CLEARLINES));
-            double clearLinesVolume = Double.parseDouble(clearLinesData[1]);
-            ClearLinesSlider.setValue(clearLinesVolume * 100);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        Settings settings = Settings.get();
+        MusicSlider.setValue(settings.getMusicVolume()); // get saved volume (0-100)
+        ButtonsSlider.setValue(settings.getSound(SaveDataType.BUTTONS).getVolume() * 100);
+        ClearLinesSlider.setValue(settings.getSound(SaveDataType.CLEARLINES).getVolume() * 100);
 
         // load toggle
-        showToggle(ToggleGhostOn, ToggleGhostOff, SaveData.getKeyEvent(SaveDataType.TOGGLE_GHOST));
-        showToggle(ToggleHoldOn, ToggleHoldOff, SaveData.getKeyEvent(SaveDataType.TOGGLE_HOLD));
-        showToggle(ToggleNextOn, ToggleNextOff, SaveData.getKeyEvent(SaveDataType.TOGGLE_NEXT));
-        showToggle(ToggleControlOn, ToggleControlOff, SaveData.getKeyEvent(SaveDataType.TOGGLE_CONTROLS));
+        showToggle(ToggleGhostOn, ToggleGhostOff, SaveDataType.TOGGLE_GHOST);
+        showToggle(ToggleHoldOn, ToggleHoldOff, SaveDataType.TOGGLE_HOLD);
+        showToggle(ToggleNextOn, ToggleNextOff, SaveDataType.TOGGLE_NEXT);
+        showToggle(ToggleControlOn, ToggleControlOff, SaveDataType.TOGGLE_CONTROLS);
 
         // load keys
-        getKeyCode(Left, SaveData.getKeyEvent(SaveDataType.LEFT));
-        getKeyCode(Right, SaveData.getKeyEvent(SaveDataType.RIGHT));
-        getKeyCode(Down, SaveData.getKeyEvent(SaveDataType.DOWN));
-        getKeyCode(Rotate, SaveData.getKeyEvent(SaveDataType.ROTATE));
-        getKeyCode(Pause, SaveData.getKeyEvent(SaveDataType.PAUSE));
-        getKeyCode(Hold, SaveData.getKeyEvent(SaveDataType.HOLD));
-        getKeyCode(Restart, SaveData.getKeyEvent(SaveDataType.RESTART));
-        getKeyCode(Harddrop, SaveData.getKeyEvent(SaveDataType.HARDDROP));
+        getKeyCode(Left, SaveDataType.LEFT);
+        getKeyCode(Right, SaveDataType.RIGHT);
+        getKeyCode(Down, SaveDataType.DOWN);
+        getKeyCode(Rotate, SaveDataType.ROTATE);
+        getKeyCode(Pause, SaveDataType.PAUSE);
+        getKeyCode(Hold, SaveDataType.HOLD);
+        getKeyCode(Restart, SaveDataType.RESTART);
+        getKeyCode(Harddrop, SaveDataType.HARDDROP);
 
         //setup toggle
-        setupToggle(ToggleGhostOn, ToggleGhostOff, SaveData.getKeyEvent(SaveDataType.TOGGLE_GHOST));
-        setupToggle(ToggleHoldOn, ToggleHoldOff, SaveData.getKeyEvent(SaveDataType.TOGGLE_HOLD));
-        setupToggle(ToggleNextOn, ToggleNextOff, SaveData.getKeyEvent(SaveDataType.TOGGLE_NEXT));
-        setupToggle(ToggleControlOn, ToggleControlOff, SaveData.getKeyEvent(SaveDataType.TOGGLE_CONTROLS));
+        setupToggle(ToggleGhostOn, ToggleGhostOff, SaveDataType.TOGGLE_GHOST);
+        setupToggle(ToggleHoldOn, ToggleHoldOff, SaveDataType.TOGGLE_HOLD);
+        setupToggle(ToggleNextOn, ToggleNextOff, SaveDataType.TOGGLE_NEXT);
+        setupToggle(ToggleControlOn, ToggleControlOff, SaveDataType.TOGGLE_CONTROLS);
 
         // Setup shortcut labels
-        setupShortcutLabel(Left, SaveData.getKeyEvent(SaveDataType.LEFT));
-        setupShortcutLabel(Right, SaveData.getKeyEvent(SaveDataType.RIGHT));
-        setupShortcutLabel(Down, SaveData.getKeyEvent(SaveDataType.DOWN));
-        setupShortcutLabel(Rotate, SaveData.getKeyEvent(SaveDataType.ROTATE));
-        setupShortcutLabel(Pause, SaveData.getKeyEvent(SaveDataType.PAUSE));
-        setupShortcutLabel(Hold, SaveData.getKeyEvent(SaveDataType.HOLD));
-        setupShortcutLabel(Restart, SaveData.getKeyEvent(SaveDataType.RESTART));
-        setupShortcutLabel(Harddrop, SaveData.getKeyEvent(SaveDataType.HARDDROP));
+        setupShortcutLabel(Left, SaveDataType.LEFT);
+        setupShortcutLabel(Right, SaveDataType.RIGHT);
+        setupShortcutLabel(Down, SaveDataType.DOWN);
+        setupShortcutLabel(Rotate, SaveDataType.ROTATE);
+        setupShortcutLabel(Pause, SaveDataType.PAUSE);
+        setupShortcutLabel(Hold, SaveDataType.HOLD);
+        setupShortcutLabel(Restart, SaveDataType.RESTART);
+        setupShortcutLabel(Harddrop, SaveDataType.HARDDROP);
 
         //mouse event
         closeImage.setOnMouseClicked(_ -> {
@@ -161,49 +144,47 @@ public class SettingsController implements Initializable {
 
         MusicSlider.valueProperty().addListener((_, _, newVal) -> {
             int volume = newVal.intValue();
-            try {
-                SaveData.overWriteFile(volume, SaveData.getKeyEvent(SaveDataType.MUSIC));
-                Bgm.setVolume();
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
+            if (volume == Settings.get().getMusicVolume()) return;
+            Settings.update(SaveDataType.MUSIC, Integer.toString(volume));
+            Bgm.setVolume();
         });
 
         ButtonsSlider.valueProperty().addListener((_, _, newVal) -> {
-            double volume = newVal.doubleValue() / 100.0;
-            try {
-                SaveData.overWriteFile(volume,1, SaveData.getKeyEvent(SaveDataType.BUTTONS) );
-                Sfx.reset(SaveDataType.BUTTONS);
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
+            saveSoundVolume(SaveDataType.BUTTONS, newVal.doubleValue() / 100.0);
+            Sfx.reset(SaveDataType.BUTTONS);
         });
 
         ClearLinesSlider.valueProperty().addListener((_, _, newVal) -> {
-            double volume = newVal.doubleValue() / 100.0;
-            try {
-                SaveData.overWriteFile(volume,1, SaveData.getKeyEvent(SaveDataType.CLEARLINES) );
-                Sfx.reset(SaveDataType.CLEARLINES);
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
+            saveSoundVolume(SaveDataType.CLEARLINES, newVal.doubleValue() / 100.0);
+            Sfx.reset(SaveDataType.CLEARLINES);
         });
     }
 
+    /**
+     * Saves the volume of a sound effect, keeping its file name.
+     *
+     * @param sound {@link SaveDataType#BUTTONS} or {@link SaveDataType#CLEARLINES}
+     * @param volume the new volume from 0 to 1
+     */
+    private void saveSoundVolume(SaveDataType sound, double volume) {
+        String fileName = Settings.get().getSound(sound).getFileName();
+        Settings.update(sound, fileName + " : " + volume);
+    }
+
     // initiate if toggle is on or off
 
     /**
      * Set up the mouse event for toggle and display the current toggle choice
      *<p>
      * Initialises the mouse event and resets both labels to the unselected state and determines whether it is on or off
-     * from the {@link SaveData}, before adding the Selected CSS to the selected option.
+     * from the {@link Settings}, before adding the Selected CSS to the selected option.
      *</p>
      * @param optionOn the UI of the "on" state of the toggle
      * @param optionOff the UI of the "off" state of the toggle
-     * @param line the line number of the save file {@link SaveDataType}
+     * @param toggle the {@link SaveDataType} of the toggle
      */
 
-    private void setupToggle(Label optionOn, Label optionOff, int line) {
+    private void setupToggle(Label optionOn, Label optionOff, SaveDataType toggle) {
 
         EventHandler<MouseEvent> toggleHandler = event -> {
             Label clicked = (Label) event.getSource();
@@ -213,12 +194,8 @@ public class SettingsController implements Initializable {
 
             boolean value = clicked.getText().equals("O");
 
-            try {
-                SaveData.overWriteFile(Boolean.toString(value), line);
-                showToggle(optionOn, optionOff, line);
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
+            Settings.update(toggle, Boolean.toString(value));
+            showToggle(optionOn, optionOff, toggle);
         };
 
         optionOn.setOnMouseClicked(toggleHandler);
@@ -231,15 +208,15 @@ public class SettingsController implements Initializable {
      * <p>
      * When the label is clicked, it is highlighted and will begin listening
      * for the next key pressed by the user. The new key is saved
-     * in the save file using {@link SaveData} and {@link SaveDataType}.
+     * in the save file using {@link Settings} and {@link SaveDataType}.
      * The label is then updated to display the new keyboard shortcut and the
      * highlight is removed.
      * </p>
      *
      * @param label the keyboard Label of the action
-     * @param saveDataLine the line number in the save file
+     * @param action the {@link SaveDataType} of the action
      */
-    private void setupShortcutLabel(Label label, int saveDataLine) {
+    private void setupShortcutLabel(Label label, SaveDataType action) {
         //
         label.setOnMouseClicked(_ -> {
 
@@ -258,13 +235,9 @@ public class SettingsController implements Initializable {
                 String key = keyEvent.getCode().toString();
 
                 //write new shortcut to dave file
-                try {
-                    SaveData.overWriteFile(key, saveDataLine);
-                } catch (IOException e) {
-                    throw new RuntimeException(e);
-                }
+                Settings.update(action, key);
 
-                getKeyCode(selectedLabel, saveDataLine);
+                getKeyCode(selectedLabel, action);
 
                 // remove highlight after getKeyCode
                 selectedLabel.getStyleClass().remove("ShortcutKeySelect");
@@ -280,45 +253,36 @@ public class SettingsController implements Initializable {
      * Highlights the toggle label based on the saved setting.
      *
      * <p>
-     * Reads the boolean value from the save file using {@link SaveData} and {@link SaveDataType} to
+     * Reads the boolean value from {@link Settings} using {@link SaveDataType} to
      * determine which toggle state should apply the "ToggleSelected" CSS style.
      * </p>
      *
      * @param optionOn the UI of the "on" state of the toggle
      * @param optionOff the UI of the "off" state of the toggle
-     * @param line the line number of the save file
+     * @param toggle the {@link SaveDataType} of the toggle
      */
-    private void showToggle(Label optionOn, Label optionOff, int line) {
-        try {
-            if(SaveData.ReadBoolean(line)){
-                optionOn.getStyleClass().add("ToggleSelected");
-            } else {
-                optionOff.getStyleClass().add("ToggleSelected");
-            }
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+    private void showToggle(Label optionOn, Label optionOff, SaveDataType toggle) {
+        if (Settings.get().isEnabled(toggle)) {
+            optionOn.getStyleClass().add("ToggleSelected");
+        } else {
+            optionOff.getStyleClass().add("ToggleSelected");
         }
     }
 
     /**
-     * Loads the saved keyboard shortcut from the save file and updates the label.
+     * Loads the saved keyboard shortcut and updates the label.
      *
      * <p>
-     * Reads the saved key code stored using {@link SaveData} and {@link SaveDataType}
+     * Reads the saved key code from {@link Settings} using {@link SaveDataType}
      * to set the text of the label.
      * </p>
      *
      * @param label display the active keyboard shortcut
-     * @param saveDataLine the line number in the save file
+     * @param action the {@link SaveDataType} of the action
      */
-    private void getKeyCode(Label label, int saveDataLine){
-        try {
-            KeyCode keyCode = SaveData.ReadKeyCode(saveDataLine);
-            label.setText(keyCode.getName());
-
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+    private void getKeyCode(Label label, SaveDataType action){
+        KeyCode keyCode = Settings.get().getKey(action);
+        label.setText(keyCode.getName());
     }
 
     /**
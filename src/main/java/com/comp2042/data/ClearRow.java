@@ -7,8 +7,13 @@ import com.comp2042.logic.MatrixOperations;
  *
  * <p>
  * This class acts as a data container that stores results when a row-
- * It includes the number of lines removed, the new board matrix after the removal,
- * and the score bonus based on the cleared those lines.
+ * It includes the number of lines removed, the indices of the removed rows,
+ * the new board matrix after the removal, and the score bonus based on the cleared those lines.
+ * </p>
+ *
+ * <p>
+ * The board matrix is not copied when the result is created. It is only copied
+ * when {@link #getNewMatrix()} is called.
  * </p>
  */
 public final class ClearRow {
@@ -16,6 +21,10 @@ public final class ClearRow {
      * The total number of lines removed
      */
     private final int linesRemoved;
+    /**
+     * The indices of the removed rows, from top to bottom, before the rows above were moved down.
+     */
+    private final int[] clearedRows;
     /**
      * The new matrix.
      */
@@ -26,15 +35,16 @@ public final class ClearRow {
     private final int scoreBonus;
 
     /**
-     * Creates a new {@link ClearRow} object containing the total lines removed
+     * Creates a new {@link ClearRow} object containing the removed rows
      * , new board matrix and the scores based ont the number of lines cleared
      *
-     * @param linesRemoved the total number of lines removed
+     * @param clearedRows the indices of the removed rows, from top to bottom
      * @param newMatrix the new board matrix
      * @param scoreBonus the scores according to lines cleared
      */
-    public ClearRow(int linesRemoved, int[][] newMatrix, int scoreBonus) {
-        this.linesRemoved = linesRemoved;
+    public ClearRow(int[] clearedRows, int[][] newMatrix, int scoreBonus) {
+        this.linesRemoved = clearedRows.length;
+        this.clearedRows = clearedRows;
         this.newMatrix = newMatrix;
         this.scoreBonus = scoreBonus;
     }
@@ -47,6 +57,17 @@ public final class ClearRow {
         return linesRemoved;
     }
 
+    /**
+     * Returns the indices of the removed rows.
+     *
+     * <p>The indices refer to the board before the rows above were moved down.</p>
+     *
+     * @return a copy of the removed row indices, from top to bottom
+     */
+    public int[] getClearedRows() {
+        return clearedRows.clone();
+    }
+
     /**
      * Returns a copy of the new matrix.
      *
@@ -0,0 +1,115 @@
+package com.comp2042.data;
+
+import com.comp2042.enums.GameEventType;
+import com.comp2042.interfaces.GameEventListener;
+
+import java.util.Arrays;
+
+/**
+ * Counts what happened during a game from the events on the game event bus.
+ *
+ * <p>
+ * The statistics are plain counters, updated without creating any objects,
+ * and are reset at the start of every game.
+ * </p>
+ */
+public final class GameStats implements GameEventListener {
+
+    /** The most rows one clear can remove. */
+    public static final int MAX_CLEARED = 4;
+
+    private int piecesLocked;
+    private int holds;
+    private int levelUps;
+    private int linesCleared;
+    private final int[] clears = new int[MAX_CLEARED + 1];
+    private boolean gameOver;
+
+    /**
+     * Updates the counters for one game event.
+     *
+     * @param type the type of the event
+     * @param value the number carried by the event
+     */
+    @Override
+    public void onGameEvent(GameEventType type, int value) {
+        switch (type) {
+            case PIECE_LOCKED -> piecesLocked++;
+            case HOLD -> holds++;
+            case LEVEL_UP -> levelUps++;
+            case LINES_CLEARED -> {
+                linesCleared += value;
+                clears[Math.min(value, MAX_CLEARED)]++;
+            }
+            case GAME_OVER -> gameOver = true;
+        }
+    }
+
+    /**
+     * Sets every counter back to zero for a new game.
+     */
+    public void reset() {
+        piecesLocked = 0;
+        holds = 0;
+        levelUps = 0;
+        linesCleared = 0;
+        Arrays.fill(clears, 0);
+        gameOver = false;
+    }
+
+// Getters
+    /**
+     * Returns the number of bricks merged into the board.
+     *
+     * @return the number of locked pieces
+     */
+    public int getPiecesLocked() {
+        return piecesLocked;
+    }
+
+    /**
+     * Returns the number of times a brick was put in the hold slot.
+     *
+     * @return the number of holds
+     */
+    public int getHolds() {
+        return holds;
+    }
+
+    /**
+     * Returns the number of levels gained.
+     *
+     * @return the number of level ups
+     */
+    public int getLevelUps() {
+        return levelUps;
+    }
+
+    /**
+     * Returns the total number of rows cleared.
+     *
+     * @return the number of cleared rows
+     */
+    public int getLinesCleared() {
+        return linesCleared;
+    }
+
+    /**
+     * Returns the number of clears that removed a given number of rows at once.
+     *
+     * @param rows the number of rows removed by one clear, from 1 to {@link #MAX_CLEARED}
+     * @return the number of such clears, for example the number of four row clears when {@code rows} is 4
+     */
+    public int getClears(int rows) {
+        return clears[rows];
+    }
+
+    /**
+     * Returns whether the game has ended.
+     *
+     * @return {@code true} after a game over event
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+}
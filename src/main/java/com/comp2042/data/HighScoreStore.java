@@ -0,0 +1,157 @@
+package com.comp2042.data;
+
+import com.comp2042.enums.SaveDataType;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps the best score of every timer mode in memory and writes them to the save file in the background.
+ *
+ * <p>
+ * This is a static utility class. {@link #submit(SaveDataType, int)} only compares the score with the
+ * value in memory, so adding points never touches the file system. New high scores are written
+ * to the save file through {@link Settings} by a background thread when {@link #flush()} is called, which happens on
+ * game over, pause, a new game, a timer mode change and when the application shuts down.
+ * Several flushes requested before the writer runs are combined into one write.
+ * </p>
+ *
+ * <p>
+ * The high scores are read from the {@link Settings} snapshot the first time they are needed.
+ * </p>
+ */
+public final class HighScoreStore {
+
+    /** The save data line of each timer mode's high score, indexed by the timer in minutes / 5. */
+    private static final SaveDataType[] MODES = {
+            SaveDataType.HIGHSCORE,
+            SaveDataType.HIGHSCORE_5,
+            SaveDataType.HIGHSCORE_10,
+            SaveDataType.HIGHSCORE_15,
+            SaveDataType.HIGHSCORE_20
+    };
+
+    /** The best score of each mode. Guarded by the class lock. */
+    private static final Map<SaveDataType, Integer> best = new EnumMap<>(SaveDataType.class);
+
+    /** The modes whose best score has not been written yet. Guarded by the class lock. */
+    private static final Map<SaveDataType, Integer> unsaved = new EnumMap<>(SaveDataType.class);
+
+    /** Serialises writes to the save file. */
+    private static final Object fileLock = new Object();
+
+    /** Whether a write is already queued on the writer thread. */
+    private static final AtomicBoolean writeQueued = new AtomicBoolean();
+
+    private static final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "high-score-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(HighScoreStore::flushNow, "high-score-shutdown"));
+    }
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private HighScoreStore() {
+
+    }
+
+    /**
+     * Returns the high score line used by a timer setting.
+     *
+     * @param minutes the timer setting in minutes, 0 meaning no timer
+     * @return the {@link SaveDataType} of that mode's high score, or {@code null} for an unknown setting
+     */
+    public static SaveDataType modeFor(int minutes) {
+        if (minutes < 0 || minutes % 5 != 0 || minutes / 5 >= MODES.length) {
+            return null;
+        }
+        return MODES[minutes / 5];
+    }
+
+    /**
+     * Records a score for a mode, keeping it in memory if it beats the mode's high score.
+     *
+     * @param mode the high score line of the current timer mode
+     * @param score the player's current score
+     */
+    public static synchronized void submit(SaveDataType mode, int score) {
+        if (mode == null) return;
+        if (score > getBest(mode)) {
+            best.put(mode, score);
+            unsaved.put(mode, score);
+        }
+    }
+
+    /**
+     * Returns the high score of a mode.
+     *
+     * @param mode the high score line of a timer mode
+     * @return the best score, including scores that have not been written yet
+     */
+    public static synchronized int getBest(SaveDataType mode) {
+        Integer score = best.get(mode);
+        if (score == null) {
+            score = Settings.get().getHighScore(mode);
+            best.put(mode, score);
+        }
+        return score;
+    }
+
+    /**
+     * Queues a background write of every high score that has not been saved yet.
+     *
+     * <p>Returns immediately. If a write is already queued, no new one is added.</p>
+     */
+    public static void flush() {
+        if (writeQueued.compareAndSet(false, true)) {
+            writer.execute(() -> {
+                writeQueued.set(false);
+                flushNow();
+            });
+        }
+    }
+
+    /**
+     * Writes every high score that has not been saved yet on the calling thread.
+     */
+    public static void flushNow() {
+        synchronized (fileLock) {
+            Map<SaveDataType, Integer> pending;
+            synchronized (HighScoreStore.class) {
+                if (unsaved.isEmpty()) return;
+                pending = new EnumMap<>(unsaved);
+                unsaved.clear();
+            }
+            for (Map.Entry<SaveDataType, Integer> entry : pending.entrySet()) {
+                Settings.update(entry.getKey(), Integer.toString(entry.getValue()));
+            }
+        }
+    }
+
+    /**
+     * Waits for queued writes to finish, for tests.
+     *
+     * @throws Exception if the writer fails or does not finish in time
+     */
+    static void awaitWrites() throws Exception {
+        writer.submit(() -> { }).get(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Forgets the scores held in memory so they are read from the save file again, for tests.
+     */
+    static synchronized void clear() {
+        best.clear();
+        unsaved.clear();
+        Settings.reload();
+    }
+}
@@ -25,6 +25,21 @@ import javafx.beans.property.SimpleIntegerProperty;
 
 public final class Level {
 
+    /** The highest level a player can reach. */
+    public static final int MAX_LEVEL = 20;
+
+    /**
+     * The fall interval of each level in milliseconds, indexed by level - 1.
+     * Worked out once from the formula in {@link #calcSpeed()}.
+     */
+    private static final int[] FALL_MILLIS = new int[MAX_LEVEL];
+
+    static {
+        for (int x = 0; x < MAX_LEVEL; x++) {
+            FALL_MILLIS[x] = (int) (1065.0 / (x + 3) + 45);
+        }
+    }
+
     /**
      * Initialises the level in the current game session to 1.
      * This property supports JavaFX property binding for automatic UI updates.
@@ -71,7 +86,7 @@ public final class Level {
      */
     public boolean reachLevelRequirement(int lines){
         int level = this.level.getValue();
-        return lines >= (5 * (level * level)) + (5 * level) && level != 20;
+        return lines >= (5 * (level * level)) + (5 * level) && level != MAX_LEVEL;
             // Cleared lines >= level Up Requirement and stop increasing after lvl20
     }
 
@@ -79,12 +94,13 @@ public final class Level {
      * Calculates the speed of the game.
      * <p>
      * The speed starts around 400ms and decreases to approximately 90ms at level 20.
+     * The value is read from a table built with {@code 1065 / (level + 2) + 45}.
      * </p>
      *
      * @return the fall speed in milliseconds
      */
     public int calcSpeed(){
-        int x = this.level.getValue() - 1;
-        return (int) (1065.0 / (x + 3) + 45);
+        int x = Math.clamp(this.level.getValue() - 1, 0, MAX_LEVEL - 1);
+        return FALL_MILLIS[x];
     }
 }
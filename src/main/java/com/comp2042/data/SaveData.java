@@ -200,6 +200,16 @@ public class SaveData {
         };
     }
 
+    /**
+     * Reads every line of the save file at once.
+     *
+     * @return the lines of the save file, in order
+     * @throws IOException if reading fails
+     */
+    public static List<String> ReadAllLines() throws IOException {
+        return Files.readAllLines(saveFilePath, StandardCharsets.UTF_8);
+    }
+
     /**
      * Reads an integer value from the specified line.
      *
@@ -1,12 +1,9 @@
 package com.comp2042.data;
 
-import com.comp2042.enums.SaveDataType;
 import com.comp2042.logic.Timer;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 
-import java.io.IOException;
-
 /**
  * Tracks the player's current score and handles automatic saving of high scores.
  *
@@ -15,7 +12,11 @@ import java.io.IOException;
  * the value changes.</p>
  *
  * <p>Whenever the score changes, the class checks whether it exceeds the stored
- * high score for the current timer setting and updates the save file accordingly.</p>
+ * high score for the current timer setting and passes it to {@link HighScoreStore},
+ * which saves it in the background.</p>
+ *
+ * <p>High score recording can be turned off with {@link #setRecordsHighScore(boolean)},
+ * so games played without a window, for example by benchmarks, never touch the save file.</p>
  */
 
 public final class Score {
@@ -26,6 +27,9 @@ public final class Score {
      */
     private final IntegerProperty score = new SimpleIntegerProperty(0);
 
+    /** Whether the score is passed to {@link HighScoreStore}. */
+    private boolean recordsHighScore = true;
+
     /**
      * Returns the score.
      *
@@ -47,7 +51,9 @@ public final class Score {
      */
     public void add(int i){
         score.setValue(score.getValue() + i);
-        saveScore();
+        if (recordsHighScore) {
+            saveScore();
+        }
     }
 
     /**
@@ -57,55 +63,32 @@ public final class Score {
      * </p>
      */
     public void reset() {
+        if (recordsHighScore) {
+            saveScore();
+            HighScoreStore.flush();
+        }
         score.setValue(0);
-        saveScore();
     }
 
     /**
-     * Saves the score if it surpasses the existing high score for the
-     * currently selected timer mode.
+     * Sets whether the score is recorded as a high score.
      *
-     * <p>The correct saved line of the high score is chosen based on {@link Timer#getStartingTime()}.
-     * The HighScore is saved using {@link SaveData} and the line number is assigned based on {@link SaveDataType}</p>
+     * @param recordsHighScore {@code false} to keep the score out of {@link HighScoreStore}
+     */
+    public void setRecordsHighScore(boolean recordsHighScore) {
+        this.recordsHighScore = recordsHighScore;
+    }
+
+    /**
+     * Records the score if it surpasses the existing high score for the
+     * currently selected timer mode.
      *
-     * <p>If an I/O error occurs while reading or writing save data,
-     * a {@link RuntimeException} is thrown.</p>
+     * <p>The high score of the mode is chosen based on {@link Timer#getStartingTime()}.
+     * The score is only kept in memory by {@link HighScoreStore}, which writes it
+     * to {@link SaveData} later, so once the high score has been loaded this never
+     * touches the file system.</p>
      */
     private void saveScore() {
-
-        try {
-            int minutes = Timer.getStartingTime() / 60;
-
-            switch (minutes) {
-                case 0 -> { // No timer
-                    if (score.getValue() > SaveData.ReadFileInt(SaveData.getKeyEvent(SaveDataType.HIGHSCORE))) {
-                        SaveData.overWriteFile(score.getValue(), SaveData.getKeyEvent(SaveDataType.HIGHSCORE));
-                    }
-                }
-                case 5 -> {
-                    if (score.getValue() > SaveData.ReadFileInt(SaveData.getKeyEvent(SaveDataType.HIGHSCORE_5))) {
-                        SaveData.overWriteFile(score.getValue(), SaveData.getKeyEvent(SaveDataType.HIGHSCORE_5));
-                    }
-                }
-                case 10 -> {
-                    if (score.getValue() > SaveData.ReadFileInt(SaveData.getKeyEvent(SaveDataType.HIGHSCORE_10))) {
-                        SaveData.overWriteFile(score.getValue(), SaveData.getKeyEvent(SaveDataType.HIGHSCORE_10));
-                    }
-                }
-                case 15 -> {
-                    if (score.getValue() > SaveData.ReadFileInt(SaveData.getKeyEvent(SaveDataType.HIGHSCORE_15))) {
-                        SaveData.overWriteFile(score.getValue(), SaveData.getKeyEvent(SaveDataType.HIGHSCORE_15));
-                    }
-                }
-                case 20 -> {
-                    if (score.getValue() > SaveData.ReadFileInt(SaveData.getKeyEvent(SaveDataType.HIGHSCORE_20))) {
-                        SaveData.overWriteFile(score.getValue(), SaveData.getKeyEvent(SaveDataType.HIGHSCORE_20));
-                    }
-                }
-            }
-
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
-        }
+        HighScoreStore.submit(HighScoreStore.modeFor(Timer.getStartingTime() / 60), score.getValue());
     }
+}
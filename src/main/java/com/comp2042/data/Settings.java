@@ -0,0 +1,213 @@
+package com.comp2042.data;
+
+import com.comp2042.enums.SaveDataType;
+import javafx.scene.input.KeyCode;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable snapshot of the settings and high scores stored in the save file.
+ *
+ * <p>
+ * The save file is read and parsed once, the first time {@link #get()} is called, and
+ * every later read is served from memory. Key bindings, volumes, toggles and high scores
+ * are kept as typed values, so reading a setting never touches the file system.
+ * Each snapshot also holds a table from every bound key to its action, which is only
+ * rebuilt when a key is rebound.
+ * </p>
+ *
+ * <p>
+ * A snapshot never changes. {@link #update(SaveDataType, String)} writes one line to
+ * {@link SaveData} and replaces the current snapshot with a copy holding the new value,
+ * so a snapshot that is already in use stays consistent.
+ * </p>
+ */
+public final class Settings {
+
+    /**
+     * The key binding actions in order of priority. When two actions share a key,
+     * the key triggers the one listed first.
+     */
+    private static final SaveDataType[] KEY_ACTIONS = {
+            SaveDataType.PAUSE,
+            SaveDataType.RESTART,
+            SaveDataType.LEFT,
+            SaveDataType.RIGHT,
+            SaveDataType.ROTATE,
+            SaveDataType.DOWN,
+            SaveDataType.HOLD,
+            SaveDataType.HARDDROP
+    };
+
+    /** The snapshot returned by {@link #get()}, or {@code null} before the save file is read. */
+    private static volatile Settings current;
+
+    /** The text of every line of the save file, indexed by {@link SaveData#getKeyEvent(SaveDataType)}. */
+    private final String[] lines;
+
+    private final Map<SaveDataType, KeyCode> keys = new EnumMap<>(SaveDataType.class);
+    /** The action of every bound key, shared between snapshots until a key is rebound. */
+    private final Map<KeyCode, SaveDataType> actions;
+    private final Map<SaveDataType, SoundData> sounds = new EnumMap<>(SaveDataType.class);
+    private final Map<SaveDataType, Boolean> toggles = new EnumMap<>(SaveDataType.class);
+    private final Map<SaveDataType, Integer> highScores = new EnumMap<>(SaveDataType.class);
+    private final int musicVolume;
+
+    /**
+     * Parses the lines of a save file.
+     *
+     * @param lines the lines of the save file, which are not copied
+     * @param previous the snapshot being replaced, whose key dispatch table is reused
+     *                 if no key was rebound, or {@code null}
+     */
+    private Settings(String[] lines, Settings previous) {
+        this.lines = lines;
+        int music = 0;
+        for (SaveDataType type : SaveDataType.values()) {
+            String line = lines[SaveData.getKeyEvent(type)].trim();
+            switch (type) {
+                case LEFT, RIGHT, DOWN, ROTATE, HOLD, PAUSE, RESTART, HARDDROP -> keys.put(type, KeyCode.valueOf(line));
+                case BUTTONS, CLEARLINES -> {
+                    String[] sound = line.split("\\s*:\\s*");
+                    sounds.put(type, new SoundData(sound[0], Double.parseDouble(sound[1])));
+                }
+                case TOGGLE_HOLD, TOGGLE_NEXT, TOGGLE_GHOST, TOGGLE_CONTROLS -> toggles.put(type, Boolean.parseBoolean(line));
+                case HIGHSCORE, HIGHSCORE_5, HIGHSCORE_10, HIGHSCORE_15, HIGHSCORE_20 -> highScores.put(type, Integer.parseInt(line));
+                case MUSIC -> music = Integer.parseInt(line);
+            }
+        }
+        musicVolume = music;
+
+        if (previous != null && previous.keys.equals(keys)) {
+            actions = previous.actions;
+        } else {
+            actions = new EnumMap<>(KeyCode.class);
+            for (int i = KEY_ACTIONS.length - 1; i >= 0; i--) {
+                actions.put(keys.get(KEY_ACTIONS[i]), KEY_ACTIONS[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns the current settings, reading the save file the first time it is called.
+     *
+     * @return the current snapshot
+     */
+    public static Settings get() {
+        Settings settings = current;
+        if (settings == null) {
+            synchronized (Settings.class) {
+                settings = current;
+                if (settings == null) {
+                    settings = load();
+                    current = settings;
+                }
+            }
+        }
+        return settings;
+    }
+
+    /**
+     * Changes one setting, saves it and replaces the current snapshot.
+     *
+     * @param type the setting to change
+     * @param value the new value, written the same way as in the save file,
+     *              for example {@code "SPACE"}, {@code "true"}, {@code "30"} or {@code "coin.mp3 : 0.3"}
+     * @return the new snapshot
+     * @throws RuntimeException if the value cannot be parsed or the save file cannot be written
+     */
+    public static synchronized Settings update(SaveDataType type, String value) {
+        int line = SaveData.getKeyEvent(type);
+        Settings previous = get();
+        String[] lines = previous.lines.clone();
+        lines[line] = value;
+        Settings settings = new Settings(lines, previous);
+        try {
+            SaveData.overWriteFile(value, line);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        current = settings;
+        return settings;
+    }
+
+    /**
+     * Reads the save file again, for tests that change the save file path.
+     */
+    static synchronized void reload() {
+        current = load();
+    }
+
+    private static Settings load() {
+        try {
+            List<String> fileContent = SaveData.ReadAllLines();
+            return new Settings(fileContent.toArray(new String[0]), null);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+// Getters
+    /**
+     * Returns the key bound to an action.
+     *
+     * @param action one of the key binding types, such as {@link SaveDataType#LEFT}
+     * @return the bound key, or {@code null} if the type is not a key binding
+     */
+    public KeyCode getKey(SaveDataType action) {
+        return keys.get(action);
+    }
+
+    /**
+     * Returns the action bound to a key with one lookup in a precomputed table.
+     *
+     * @param key the pressed key
+     * @return the key binding type of the action, such as {@link SaveDataType#LEFT},
+     *         or {@code null} if the key is not bound
+     */
+    public SaveDataType getAction(KeyCode key) {
+        return key == null ? null : actions.get(key);
+    }
+
+    /**
+     * Returns the sound effect file and volume of a sound.
+     *
+     * @param sound {@link SaveDataType#BUTTONS} or {@link SaveDataType#CLEARLINES}
+     * @return the sound data, or {@code null} if the type is not a sound
+     */
+    public SoundData getSound(SaveDataType sound) {
+        return sounds.get(sound);
+    }
+
+    /**
+     * Returns whether a toggle is turned on.
+     *
+     * @param toggle one of the toggle types, such as {@link SaveDataType#TOGGLE_GHOST}
+     * @return {@code true} if the toggle is on, {@code false} if it is off or the type is not a toggle
+     */
+    public boolean isEnabled(SaveDataType toggle) {
+        return toggles.getOrDefault(toggle, false);
+    }
+
+    /**
+     * Returns the saved high score of a timer mode.
+     *
+     * @param mode one of the high score types, such as {@link SaveDataType#HIGHSCORE_5}
+     * @return the saved high score, or 0 if the type is not a high score
+     */
+    public int getHighScore(SaveDataType mode) {
+        return highScores.getOrDefault(mode, 0);
+    }
+
+    /**
+     * Returns the music volume.
+     *
+     * @return the volume from 0 to 100
+     */
+    public int getMusicVolume() {
+        return musicVolume;
+    }
+}
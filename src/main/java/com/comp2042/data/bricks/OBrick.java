@@ -1,9 +1,7 @@
 package com.comp2042.data.bricks;
 
 import com.comp2042.interfaces.Brick;
-import com.comp2042.logic.MatrixOperations;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -11,25 +9,33 @@ import java.util.List;
  */
 final class OBrick implements Brick {
 
-    private final List<int[][]> brickMatrix = new ArrayList<>();
     /**
-     * Creates all possible rotations of the brick.
+     * All rotations of the brick, built once when the class is loaded.
      */
-    public OBrick() {
-        brickMatrix.add(new int[][]{
+    private static final RotationTable ROTATIONS = new RotationTable(
+            new int[][]{
                 {0, 0, 0, 0},
                 {0, 4, 4, 0},
                 {0, 4, 4, 0},
                 {0, 0, 0, 0}
-        });
-    }
+            }
+    );
+
     /**
      * Returns the shape of the brick
      * @return matrix of the brick
      */
     @Override
     public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
+        return ROTATIONS.copyShapes();
     }
 
+    /**
+     * Returns the precompiled rotations of the brick
+     * @return the shared rotation table
+     */
+    @Override
+    public RotationTable getRotationTable() {
+        return ROTATIONS;
+    }
 }
@@ -3,11 +3,7 @@ package com.comp2042.data.bricks;
 import com.comp2042.interfaces.Brick;
 import com.comp2042.interfaces.BrickGenerator;
 
-import java.util.ArrayDeque;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Deque;
-import java.util.List;
+import java.util.SplittableRandom;
 
 /**
  * Generates new bricks using 7-bag randomization system.
@@ -16,32 +12,109 @@ import java.util.List;
  * preventing long streaks where a certain brick never appears. It
  * shuffles a new bag when the current bag is almost emptied and adds it to the queue.
  * </p>
+ *
+ * <p>
+ * The bags are shuffled from a seed, so two generators created with the same seed
+ * return the same bricks in the same order. This is what allows a recorded game to be replayed.
+ * </p>
+ *
+ * <p>
+ * Bricks are queued as piece ids, indexes into {@link #BRICKS}, in a fixed-size ring buffer.
+ * Each bag is shuffled in place with a Fisher-Yates shuffle driven by a {@link SplittableRandom},
+ * so drawing bricks never creates any objects. At least {@link #PREVIEW_SIZE} bricks are
+ * always queued and can be seen with {@link #peekBrick(int)}.
+ * </p>
  */
 public class RandomBrickGenerator implements BrickGenerator {
 
-    /** The list containing all seven Tetris brick types. */
-    private final List<Brick> brickList;
-    /** The queue of upcoming bricks */
-    private final Deque<Brick> nextBricks = new ArrayDeque<>();
+    /** The number of brick types in one bag. */
+    public static final int BAG_SIZE = 7;
+
+    /** The number of upcoming bricks that can always be seen. */
+    public static final int PREVIEW_SIZE = BAG_SIZE;
+
+    /** The seven Tetris brick types, indexed by piece id. */
+    private static final Brick[] BRICKS = {
+            new IBrick(), new JBrick(), new LBrick(),
+            new OBrick(), new SBrick(), new TBrick(), new ZBrick()
+    };
+
+    /** The ring buffer size, a power of two large enough for two bags. */
+    private static final int QUEUE_SIZE = 16;
+    private static final int QUEUE_MASK = QUEUE_SIZE - 1;
+
+    /** The ring buffer of upcoming piece ids. */
+    private final byte[] queue = new byte[QUEUE_SIZE];
+    private int head;
+    private int size;
+    /** The piece ids of the bag being shuffled, reused for every bag. */
+    private final byte[] bag = {0, 1, 2, 3, 4, 5, 6};
+    /** The seed the bags are shuffled from. */
+    private final long seed;
+    /** The random source used to shuffle every bag. */
+    private final SplittableRandom random;
 
     /**
-     * Creates a new {@code RandomBrickGenerator} and initializes the queue
+     * Creates a new {@code RandomBrickGenerator} with a random seed and initializes the queue
      * with two shuffled bags to ensure multiple upcoming previews.
      */
     public RandomBrickGenerator() {
-        brickList = List.of(
-                new IBrick(), new JBrick(), new LBrick(),
-                new OBrick(), new SBrick(), new TBrick(), new ZBrick()
-        );
+        this(new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Creates a new {@code RandomBrickGenerator} that shuffles its bags from the given seed.
+     *
+     * @param seed the seed of the shuffle, for example the seed read from a replay
+     */
+    public RandomBrickGenerator(long seed) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
 
         refillBag();
         refillBag(); // Fill the queue enough for next-brick previews
     }
 
     private void refillBag() {
-        List<Brick> bag = new ArrayList<>(brickList);
-        Collections.shuffle(bag);
-        nextBricks.addAll(bag);
+        for (int i = BAG_SIZE - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            byte swap = bag[i];
+            bag[i] = bag[j];
+            bag[j] = swap;
+        }
+        for (int i = 0; i < BAG_SIZE; i++) {
+            queue[(head + size++) & QUEUE_MASK] = bag[i];
+        }
+    }
+
+    /**
+     * Removes the next brick from the queue and returns its piece id.
+     * <p>
+     * If the queue has 7 bricks or fewer remaining, a new bag is added first.
+     * </p>
+     *
+     * @return the piece id, from 0 to {@link #BAG_SIZE} - 1
+     */
+    public int nextPieceId() {
+        if (size <= BAG_SIZE) { // when low, refill again
+            refillBag();
+        }
+        int id = queue[head];
+        head = (head + 1) & QUEUE_MASK;
+        size--;
+        return id;
+    }
+
+    /**
+     * Returns the piece id of an upcoming brick without removing it.
+     *
+     * @param index 0 for the next brick, up to {@link #PREVIEW_SIZE} - 1
+     * @return the piece id
+     * @throws IndexOutOfBoundsException if {@code index} is outside the preview
+     */
+    public int peekPieceId(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException(index);
+        return queue[(head + index) & QUEUE_MASK];
     }
 
     /**
@@ -55,10 +128,7 @@ public class RandomBrickGenerator implements BrickGenerator {
      */
     @Override
     public Brick getBrick() {
-        if (nextBricks.size() <= 7) { // when low, refill again
-            refillBag();
-        }
-        return nextBricks.poll();
+        return BRICKS[nextPieceId()];
     }
     /**
      * Retrieves the data of the next brick.
@@ -66,10 +136,50 @@ public class RandomBrickGenerator implements BrickGenerator {
      * This is used in {@link com.comp2042.logic.SimpleBoard} to check the next brick data
      * </p>
      *
-     * @return the next {@link Brick} in the queue, or {@code null} if empty
+     * @return the next {@link Brick} in the queue
      */
     @Override
     public Brick getNextBrick() {
-        return nextBricks.peek();
+        return BRICKS[queue[head]];
+    }
+
+    /**
+     * Returns an upcoming brick without removing it from the queue.
+     *
+     * @param index 0 for the next brick, up to {@link #PREVIEW_SIZE} - 1
+     * @return the upcoming {@link Brick}
+     */
+    @Override
+    public Brick peekBrick(int index) {
+        return BRICKS[peekPieceId(index)];
+    }
+
+    /**
+     * Returns how many upcoming bricks can always be seen.
+     *
+     * @return {@link #PREVIEW_SIZE}
+     */
+    @Override
+    public int getPreviewSize() {
+        return PREVIEW_SIZE;
+    }
+
+    /**
+     * Returns the brick of a piece id.
+     *
+     * @param id the piece id, from 0 to {@link #BAG_SIZE} - 1
+     * @return the shared {@link Brick} of that type
+     */
+    public static Brick brickOf(int id) {
+        return BRICKS[id];
+    }
+
+    /**
+     * Returns the seed the bags are shuffled from.
+     *
+     * @return the seed given to the constructor, or the one picked at random
+     */
+    public long getSeed() {
+        return seed;
     }
 }
@@ -0,0 +1,199 @@
+package com.comp2042.data.bricks;
+
+import com.comp2042.logic.MatrixOperations;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class stores every rotation of a brick in a precompiled form.
+ *
+ * <p>
+ * Each rotation is a 4x4 shape packed into a 16-bit mask, where bit {@code row * 4 + column}
+ * is set when that cell of the shape is filled. For every rotation the table also stores the
+ * bounding box of the filled cells and the bottom profile, which is the lowest filled row of
+ * each of the four columns.
+ * </p>
+ *
+ * <p>
+ * A table is built once when a brick class is loaded and never changes afterwards,
+ * so it can be shared by every board without copying.
+ * </p>
+ */
+public final class RotationTable {
+
+    /** The width and height of a shape. */
+    public static final int SIZE = 4;
+
+    /** The value stored in the bottom profile for a column without filled cells. */
+    public static final int EMPTY_COLUMN = -1;
+
+    /** The colour value of the filled cells. */
+    private final int color;
+
+    /** The packed shape of each rotation. */
+    private final int[] masks;
+
+    /** The shape matrix of each rotation, kept for rendering. */
+    private final int[][][] shapes;
+
+    /** The bounding box of each rotation. */
+    private final int[] minColumn, maxColumn, minRow, maxRow;
+
+    /** The lowest filled row of each column, indexed by {@code rotation * 4 + column}. */
+    private final int[] bottom;
+
+    /**
+     * Creates a table from the shape matrices of each rotation, in rotation order.
+     *
+     * @param rotations 4x4 shape matrices where non-zero cells hold the brick's colour value
+     */
+    public RotationTable(int[][]... rotations) {
+        int count = rotations.length;
+        masks = new int[count];
+        shapes = new int[count][][];
+        minColumn = new int[count];
+        maxColumn = new int[count];
+        minRow = new int[count];
+        maxRow = new int[count];
+        bottom = new int[count * SIZE];
+
+        int value = 0;
+        for (int r = 0; r < count; r++) {
+            shapes[r] = MatrixOperations.copy(rotations[r]);
+            minColumn[r] = minRow[r] = SIZE;
+            maxColumn[r] = maxRow[r] = -1;
+            for (int column = 0; column < SIZE; column++) {
+                bottom[r * SIZE + column] = EMPTY_COLUMN;
+            }
+            for (int row = 0; row < SIZE; row++) {
+                for (int column = 0; column < SIZE; column++) {
+                    if (rotations[r][row][column] == 0) continue;
+                    value = rotations[r][row][column];
+                    masks[r] |= 1 << (row * SIZE + column);
+                    minColumn[r] = Math.min(minColumn[r], column);
+                    maxColumn[r] = Math.max(maxColumn[r], column);
+                    minRow[r] = Math.min(minRow[r], row);
+                    maxRow[r] = Math.max(maxRow[r], row);
+                    bottom[r * SIZE + column] = row;
+                }
+            }
+        }
+        color = value;
+    }
+
+    /**
+     * Returns the number of rotations.
+     *
+     * @return the number of rotations
+     */
+    public int size() {
+        return masks.length;
+    }
+
+    /**
+     * Returns the colour value of the brick's cells.
+     *
+     * @return the colour value
+     */
+    public int getColor() {
+        return color;
+    }
+
+    /**
+     * Returns the 16-bit mask of a rotation.
+     *
+     * @param rotation the rotation index
+     * @return the packed shape, bit {@code row * 4 + column} being one cell
+     */
+    public int getMask(int rotation) {
+        return masks[rotation];
+    }
+
+    /**
+     * Returns the 4-bit mask of one row of a rotation.
+     *
+     * @param rotation the rotation index
+     * @param row the row of the shape, from 0 to 3
+     * @return the filled columns of that row, bit {@code column} being one cell
+     */
+    public int getRowMask(int rotation, int row) {
+        return (masks[rotation] >>> (row * SIZE)) & 0xF;
+    }
+
+    /**
+     * Returns the shape matrix of a rotation.
+     *
+     * <p>The matrix is shared by every user of this table and must not be modified.</p>
+     *
+     * @param rotation the rotation index
+     * @return the 4x4 shape matrix
+     */
+    public int[][] getShape(int rotation) {
+        return shapes[rotation];
+    }
+
+    /**
+     * Returns a new list with a copy of every rotation's shape matrix.
+     *
+     * @return the copied shape matrices, in rotation order
+     */
+    public List<int[][]> copyShapes() {
+        List<int[][]> copies = new ArrayList<>(shapes.length);
+        for (int[][] shape : shapes) {
+            copies.add(MatrixOperations.copy(shape));
+        }
+        return copies;
+    }
+
+    /**
+     * Returns the leftmost filled column of a rotation.
+     *
+     * @param rotation the rotation index
+     * @return the column index inside the 4x4 shape
+     */
+    public int getMinColumn(int rotation) {
+        return minColumn[rotation];
+    }
+
+    /**
+     * Returns the rightmost filled column of a rotation.
+     *
+     * @param rotation the rotation index
+     * @return the column index inside the 4x4 shape
+     */
+    public int getMaxColumn(int rotation) {
+        return maxColumn[rotation];
+    }
+
+    /**
+     * Returns the topmost filled row of a rotation.
+     *
+     * @param rotation the rotation index
+     * @return the row index inside the 4x4 shape
+     */
+    public int getMinRow(int rotation) {
+        return minRow[rotation];
+    }
+
+    /**
+     * Returns the lowest filled row of a rotation.
+     *
+     * @param rotation the rotation index
+     * @return the row index inside the 4x4 shape
+     */
+    public int getMaxRow(int rotation) {
+        return maxRow[rotation];
+    }
+
+    /**
+     * Returns the lowest filled row of one column of a rotation.
+     *
+     * @param rotation the rotation index
+     * @param column the column of the shape, from 0 to 3
+     * @return the row index inside the 4x4 shape, or {@link #EMPTY_COLUMN} if the column is empty
+     */
+    public int getBottom(int rotation, int column) {
+        return bottom[rotation * SIZE + column];
+    }
+}
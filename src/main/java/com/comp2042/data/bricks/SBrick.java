@@ -1,9 +1,7 @@
 package com.comp2042.data.bricks;
 
 import com.comp2042.interfaces.Brick;
-import com.comp2042.logic.MatrixOperations;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -11,24 +9,23 @@ import java.util.List;
  */
 final class SBrick implements Brick {
 
-    private final List<int[][]> brickMatrix = new ArrayList<>();
     /**
-     * Creates all possible rotations of the brick.
+     * All rotations of the brick, built once when the class is loaded.
      */
-    public SBrick() {
-        brickMatrix.add(new int[][]{
+    private static final RotationTable ROTATIONS = new RotationTable(
+            new int[][]{
                 {0, 0, 0, 0},
                 {0, 5, 5, 0},
                 {5, 5, 0, 0},
                 {0, 0, 0, 0}
-        });
-        brickMatrix.add(new int[][]{
+            },
+            new int[][]{
                 {5, 0, 0, 0},
                 {5, 5, 0, 0},
                 {0, 5, 0, 0},
                 {0, 0, 0, 0}
-        });
-    }
+            }
+    );
 
     /**
      * Returns the shape of the brick
@@ -36,6 +33,15 @@ final class SBrick implements Brick {
      */
     @Override
     public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
+        return ROTATIONS.copyShapes();
+    }
+
+    /**
+     * Returns the precompiled rotations of the brick
+     * @return the shared rotation table
+     */
+    @Override
+    public RotationTable getRotationTable() {
+        return ROTATIONS;
     }
 }
@@ -5,12 +5,15 @@
  * <ul>
  *   <li>{@link com.comp2042.data.ClearRow} – stores the information on the cleared rows/li>
  *   <li>{@link com.comp2042.data.DownData} – store the result of when a piece moves down</li>
+ *   <li>{@link com.comp2042.data.GameStats} – counts the pieces, clears and holds of a game.</li>
+ *   <li>{@link com.comp2042.data.HighScoreStore} – keeps the high scores in memory and saves them in the background.</li>
  *   <li>{@link com.comp2042.data.Level} – manages the current game level.</li>
  *   <li>{@link com.comp2042.data.LinesCleared} – tracks the total number of lines cleared.</li>
  *   <li>{@link com.comp2042.data.MoveEvent} – stores the event source and event type.</li>
  *   <li>{@link com.comp2042.data.NextShapeInfo} – stores information about the next Tetris piece.</li>
  *   <li>{@link com.comp2042.data.SaveData} – handles user's settings and progress data.</li>
  *   <li>{@link com.comp2042.data.Score} – keeps track of the current score.</li>
+ *   <li>{@link com.comp2042.data.Settings} – an in-memory snapshot of the saved settings.</li>
  *   <li>{@link com.comp2042.data.SoundData} – manages game's sound effects.</li>
  * </ul>
  *
@@ -0,0 +1,20 @@
+package com.comp2042.enums;
+
+/**
+ * Represents the things that happen during a game, published on the
+ * {@link com.comp2042.logic.GameEventBus}.
+ * <p>
+ *      Game Event Types include:
+ * </p>
+ * <ul>
+ *     <li>{@code PIECE_LOCKED} : The falling brick was merged into the board. The value is the brick's colour.</li>
+ *     <li>{@code LINES_CLEARED} : Rows were cleared. The value is the number of rows.</li>
+ *     <li>{@code LEVEL_UP} : The player reached a new level. The value is the new level.</li>
+ *     <li>{@code HOLD} : The falling brick was put in the hold slot. The value is the held brick's colour.</li>
+ *     <li>{@code GAME_OVER} : A new brick could not be placed. The value is the final score.</li>
+ * </ul>
+ */
+
+public enum GameEventType {
+    PIECE_LOCKED, LINES_CLEARED, LEVEL_UP, HOLD, GAME_OVER
+}
@@ -0,0 +1,39 @@
+package com.comp2042.enums;
+
+/**
+ * Represents how the playfield is drawn.
+ * <p>
+ *     Render Mode includes:
+ * </p>
+ * <ul>
+ *     <li>
+ *         {@code NODES} draws every cell as a {@code Rectangle} in a {@code GridPane}.
+ *     </li>
+ *     <li>
+ *         {@code CANVAS} draws the board, the falling brick, the ghost piece and the previews
+ *         onto canvases, once per frame, with {@link com.comp2042.view.CanvasRenderer}.
+ *     </li>
+ * </ul>
+ *
+ * <p>
+ * The mode is chosen when the game starts with the {@code tetris.renderer} system property,
+ * for example {@code -Dtetris.renderer=canvas}. The node renderer is used by default.
+ * </p>
+ */
+public enum RenderMode {
+    NODES, CANVAS;
+
+    /**
+     * The system property used to choose the render mode.
+     */
+    public static final String PROPERTY = "tetris.renderer";
+
+    /**
+     * Returns the render mode chosen by the {@code tetris.renderer} system property.
+     *
+     * @return {@code CANVAS} if the property is {@code canvas}, otherwise {@code NODES}
+     */
+    public static RenderMode fromSystemProperty() {
+        return CANVAS.name().equalsIgnoreCase(System.getProperty(PROPERTY)) ? CANVAS : NODES;
+    }
+}
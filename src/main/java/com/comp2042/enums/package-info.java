@@ -7,6 +7,8 @@
  * <ul>
  *   <li>{@link com.comp2042.enums.EventSource} – identifies the source of an event.
  *   <li>{@link com.comp2042.enums.EventType} – categorizes the movement types of events.
+ *   <li>{@link com.comp2042.enums.GameEventType} – lists the game events published on the game event bus.
+ *   <li>{@link com.comp2042.enums.RenderMode} – chooses how the playfield is drawn.
  *   <li>{@link com.comp2042.enums.SaveDataType} – defines type of data save in {@link com.comp2042.data.SaveData}.</li>
  * </ul>
  *
@@ -5,6 +5,8 @@ import com.comp2042.view.ViewData;
 import com.comp2042.data.Level;
 import com.comp2042.data.LinesCleared;
 import com.comp2042.data.Score;
+import com.comp2042.logic.FeatureTracker;
+import com.comp2042.logic.GameEventBus;
 
 /**
  * This interface defines the operations for controlling bricks,
@@ -61,6 +63,13 @@ public interface Board {
      */
     void moveGhostPiece();
 
+    /**
+     * Moves the current brick straight down to where the ghost piece lands.
+     *
+     * @return the number of rows the brick moved down
+     */
+    int hardDropBrick();
+
     /**
      * Merges the current brick into the board matrix.
      */
@@ -81,6 +90,16 @@ public interface Board {
      */
     int[][] getBoardMatrix();
 
+    /**
+     * Returns the rows of the board matrix that changed since the last call, and forgets them.
+     *
+     * <p>Bit {@code r} is set when row {@code r} changed. Rows beyond the 64th are
+     * reported by setting every bit.</p>
+     *
+     * @return the changed rows as a bit mask
+     */
+    long takeChangedRows();
+
     /**
      * Returns visual information required for rendering game.
      *
@@ -88,6 +107,47 @@ public interface Board {
      */
     ViewData getViewData();
 
+    /**
+     * Returns the Zobrist hash of the blocks placed on the board, without the falling brick.
+     *
+     * <p>Boards with the same cells filled have the same hash, whatever the colours of the cells.</p>
+     *
+     * @return the board hash
+     */
+    long getBoardHash();
+
+    /**
+     * Returns the Zobrist hash of the placed blocks together with the falling brick and its position.
+     *
+     * @return the state hash
+     */
+    long getStateHash();
+
+    /**
+     * Returns the tracker of the board features the bot's evaluation reads, kept up to date by the board.
+     *
+     * <p>The tracker follows the placed blocks only, not the falling brick. It may be created
+     * on the first call, so boards that are never asked for it do not keep it up to date.</p>
+     *
+     * @return the board's {@link FeatureTracker}
+     */
+    FeatureTracker getFeatureTracker();
+
+    /**
+     * Returns an upcoming brick without taking it from the {@link BrickGenerator}.
+     *
+     * @param index 0 for the next brick, 1 for the one after it, up to {@link #getPreviewSize()} - 1
+     * @return the upcoming piece data
+     */
+    Brick peekBrick(int index);
+
+    /**
+     * Returns how many upcoming bricks can be seen with {@link #peekBrick(int)}.
+     *
+     * @return the preview depth of the {@link BrickGenerator}
+     */
+    int getPreviewSize();
+
     /**
      * Returns the current score of the player.
      *
@@ -110,6 +170,15 @@ public interface Board {
      */
     Level getLevel();
 
+    /**
+     * Returns the bus on which the board publishes its game events.
+     *
+     * <p>The board only publishes events. They are delivered when the caller drains the bus.</p>
+     *
+     * @return the board's {@link GameEventBus}
+     */
+    GameEventBus getEventBus();
+
     /**
      * Resets the board and starts a new game.
      */
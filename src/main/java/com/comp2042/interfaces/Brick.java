@@ -1,5 +1,7 @@
 package com.comp2042.interfaces;
 
+import com.comp2042.data.bricks.RotationTable;
+
 import java.util.List;
 
 /**
@@ -20,4 +22,15 @@ public interface Brick {
      * @return a {@link List} of 2D integer arrays representing the brick's shape in all rotations
      */
     List<int[][]> getShapeMatrix();
+
+    /**
+     * Returns the precompiled rotations of this brick.
+     * <p>
+     * The table is shared and immutable, so it can be used for collision checks
+     * without copying any matrix.
+     * </p>
+     *
+     * @return the {@link RotationTable} of this brick
+     */
+    RotationTable getRotationTable();
 }
@@ -21,4 +21,27 @@ public interface BrickGenerator {
      * @return the next piece data
      */
     Brick getNextBrick();
+
+    /**
+     * Returns an upcoming brick without removing it from the queue.
+     *
+     * <p>Generators with a deeper queue override this to look further ahead.</p>
+     *
+     * @param index 0 for the next brick, 1 for the one after it, up to {@link #getPreviewSize()} - 1
+     * @return the upcoming piece data
+     * @throws IndexOutOfBoundsException if the queue does not reach that far
+     */
+    default Brick peekBrick(int index) {
+        if (index != 0) throw new IndexOutOfBoundsException(index);
+        return getNextBrick();
+    }
+
+    /**
+     * Returns how many upcoming bricks can always be seen with {@link #peekBrick(int)}.
+     *
+     * @return the preview depth
+     */
+    default int getPreviewSize() {
+        return 1;
+    }
 }
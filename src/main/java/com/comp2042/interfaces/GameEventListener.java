@@ -0,0 +1,23 @@
+package com.comp2042.interfaces;
+
+import com.comp2042.enums.GameEventType;
+
+/**
+ * This interface receives the game events delivered by a {@link com.comp2042.logic.GameEventBus}.
+ * <p>
+ * An event is passed as its type and one number instead of an event object, so
+ * publishing and delivering events creates no objects. The meaning of the number
+ * depends on the type and is described in {@link GameEventType}.
+ * </p>
+ */
+@FunctionalInterface
+public interface GameEventListener {
+
+    /**
+     * Handles one game event.
+     *
+     * @param type the type of the event
+     * @param value the number carried by the event
+     */
+    void onGameEvent(GameEventType type, int value);
+}
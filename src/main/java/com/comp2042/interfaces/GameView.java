@@ -0,0 +1,79 @@
+package com.comp2042.interfaces;
+
+import com.comp2042.view.ViewData;
+import javafx.beans.property.IntegerProperty;
+
+/**
+ * This interface is the display that {@link com.comp2042.controllers.GameController} draws the game on.
+ * <p>
+ * The game screen is implemented by {@link com.comp2042.controllers.GuiController}.
+ * {@link com.comp2042.view.HeadlessGameView} draws nothing, so whole games can be played
+ * without a JavaFX window, for example in tests and benchmarks.
+ * The view also receives the game events delivered after every move.
+ * </p>
+ */
+public interface GameView extends GameEventListener {
+
+    /**
+     * Sets the {@link InputEventListener} that the view sends the player's input to.
+     *
+     * @param eventListener the listener handling input events
+     */
+    void setEventListener(InputEventListener eventListener);
+
+    /**
+     * Shows the board and the first brick of a new game.
+     *
+     * @param boardMatrix the board matrix
+     * @param brick the view data of the current brick
+     */
+    void initGameView(int[][] boardMatrix, ViewData brick);
+
+    /**
+     * Shows the score, updated whenever it changes.
+     *
+     * @param integerProperty the score
+     */
+    void bindScore(IntegerProperty integerProperty);
+
+    /**
+     * Shows the total number of cleared lines, updated whenever it changes.
+     *
+     * @param integerProperty the number of cleared lines
+     */
+    void bindTotalClearedLines(IntegerProperty integerProperty);
+
+    /**
+     * Shows the level, updated whenever it changes.
+     *
+     * @param integerProperty the level
+     */
+    void bindLevel(IntegerProperty integerProperty);
+
+    /**
+     * Sets how fast the bricks fall.
+     *
+     * @param speed the drop interval in milliseconds
+     */
+    void setSpeed(int speed);
+
+    /**
+     * Redraws the changed rows of the board.
+     *
+     * @param board the board matrix
+     * @param changedRows the rows to redraw as a bit mask, or -1 for every row
+     */
+    void refreshGameBackground(int[][] board, long changedRows);
+
+    /**
+     * Redraws the preview of the next brick.
+     *
+     * @param brick the view data holding the next brick
+     */
+    void refreshNextBrick(ViewData brick);
+
+    /**
+     * Shows that the game is over.
+     */
+    void gameOver();
+}
@@ -6,6 +6,8 @@
  *   <li>{@link com.comp2042.interfaces.Board} – defines methods for managing the game board.</li>
  *   <li>{@link com.comp2042.interfaces.Brick} – represents a Tetris piece's structure.</li>
  *   <li>{@link com.comp2042.interfaces.BrickGenerator} – defines the current brick and the next bricks./li>
+ *   <li>{@link com.comp2042.interfaces.GameEventListener} – receives game events from the game event bus.</li>
+ *   <li>{@link com.comp2042.interfaces.GameView} – defines the display that the game controller draws the game on.</li>
  *   <li>{@link com.comp2042.interfaces.InputEventListener} – handles user input events and translates them into game actions.</li>
  * </ul>
  *
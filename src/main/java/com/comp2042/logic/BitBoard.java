@@ -0,0 +1,535 @@
+package com.comp2042.logic;
+
+import com.comp2042.view.ViewData;
+import com.comp2042.data.*;
+import com.comp2042.enums.GameEventType;
+import com.comp2042.interfaces.Board;
+import com.comp2042.interfaces.Brick;
+import com.comp2042.interfaces.BrickGenerator;
+import com.comp2042.data.bricks.RandomBrickGenerator;
+import com.comp2042.data.bricks.RotationTable;
+
+import java.util.Arrays;
+
+/**
+ * This class represents the game board as one occupancy bit mask per row.
+ *
+ * <p>
+ * It behaves exactly like {@link SimpleBoard}, but bit {@code c} of a row mask is set
+ * when column {@code c} of that row is filled. The colour of every cell is kept in a
+ * separate byte plane that is only read when the board matrix is rendered.
+ * </p>
+ *
+ * <p>This class handles the core game logic including: </p>
+ * <ul>
+ *     <li>Testing collisions with a shift and an AND per brick row</li>
+ *     <li>Merging bricks with an OR per brick row</li>
+ *     <li>Detecting full rows by comparing a row mask with the full-row mask</li>
+ *     <li>Creating view data for the GUI</li>
+ * </ul>
+ */
+public class BitBoard implements Board {
+
+    /**
+     * The largest number of columns a row mask can hold.
+     */
+    public static final int MAX_COLUMNS = Integer.SIZE - 1;
+
+    /**
+     * The shared result for a lock that cleared no rows.
+     */
+    private static final int[] NO_ROWS = new int[0];
+
+    private final int rows, columns;
+    private final int fullRow;
+    private final int[] rowMasks;
+    private final byte[] colorPlane;
+    private final int[][] boardMatrix;
+    /** The rows of {@link #boardMatrix} not yet rebuilt from the colour plane, marked like {@link #changedRows}. */
+    private long staleRows = -1L;
+    private final BrickGenerator brickGenerator;
+    private final BrickRotator brickRotator;
+    private int currentX, currentY, ghostY;
+    private long version;
+    private long changedRows = -1L;
+    private ViewData viewData;
+    private final GameEventBus eventBus = new GameEventBus();
+    private int mergedTop, mergedBottom;
+    private final Zobrist zobrist;
+    private long boardHash;
+    /** Created by {@link #getFeatureTracker()} when first asked for. */
+    private FeatureTracker features;
+    private final Score score;
+    private final LinesCleared totalLinesCleared;
+    private final Level level;
+
+    /**
+     * Constructs a {@code BitBoard} with the same dimensions as {@link SimpleBoard#SimpleBoard(int, int)}.
+     *
+     * @param width  the number of rows in the board matrix
+     * @param height the number of columns in the board matrix
+     */
+    public BitBoard(int width, int height) {
+        this(width, height, new RandomBrickGenerator());
+    }
+
+    /**
+     * Constructs a {@code BitBoard} that draws its bricks from the given generator.
+     *
+     * @param width  the number of rows in the board matrix
+     * @param height the number of columns in the board matrix, at most {@link #MAX_COLUMNS}
+     * @param brickGenerator the source of new bricks
+     * @throws IllegalArgumentException if the board is too wide for a row mask
+     */
+    public BitBoard(int width, int height, BrickGenerator brickGenerator) {
+        if (height > MAX_COLUMNS) {
+            throw new IllegalArgumentException("A BitBoard holds at most " + MAX_COLUMNS + " columns: " + height);
+        }
+        this.rows = width;
+        this.columns = height;
+        fullRow = (1 << columns) - 1;
+        rowMasks = new int[rows];
+        colorPlane = new byte[rows * columns];
+        boardMatrix = new int[rows][columns];
+        zobrist = new Zobrist(rows, columns);
+        this.brickGenerator = brickGenerator;
+        brickRotator = new BrickRotator();
+        resetMergedRows();
+
+        score = new Score();
+        totalLinesCleared = new LinesCleared();
+        level = new Level();
+    }
+
+    // Brick Movement
+    /**
+     * Move the current brick down by one row.
+     *
+     * @return {@code true} if the brick moves, {@code false} if it collides
+     */
+    @Override
+    public boolean moveBrickDown() {
+        if (collides(brickRotator.getCurrentMask(), currentX, currentY + 1)) {
+            return false;
+        }
+        currentY++;
+        version++;
+        return true;
+    }
+
+    /**
+     * Move the current brick left by one column.
+     *
+     * @return {@code true} if the brick moves, {@code false} if it collides
+     */
+    @Override
+    public boolean moveBrickLeft() {
+        if (collides(brickRotator.getCurrentMask(), currentX - 1, currentY)) {
+            return false;
+        }
+        currentX--;
+        version++;
+        return true;
+    }
+
+    /**
+     * Move the current brick right by one column.
+     *
+     * @return {@code true} if the brick moves, {@code false} if it collides
+     */
+    @Override
+    public boolean moveBrickRight() {
+        if (collides(brickRotator.getCurrentMask(), currentX + 1, currentY)) {
+            return false;
+        }
+        currentX++;
+        version++;
+        return true;
+    }
+
+    /**
+     * Rotate the brick counter-clockwise if the next rotation does not collide.
+     *
+     * @return {@code true} if the brick rotates, {@code false} if it collides
+     */
+    @Override
+    public boolean rotateLeftBrick() {
+        int nextRotation = brickRotator.getNextRotation();
+        if (collides(brickRotator.getMask(nextRotation), currentX, currentY)) {
+            return false;
+        }
+        brickRotator.setCurrentShape(nextRotation);
+        version++;
+        return true;
+    }
+
+    /**
+     * Allows player to hold the brick, following the same rules as {@link SimpleBoard#holdBrick()}.
+     *
+     * @return {@code true} if holding or swapping was successful, {@code false} if blocked
+     */
+    @Override
+    public boolean holdBrick() {
+        RotationTable holdRotations = brickRotator.getHoldRotationTable();
+        if (holdRotations == null) {
+            if (collides(brickGenerator.getNextBrick().getRotationTable().getMask(0), currentX, currentY)) {
+                return false;
+            }
+            brickRotator.setHoldBrick();
+            createNewBrick(currentX, currentY);
+            eventBus.publish(GameEventType.HOLD, brickRotator.getHoldRotationTable().getColor());
+            return true;
+        } else if (!collides(holdRotations.getMask(0), currentX, currentY)) {
+            brickRotator.setHoldBrick();
+            version++;
+            eventBus.publish(GameEventType.HOLD, brickRotator.getHoldRotationTable().getColor());
+            return true;
+        }
+        return false;
+    }
+//
+
+    /**
+     * Creates a new brick at the specified coordinates.
+     *
+     * @param x the column of the board matrix
+     * @param y the row of the board matrix
+     * @return {@code true} if the new brick collides, {@code false} otherwise
+     */
+    @Override
+    public boolean createNewBrick(int x, int y) {
+        brickRotator.setBrick(brickGenerator.getBrick());
+        currentX = x;
+        currentY = y;
+        version++;
+        moveGhostPiece();
+        return collides(brickRotator.getCurrentMask(), currentX, currentY);
+    }
+
+    /**
+     * Drops the ghost piece row by row until the next row would collide.
+     */
+    @Override
+    public void moveGhostPiece() {
+        int mask = brickRotator.getCurrentMask();
+        int y = currentY;
+        while (!collides(mask, currentX, y + 1)) {
+            y++;
+        }
+        if (ghostY != y) {
+            ghostY = y;
+            version++;
+        }
+    }
+
+    /**
+     * Drops the current brick straight to the row found by {@link #moveGhostPiece()}.
+     *
+     * @return the number of rows the brick moved down
+     */
+    @Override
+    public int hardDropBrick() {
+        moveGhostPiece();
+        int distance = ghostY - currentY;
+        currentY = ghostY;
+        version++;
+        return distance;
+    }
+
+    /**
+     * Merges the current brick into the row masks and the colour plane.
+     */
+    @Override
+    public void mergeBrickToBackground() {
+        RotationTable rotations = brickRotator.getRotationTable();
+        int rotation = brickRotator.getCurrentRotation();
+        byte color = (byte) rotations.getColor();
+        if (features != null) features.place(rotations.getMask(rotation), currentX, currentY);
+        for (int j = 0; j < RotationTable.SIZE; j++) {
+            int bits = shift(rotations.getRowMask(rotation, j), currentX);
+            if (bits == 0) continue;
+            int row = currentY + j;
+            rowMasks[row] |= bits;
+            boardHash ^= zobrist.row(row, bits);
+            mergedTop = Math.min(mergedTop, row);
+            mergedBottom = Math.max(mergedBottom, row);
+            changedRows |= MatrixOperations.rowRange(row, row);
+            staleRows |= MatrixOperations.rowRange(row, row);
+            while (bits != 0) {
+                colorPlane[row * columns + Integer.numberOfTrailingZeros(bits)] = color;
+                bits &= bits - 1;
+            }
+        }
+        eventBus.publish(GameEventType.PIECE_LOCKED, color);
+    }
+
+    /**
+     * Removes every full row, moving the rows above it down in place.
+     *
+     * <p>A row is full when its mask equals the full-row mask. Only the rows
+     * touched since the last call are checked. Each cleared row is XOR-ed out of
+     * the board hash, and each moved row is XOR-ed out at its old row and in at
+     * its new one. A {@link FeatureTracker} in use removes the same rows from its columns.
+     * The number of cleared rows is published on the event bus.</p>
+     *
+     * @return the result of the row clearing operation
+     */
+    @Override
+    public ClearRow clearRows() {
+        int top = mergedTop, bottom = mergedBottom;
+        resetMergedRows();
+        int removed = 0;
+        for (int row = top; row <= bottom; row++) {
+            if (rowMasks[row] == fullRow) removed++;
+        }
+        if (removed == 0) {
+            return new ClearRow(NO_ROWS, getBoardMatrix(), 0);
+        }
+
+        int[] clearedRows = new int[removed];
+        int found = removed;
+        int write = bottom;
+        for (int read = bottom; read >= 0; read--) {
+            if (read >= top && rowMasks[read] == fullRow) {
+                clearedRows[--found] = read;
+                boardHash ^= zobrist.row(read, fullRow);
+                continue;
+            }
+            if (write != read) {
+                boardHash ^= zobrist.row(read, rowMasks[read]) ^ zobrist.row(write, rowMasks[read]);
+                rowMasks[write] = rowMasks[read];
+                System.arraycopy(colorPlane, read * columns, colorPlane, write * columns, columns);
+            }
+            write--;
+        }
+        for (; write >= 0; write--) {
+            rowMasks[write] = 0;
+            Arrays.fill(colorPlane, write * columns, (write + 1) * columns, (byte) 0);
+        }
+        if (features != null) features.clearFullRows();
+        staleRows |= MatrixOperations.rowRange(0, bottom);
+        changedRows |= MatrixOperations.rowRange(0, bottom);
+        eventBus.publish(GameEventType.LINES_CLEARED, removed);
+        return new ClearRow(clearedRows, getBoardMatrix(), 50 * removed * removed);
+    }
+
+    private void resetMergedRows() {
+        mergedTop = rows;
+        mergedBottom = -1;
+    }
+
+    /**
+     * Tests the brick rows against the row masks.
+     *
+     * @param mask the 16-bit mask of the brick from its {@link RotationTable}
+     * @param x the column of the top-left corner of the brick
+     * @param y the row of the top-left corner of the brick
+     * @return {@code true} if the brick collides or is out of bounds; {@code false} otherwise
+     */
+    private boolean collides(int mask, int x, int y) {
+        if (x <= -Integer.SIZE || x >= columns) {
+            return true;
+        }
+        for (int j = 0; j < RotationTable.SIZE; j++) {
+            int bits = (mask >>> (j * RotationTable.SIZE)) & 0xF;
+            if (bits == 0) continue;
+            int row = y + j;
+            if (row < 0 || row >= rows) {
+                return true;
+            }
+            if (x < 0 && (bits & ((1 << -x) - 1)) != 0) {
+                return true; // cut off by the left wall
+            }
+            int shifted = shift(bits, x);
+            if ((shifted & ~fullRow) != 0 || (shifted & rowMasks[row]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int shift(int bits, int x) {
+        return x >= 0 ? bits << x : bits >>> -x;
+    }
+
+//Getters
+    /**
+     * Returns the board matrix, rebuilding from the colour plane only the rows changed since the last call.
+     *
+     * @return the matrix representing the current state of the board
+     */
+    @Override
+    public int[][] getBoardMatrix() {
+        if (staleRows == -1L) {
+            for (int r = 0; r < rows; r++) {
+                rebuildRow(r);
+            }
+        } else {
+            for (long stale = staleRows; stale != 0; stale &= stale - 1) {
+                rebuildRow(Long.numberOfTrailingZeros(stale));
+            }
+        }
+        staleRows = 0;
+        return boardMatrix;
+    }
+
+    private void rebuildRow(int r) {
+        for (int c = 0; c < columns; c++) {
+            boardMatrix[r][c] = colorPlane[r * columns + c];
+        }
+    }
+
+    /**
+     * Returns the rows changed by merges, line clears and new games since the last call.
+     *
+     * @return the changed rows as a bit mask
+     */
+    @Override
+    public long takeChangedRows() {
+        long rows = changedRows;
+        changedRows = 0;
+        return rows;
+    }
+
+    /**
+     * Returns a {@link ViewData} that contains all graphics information
+     * of the board and bricks in the GUI.
+     *
+     * <p>The same snapshot is returned until the board's version changes,
+     * as in {@link SimpleBoard#getViewData()}.</p>
+     *
+     * @return the view data for the current game state
+     */
+    @Override
+    public ViewData getViewData() {
+        if (viewData == null || viewData.getVersion() != version) {
+            viewData = new ViewData(version, brickRotator.getRotationTable(), brickRotator.getCurrentRotation(), currentX, currentY,
+                    brickGenerator.getNextBrick().getRotationTable(), brickRotator.getHoldRotationTable(), currentX, ghostY);
+        }
+        return viewData;
+    }
+
+    /**
+     * Returns the Zobrist hash of the placed blocks.
+     *
+     * <p>The hash is updated as bricks are merged and rows are cleared, not worked out on each call.</p>
+     *
+     * @return the XOR of the {@link Zobrist} keys of the filled cells
+     */
+    @Override
+    public long getBoardHash() {
+        return boardHash;
+    }
+
+    /**
+     * Returns the Zobrist hash of the placed blocks and the falling brick.
+     *
+     * @return the board hash XOR-ed with the key of the current brick at its position
+     */
+    @Override
+    public long getStateHash() {
+        return boardHash ^ Zobrist.piece(brickRotator.getRotationTable().getColor(),
+                brickRotator.getCurrentRotation(), currentX, currentY);
+    }
+
+    /**
+     * Returns the features of the placed blocks.
+     *
+     * <p>The tracker is created from the board matrix on the first call. From then on it is
+     * updated as bricks are merged and rows are cleared, not worked out on each call, so a
+     * board that is never asked for its features does no work for them.</p>
+     *
+     * @return the board's {@link FeatureTracker}
+     * @throws IllegalArgumentException if the board has more rows than a {@link FeatureTracker} holds
+     */
+    @Override
+    public FeatureTracker getFeatureTracker() {
+        if (features == null) {
+            features = new FeatureTracker(rows, columns);
+            features.load(getBoardMatrix());
+        }
+        return features;
+    }
+
+    /**
+     * Returns an upcoming brick from the {@link BrickGenerator}'s queue.
+     *
+     * @param index 0 for the next brick, 1 for the one after it
+     * @return the upcoming piece data
+     */
+    @Override
+    public Brick peekBrick(int index) {
+        return brickGenerator.peekBrick(index);
+    }
+
+    /**
+     * Returns how many upcoming bricks the {@link BrickGenerator} shows.
+     *
+     * @return the preview depth
+     */
+    @Override
+    public int getPreviewSize() {
+        return brickGenerator.getPreviewSize();
+    }
+
+    /**
+     * Returns the current score.
+     *
+     * @return the current score
+     */
+    @Override
+    public Score getScore() {
+        return score;
+    }
+
+    /**
+     * Returns the total number of cleared lines.
+     *
+     * @return the number lines cleared
+     */
+    @Override
+    public LinesCleared getTotalLinesCleared() {
+        return totalLinesCleared;
+    }
+
+    /**
+     * Returns the current game level.
+     *
+     * @return the current level
+     */
+    @Override
+    public Level getLevel() {
+        return level;
+    }
+
+    /**
+     * Returns the bus on which this board publishes locked pieces, cleared rows and holds.
+     *
+     * @return the board's event bus
+     */
+    @Override
+    public GameEventBus getEventBus() {
+        return eventBus;
+    }
+//
+
+    /**
+     * Starts a new game by clearing the row masks and colour plane and creating the first brick.
+     */
+    @Override
+    public void newGame() {
+        Arrays.fill(rowMasks, 0);
+        Arrays.fill(colorPlane, (byte) 0);
+        staleRows = -1L;
+        resetMergedRows();
+        boardHash = 0;
+        if (features != null) features.reset();
+        changedRows = -1L;
+        eventBus.clear();
+        score.reset();
+        totalLinesCleared.reset();
+        level.reset();
+        brickRotator.resetHoldBrick();
+        createNewBrick(4, 0);
+    }
+}
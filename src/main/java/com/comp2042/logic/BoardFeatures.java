@@ -0,0 +1,96 @@
+package com.comp2042.logic;
+
+/**
+ * The features of a board that the bot's evaluation reads, as filled in by a {@link FeatureTracker}.
+ *
+ * <p>
+ * One object is filled again for every placement looked at, so reading the features of a
+ * placement does not create any objects.
+ * </p>
+ */
+public final class BoardFeatures {
+
+    int lines;
+    int aggregateHeight;
+    int holes;
+    int bumpiness;
+    int rowTransitions;
+    int columnTransitions;
+    int wells;
+
+    void set(int lines, int aggregateHeight, int holes, int bumpiness, int rowTransitions, int columnTransitions, int wells) {
+        this.lines = lines;
+        this.aggregateHeight = aggregateHeight;
+        this.holes = holes;
+        this.bumpiness = bumpiness;
+        this.rowTransitions = rowTransitions;
+        this.columnTransitions = columnTransitions;
+        this.wells = wells;
+    }
+
+    /**
+     * Returns the number of full rows removed by the placement.
+     *
+     * @return the lines cleared, 0 for the features of the board itself
+     */
+    public int getLines() {
+        return lines;
+    }
+
+    /**
+     * Returns the sum of the column heights.
+     *
+     * @return the aggregate height
+     */
+    public int getAggregateHeight() {
+        return aggregateHeight;
+    }
+
+    /**
+     * Returns the number of empty cells with a block somewhere above them in the same column.
+     *
+     * @return the holes
+     */
+    public int getHoles() {
+        return holes;
+    }
+
+    /**
+     * Returns the sum of the height differences of neighbouring columns.
+     *
+     * @return the bumpiness
+     */
+    public int getBumpiness() {
+        return bumpiness;
+    }
+
+    /**
+     * Returns the number of times a row changes between filled and empty, with the side walls counted as filled.
+     *
+     * @return the row transitions
+     */
+    public int getRowTransitions() {
+        return rowTransitions;
+    }
+
+    /**
+     * Returns the number of times a column changes between filled and empty, with the floor counted as filled.
+     *
+     * @return the column transitions
+     */
+    public int getColumnTransitions() {
+        return columnTransitions;
+    }
+
+    /**
+     * Returns the cumulative well depth.
+     *
+     * <p>A well cell is an empty cell above the top of its column with both neighbours filled.
+     * A well of depth {@code d} counts {@code 1 + 2 + ... + d}, so deep wells weigh more.</p>
+     *
+     * @return the sum over all wells
+     */
+    public int getWells() {
+        return wells;
+    }
+}
@@ -1,6 +1,7 @@
 package com.comp2042.logic;
 
 import com.comp2042.data.NextShapeInfo;
+import com.comp2042.data.bricks.RotationTable;
 import com.comp2042.interfaces.Brick;
 
 /**
@@ -9,7 +10,7 @@ import com.comp2042.interfaces.Brick;
  * <p>The class is responsible for: </p>
  * <ul>
  *     <li>Tracking the current rotation of the active brick</li>
- *     <li>Return the active brick shape</li>
+ *     <li>Return the active brick shape and its precompiled mask</li>
  *     <li>Manage the hold brick</li>
  * </ul>
  */
@@ -41,20 +42,70 @@ public class BrickRotator {
      */
 
     public NextShapeInfo getNextShape() {
-        int nextShape = currentShape;
-        nextShape = (++nextShape) % brick.getShapeMatrix().size();
+        int nextShape = getNextRotation();
+        return new NextShapeInfo(brick.getRotationTable().getShape(nextShape), nextShape);
+    }
+
+    /**
+     * Returns the index of the next rotation of the current brick without creating any objects.
+     *
+     * @return the rotation index that follows the current one
+     */
+    public int getNextRotation() {
         // % to make sure it loops back to 0 after reaching the last shape.
-        return new NextShapeInfo(brick.getShapeMatrix().get(nextShape), nextShape);
+        return (currentShape + 1) % brick.getRotationTable().size();
     }
 
     /**
      * Returns the current rotation of the active brick.
      *
+     * <p>The matrix comes from the brick's {@link RotationTable} and must not be modified.</p>
+     *
      * @return 2D integer array representing the current shape matrix
      */
 
     public int[][] getCurrentShape() {
-        return brick.getShapeMatrix().get(currentShape);
+        return brick.getRotationTable().getShape(currentShape);
+    }
+
+    /**
+     * Returns the 16-bit mask of the current rotation of the active brick.
+     *
+     * @return the packed shape from the brick's {@link RotationTable}
+     */
+    public int getCurrentMask() {
+        return brick.getRotationTable().getMask(currentShape);
+    }
+
+    /**
+     * Returns the 16-bit mask of a rotation of the active brick.
+     *
+     * @param rotation the rotation index
+     * @return the packed shape from the brick's {@link RotationTable}
+     */
+    public int getMask(int rotation) {
+        return brick.getRotationTable().getMask(rotation);
+    }
+
+    /**
+     * Returns the precompiled rotations of the active brick.
+     *
+     * @return the active brick's {@link RotationTable}
+     */
+    public RotationTable getRotationTable() {
+        return brick.getRotationTable();
+    }
+
+    /**
+     * Returns a rotation of the active brick.
+     *
+     * <p>The matrix comes from the brick's {@link RotationTable} and must not be modified.</p>
+     *
+     * @param rotation the rotation index
+     * @return 2D integer array representing the shape matrix of that rotation
+     */
+    public int[][] getShape(int rotation) {
+        return brick.getRotationTable().getShape(rotation);
     }
 
     /**
@@ -66,7 +117,26 @@ public class BrickRotator {
      */
     public int[][] getHoldBrick() {
         if (holdBrick == null) return null;
-        return holdBrick.getShapeMatrix().getFirst();
+        return holdBrick.getRotationTable().getShape(0);
+    }
+
+    /**
+     * Returns the precompiled rotations of the held brick.
+     *
+     * @return the held brick's {@link RotationTable}, or {@code null} if none is held
+     */
+    public RotationTable getHoldRotationTable() {
+        if (holdBrick == null) return null;
+        return holdBrick.getRotationTable();
+    }
+
+    /**
+     * Returns the rotation index of the active brick.
+     *
+     * @return the current rotation index
+     */
+    public int getCurrentRotation() {
+        return currentShape;
     }
 
     /* Setters */
@@ -0,0 +1,275 @@
+package com.comp2042.logic;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the {@link BoardFeatures} of a board up to date as bricks are merged and rows are cleared.
+ *
+ * <p>
+ * The board is held as one occupancy bit mask per column, bit {@code r} being set when row
+ * {@code r} of the column is filled, so the height, holes and transitions of a column are a
+ * few bit operations. Every feature is a sum of terms that each read one column, two
+ * neighbouring columns or, for wells, three. Merging a brick only changes the columns it
+ * covers, so only the terms that read those columns are taken out of the totals and added
+ * back. Clearing rows moves every column, and all the terms are worked out again.
+ * </p>
+ *
+ * <p>
+ * {@link #whatIf(int, int, int, BoardFeatures)} gives the features of the board with a
+ * brick placed on it without changing or copying anything: the brick's cells are OR-ed into
+ * the column masks as they are read. It only reads the tracker, so many threads can call it
+ * at once while the tracker is not being changed.
+ * </p>
+ */
+public final class FeatureTracker {
+
+    /** The largest number of rows a column mask can hold. */
+    public static final int MAX_ROWS = Long.SIZE - 1;
+
+    private final int rows;
+    private final int columns;
+    /** Every row of a column, also used for the walls on each side. */
+    private final long full;
+    private final long floor;
+    private final long[] columnMasks;
+    private final int[] rowFill;
+    private final BoardFeatures totals = new BoardFeatures();
+    /** The full rows left by merges since the last {@link #clearFullRows()}. */
+    private long fullRows;
+
+    /**
+     * Creates a tracker for an empty board.
+     *
+     * @param rows the number of rows of the board, at most {@link #MAX_ROWS}
+     * @param columns the number of columns of the board
+     * @throws IllegalArgumentException if the board is too tall for a column mask
+     */
+    public FeatureTracker(int rows, int columns) {
+        if (rows > MAX_ROWS) {
+            throw new IllegalArgumentException("A FeatureTracker holds at most " + MAX_ROWS + " rows: " + rows);
+        }
+        this.rows = rows;
+        this.columns = columns;
+        full = (1L << rows) - 1;
+        floor = 1L << (rows - 1);
+        columnMasks = new long[columns];
+        rowFill = new int[rows];
+        reset();
+    }
+
+    /**
+     * Empties the board.
+     */
+    public void reset() {
+        Arrays.fill(columnMasks, 0);
+        Arrays.fill(rowFill, 0);
+        fullRows = 0;
+        recompute();
+    }
+
+    /**
+     * Replaces the board with the filled cells of a matrix.
+     *
+     * @param matrix the board matrix, of the tracker's size
+     */
+    public void load(int[][] matrix) {
+        Arrays.fill(columnMasks, 0);
+        Arrays.fill(rowFill, 0);
+        fullRows = 0;
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                if (matrix[row][column] != 0) {
+                    columnMasks[column] |= 1L << row;
+                    rowFill[row]++;
+                }
+            }
+            if (rowFill[row] == columns) fullRows |= 1L << row;
+        }
+        recompute();
+    }
+
+    /**
+     * Merges a brick, updating only the terms of the columns it covers.
+     *
+     * @param brickMask the brick shape, bit {@code row * 4 + column} being one cell
+     * @param x the column of the brick
+     * @param y the row of the brick
+     */
+    public void place(int brickMask, int x, int y) {
+        int from = firstColumn(brickMask, x);
+        int to = lastColumn(brickMask, x);
+        accumulate(totals, from, to, 0, 0, 0, 0, -1);
+        for (int column = from; column <= to; column++) {
+            columnMasks[column] |= brickColumn(brickMask, x, y, column);
+        }
+        for (int j = 0; j < 4; j++) {
+            int cells = Integer.bitCount(brickMask >>> (j * 4) & 0xF);
+            if (cells == 0) continue;
+            rowFill[y + j] += cells;
+            if (rowFill[y + j] == columns) fullRows |= 1L << (y + j);
+        }
+        accumulate(totals, from, to, 0, 0, 0, 0, 1);
+    }
+
+    /**
+     * Removes the rows filled by the merges since the last call, moving the rows above them down.
+     *
+     * <p>A full row covers every column, so when rows are removed every term is worked out again.</p>
+     *
+     * @return the removed rows as a bit mask, 0 if no row was full
+     */
+    public long clearFullRows() {
+        long cleared = fullRows;
+        if (cleared == 0) return 0;
+        fullRows = 0;
+        for (int column = 0; column < columns; column++) {
+            columnMasks[column] = compress(columnMasks[column], cleared);
+        }
+        int write = rows - 1;
+        for (int read = rows - 1; read >= 0; read--) {
+            if ((cleared >>> read & 1) == 0) rowFill[write--] = rowFill[read];
+        }
+        for (; write >= 0; write--) {
+            rowFill[write] = 0;
+        }
+        recompute();
+        return cleared;
+    }
+
+    /**
+     * Fills in the features the board would have with a brick placed on it and the full rows removed.
+     *
+     * <p>
+     * Neither the tracker nor the board is changed. When the brick completes no row, only the
+     * terms of the columns around the brick are worked out; otherwise every column is read once.
+     * </p>
+     *
+     * @param brickMask the brick shape, bit {@code row * 4 + column} being one cell
+     * @param x the column of the brick
+     * @param y the row of the brick
+     * @param out the features to fill in
+     * @return {@code out}
+     */
+    public BoardFeatures whatIf(int brickMask, int x, int y, BoardFeatures out) {
+        long cleared = 0;
+        for (int j = 0; j < 4; j++) {
+            int cells = Integer.bitCount(brickMask >>> (j * 4) & 0xF);
+            if (cells != 0 && rowFill[y + j] + cells == columns) cleared |= 1L << (y + j);
+        }
+        if (cleared == 0) {
+            int from = firstColumn(brickMask, x);
+            int to = lastColumn(brickMask, x);
+            out.set(0, totals.aggregateHeight, totals.holes, totals.bumpiness,
+                    totals.rowTransitions, totals.columnTransitions, totals.wells);
+            accumulate(out, from, to, 0, 0, 0, 0, -1);
+            accumulate(out, from, to, brickMask, x, y, 0, 1);
+        } else {
+            out.set(Long.bitCount(cleared), 0, 0, 0, 0, 0, 0);
+            accumulate(out, 0, columns - 1, brickMask, x, y, cleared, 1);
+        }
+        return out;
+    }
+
+    /**
+     * Returns the features of the board, which change as the tracker is updated.
+     *
+     * @return the current features; their line count is always 0
+     */
+    public BoardFeatures getFeatures() {
+        return totals;
+    }
+
+    /**
+     * Returns the height of one column.
+     *
+     * @param column the column index
+     * @return the number of rows from the floor to the highest filled cell, 0 for an empty column
+     */
+    public int getColumnHeight(int column) {
+        return height(columnMasks[column]);
+    }
+
+    private void recompute() {
+        totals.set(0, 0, 0, 0, 0, 0, 0);
+        accumulate(totals, 0, columns - 1, 0, 0, 0, 0, 1);
+    }
+
+    /**
+     * Adds, or with a sign of -1 takes away, every term that reads a column from {@code from} to {@code to}.
+     */
+    private void accumulate(BoardFeatures features, int from, int to, int brickMask, int x, int y, long cleared, int sign) {
+        for (int column = from; column <= to; column++) {
+            long bits = column(column, brickMask, x, y, cleared);
+            features.aggregateHeight += sign * height(bits);
+            features.holes += sign * (height(bits) - Long.bitCount(bits));
+            features.columnTransitions += sign * Long.bitCount((bits ^ (bits >>> 1 | floor)) & full);
+        }
+        // the boundary left of each column, and the one right of the last
+        long left = column(from - 1, brickMask, x, y, cleared);
+        for (int column = from; column <= to + 1; column++) {
+            long right = column(column, brickMask, x, y, cleared);
+            features.rowTransitions += sign * Long.bitCount((left ^ right) & full);
+            if (column > 0 && column < columns) {
+                features.bumpiness += sign * Math.abs(height(left) - height(right));
+            }
+            left = right;
+        }
+        for (int column = Math.max(from - 1, 0); column <= Math.min(to + 1, columns - 1); column++) {
+            features.wells += sign * wells(column(column - 1, brickMask, x, y, cleared),
+                    column(column, brickMask, x, y, cleared), column(column + 1, brickMask, x, y, cleared));
+        }
+    }
+
+    /**
+     * Returns a column mask with the brick merged and the cleared rows removed. The walls are full.
+     */
+    private long column(int column, int brickMask, int x, int y, long cleared) {
+        if (column < 0 || column >= columns) return full;
+        long bits = columnMasks[column] | brickColumn(brickMask, x, y, column);
+        return cleared == 0 ? bits : compress(bits, cleared);
+    }
+
+    private long compress(long bits, long cleared) {
+        // the kept rows keep their order and settle at the bottom
+        return Long.compress(bits, full & ~cleared) << Long.bitCount(cleared);
+    }
+
+    private int height(long bits) {
+        return bits == 0 ? 0 : rows - Long.numberOfTrailingZeros(bits);
+    }
+
+    private int wells(long left, long bits, long right) {
+        long above = bits == 0 ? full : (1L << Long.numberOfTrailingZeros(bits)) - 1;
+        long cells = above & left & right;
+        int sum = 0;
+        while (cells != 0) {
+            int start = Long.numberOfTrailingZeros(cells);
+            int depth = Long.numberOfTrailingZeros(~(cells >>> start));
+            sum += depth * (depth + 1) / 2;
+            cells ^= ((1L << depth) - 1) << start;
+        }
+        return sum;
+    }
+
+    private static long brickColumn(int brickMask, int x, int y, int column) {
+        int dx = column - x;
+        if (brickMask == 0 || dx < 0 || dx >= 4) return 0;
+        long bits = 0;
+        for (int j = 0; j < 4; j++) {
+            if ((brickMask >>> (j * 4 + dx) & 1) != 0) bits |= 1L << (y + j);
+        }
+        return bits;
+    }
+
+    private static int firstColumn(int brickMask, int x) {
+        return x + Integer.numberOfTrailingZeros(columnsOf(brickMask));
+    }
+
+    private static int lastColumn(int brickMask, int x) {
+        return x + Integer.SIZE - 1 - Integer.numberOfLeadingZeros(columnsOf(brickMask));
+    }
+
+    private static int columnsOf(int brickMask) {
+        return (brickMask | brickMask >>> 4 | brickMask >>> 8 | brickMask >>> 12) & 0xF;
+    }
+}
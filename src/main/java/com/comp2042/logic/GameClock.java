@@ -0,0 +1,197 @@
+package com.comp2042.logic;
+
+import java.util.function.IntConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * A countdown clock for timed game modes, measured with a monotonic time source.
+ *
+ * <p>
+ * The clock does not run a thread. The elapsed time is worked out from the time source
+ * whenever it is asked for, and time spent paused is left out, so pausing and resuming
+ * never adds or loses time. The owner calls {@link #update()} regularly, for example on
+ * every JavaFX pulse, which reports each new second and fires the time-up action once,
+ * on the first update after the deadline.
+ * </p>
+ *
+ * <p>
+ * The time source is {@link System#nanoTime()} by default and can be replaced, so tests
+ * can move the time forward themselves. The clock is not thread safe and is meant to be
+ * used on one thread.
+ * </p>
+ */
+public class GameClock {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final LongSupplier nanoTime;
+
+    private long durationNanos;
+    /** The time counted before the clock was last started or resumed. */
+    private long elapsedBefore;
+    /** The time source reading when the clock was last started or resumed. */
+    private long runningSince;
+    private boolean running;
+    private boolean expiredFired;
+    private int reportedSeconds = -1;
+
+    private Runnable onExpired;
+    private IntConsumer onSecond;
+
+    /**
+     * Creates a clock measured with {@link System#nanoTime()}.
+     */
+    public GameClock() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * Creates a clock measured with the given time source.
+     *
+     * @param nanoTime returns the current time in nanoseconds; only differences between readings are used
+     */
+    public GameClock(LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Sets the length of the countdown and resets the clock.
+     *
+     * @param seconds the countdown length in seconds, or 0 for a clock that never runs out
+     */
+    public void setDuration(int seconds) {
+        durationNanos = seconds * NANOS_PER_SECOND;
+        reset();
+    }
+
+    /**
+     * Sets the action run once when the countdown reaches zero.
+     *
+     * @param onExpired the time-up action, or {@code null} for none
+     */
+    public void setOnExpired(Runnable onExpired) {
+        this.onExpired = onExpired;
+    }
+
+    /**
+     * Sets the action run by {@link #update()} whenever the number of whole seconds left changes.
+     *
+     * @param onSecond receives the seconds left, or {@code null} for none
+     */
+    public void setOnSecond(IntConsumer onSecond) {
+        this.onSecond = onSecond;
+    }
+
+    /**
+     * Starts or resumes the countdown. Does nothing if the clock is already running.
+     */
+    public void start() {
+        if (running) return;
+        runningSince = nanoTime.getAsLong();
+        running = true;
+    }
+
+    /**
+     * Pauses or resumes the countdown.
+     *
+     * @param paused {@code true} to pause, {@code false} to resume
+     */
+    public void pause(boolean paused) {
+        if (!paused) {
+            start();
+        } else if (running) {
+            elapsedBefore += nanoTime.getAsLong() - runningSince;
+            running = false;
+        }
+    }
+
+    /**
+     * Stops the countdown, keeping the time counted so far.
+     */
+    public void stop() {
+        pause(true);
+    }
+
+    /**
+     * Stops the clock and sets it back to the full duration.
+     */
+    public void reset() {
+        running = false;
+        elapsedBefore = 0;
+        expiredFired = false;
+        reportedSeconds = -1;
+    }
+
+    /**
+     * Reports a new second to the second listener and fires the time-up action
+     * if the deadline has passed since the last update.
+     */
+    public void update() {
+        int seconds = getRemainingSeconds();
+        if (seconds != reportedSeconds) {
+            reportedSeconds = seconds;
+            if (onSecond != null) onSecond.accept(seconds);
+        }
+        if (running && isExpired() && !expiredFired) {
+            expiredFired = true;
+            elapsedBefore = durationNanos;
+            running = false;
+            if (onExpired != null) onExpired.run();
+        }
+    }
+
+// Getters
+    /**
+     * Returns the time counted so far, not including time spent paused.
+     *
+     * @return the elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return running ? elapsedBefore + nanoTime.getAsLong() - runningSince : elapsedBefore;
+    }
+
+    /**
+     * Returns the time left before the countdown reaches zero.
+     *
+     * @return the remaining time in nanoseconds, never below 0
+     */
+    public long getRemainingNanos() {
+        return Math.max(0, durationNanos - getElapsedNanos());
+    }
+
+    /**
+     * Returns the whole seconds left, rounded up, so the display reaches 0 exactly at time-up.
+     *
+     * @return the seconds left
+     */
+    public int getRemainingSeconds() {
+        return (int) ((getRemainingNanos() + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+    }
+
+    /**
+     * Returns the length of the countdown.
+     *
+     * @return the duration in seconds, or 0 if the clock never runs out
+     */
+    public int getDurationSeconds() {
+        return (int) (durationNanos / NANOS_PER_SECOND);
+    }
+
+    /**
+     * Returns whether the countdown has reached zero.
+     *
+     * @return {@code true} if the clock has a duration and no time is left
+     */
+    public boolean isExpired() {
+        return durationNanos > 0 && getRemainingNanos() == 0;
+    }
+
+    /**
+     * Returns whether the clock is counting down.
+     *
+     * @return {@code true} if started and not paused
+     */
+    public boolean isRunning() {
+        return running;
+    }
+}
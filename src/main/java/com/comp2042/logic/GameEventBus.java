@@ -0,0 +1,153 @@
+package com.comp2042.logic;
+
+import com.comp2042.enums.GameEventType;
+import com.comp2042.interfaces.GameEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class collects the game events published by the game logic and delivers them to listeners.
+ *
+ * <p>
+ * Events are stored in a ring buffer that is allocated once, as an array of types and an
+ * array of values, so publishing an event creates no objects and never calls a listener.
+ * The game logic publishes events while it updates the board, and the controller calls
+ * {@link #drain()} once the update is finished to deliver them in order. This keeps
+ * side effects such as sounds out of the board and matrix code.
+ * </p>
+ *
+ * <p>
+ * If more than {@link #capacity()} events are published before a drain, the oldest are
+ * overwritten and counted by {@link #getDroppedEvents()}. The bus is not thread safe and
+ * is meant to be used on the thread that runs the game.
+ * </p>
+ */
+public class GameEventBus {
+
+    /** The default number of events held between two drains. */
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private final GameEventType[] types;
+    private final int[] values;
+    private final int mask;
+    private final List<GameEventListener> listeners = new ArrayList<>();
+
+    /** The number of events published and delivered so far, used as positions in the ring. */
+    private long head, tail;
+    private long droppedEvents;
+
+    /**
+     * Creates a bus holding up to {@link #DEFAULT_CAPACITY} events between drains.
+     */
+    public GameEventBus() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a bus holding up to {@code capacity} events between drains.
+     *
+     * @param capacity the size of the ring buffer, which must be a power of two
+     * @throws IllegalArgumentException if the capacity is not a positive power of two
+     */
+    public GameEventBus(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two: " + capacity);
+        }
+        types = new GameEventType[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Adds a listener that receives every event delivered by {@link #drain()}.
+     *
+     * @param listener the listener to add
+     */
+    public void subscribe(GameEventListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener.
+     *
+     * @param listener the listener to remove
+     */
+    public void unsubscribe(GameEventListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Stores an event until the next {@link #drain()}.
+     *
+     * @param type the type of the event
+     * @param value the number carried by the event, as described in {@link GameEventType}
+     */
+    public void publish(GameEventType type, int value) {
+        if (head - tail == types.length) {
+            tail++;
+            droppedEvents++;
+        }
+        int slot = (int) (head & mask);
+        types[slot] = type;
+        values[slot] = value;
+        head++;
+    }
+
+    /**
+     * Delivers every stored event to every listener, in the order the events were published.
+     *
+     * <p>Events published by a listener during the drain are delivered in the same drain.</p>
+     *
+     * @return the number of events delivered
+     */
+    public int drain() {
+        int delivered = 0;
+        while (tail != head) {
+            int slot = (int) (tail & mask);
+            GameEventType type = types[slot];
+            int value = values[slot];
+            tail++;
+            for (int i = 0; i < listeners.size(); i++) {
+                listeners.get(i).onGameEvent(type, value);
+            }
+            delivered++;
+        }
+        return delivered;
+    }
+
+    /**
+     * Discards every stored event without delivering it.
+     */
+    public void clear() {
+        tail = head;
+    }
+
+// Getters
+    /**
+     * Returns the number of events waiting to be delivered.
+     *
+     * @return the number of stored events
+     */
+    public int size() {
+        return (int) (head - tail);
+    }
+
+    /**
+     * Returns the number of events the ring buffer can hold.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return types.length;
+    }
+
+    /**
+     * Returns the number of events overwritten because the ring buffer was full.
+     *
+     * @return the number of dropped events
+     */
+    public long getDroppedEvents() {
+        return droppedEvents;
+    }
+}
@@ -0,0 +1,140 @@
+package com.comp2042.logic;
+
+/**
+ * A fixed-timestep loop that turns frame times into gravity steps.
+ *
+ * <p>
+ * The owner passes the time of every frame to {@link #advance(long)}, for example from a
+ * JavaFX {@code AnimationTimer}. The time between frames is added to an accumulator and
+ * the simulation is advanced in ticks of exactly {@link #TICK_NANOS}, however long the
+ * frames are. Each tick adds a fraction of a row to the gravity, taken from the fall
+ * interval of the current level, and every whole row runs the step action once.
+ * Drawing stays on the frame rate while the game logic runs at the tick rate.
+ * </p>
+ *
+ * <p>
+ * Changing the speed only changes the fraction added per tick, so no objects are
+ * created on a level change. While the loop is paused, time is not counted at all.
+ * The loop is not thread safe and is meant to be used on one thread.
+ * </p>
+ */
+public class GameLoop {
+
+    /** The number of simulation ticks per second. */
+    public static final int TICKS_PER_SECOND = 120;
+
+    /** The length of one simulation tick in nanoseconds. */
+    public static final long TICK_NANOS = 1_000_000_000L / TICKS_PER_SECOND;
+
+    /**
+     * The longest frame counted, in nanoseconds. A longer frame, for example after the
+     * window was moved, is shortened so the game does not jump ahead.
+     */
+    public static final long MAX_FRAME_NANOS = 250_000_000L;
+
+    private final Runnable onStep;
+
+    /** The rows of gravity added per tick. */
+    private double rowsPerTick;
+    /** The rows of gravity gathered but not yet applied. */
+    private double gravity;
+    /** The time gathered but not yet simulated. */
+    private long accumulator;
+    /** The time of the last frame, or -1 if the next frame is the first one counted. */
+    private long lastFrame = -1;
+    private boolean running = true;
+    private long ticks;
+
+    /**
+     * Creates a loop that runs {@code onStep} once for every row of gravity.
+     *
+     * @param onStep the action that moves the brick down one row
+     */
+    public GameLoop(Runnable onStep) {
+        this.onStep = onStep;
+    }
+
+    /**
+     * Sets how long the brick takes to fall one row.
+     *
+     * @param fallMillis the fall interval in milliseconds, as given by {@link com.comp2042.data.Level#calcSpeed()}
+     */
+    public void setFallMillis(int fallMillis) {
+        rowsPerTick = TICK_NANOS / (fallMillis * 1_000_000.0);
+    }
+
+    /**
+     * Pauses or resumes the loop. Time that passes while paused is not counted.
+     *
+     * @param running {@code false} to pause, {@code true} to resume
+     */
+    public void setRunning(boolean running) {
+        this.running = running;
+        lastFrame = -1;
+    }
+
+    /**
+     * Clears the gathered time and gravity, so the next row falls after a full fall interval.
+     */
+    public void reset() {
+        accumulator = 0;
+        gravity = 0;
+        lastFrame = -1;
+    }
+
+    /**
+     * Simulates every whole tick up to the given frame time.
+     *
+     * @param now the time of the current frame in nanoseconds
+     * @return the number of rows the brick was moved down
+     */
+    public int advance(long now) {
+        if (!running) return 0;
+        if (lastFrame >= 0) {
+            accumulator += Math.min(now - lastFrame, MAX_FRAME_NANOS);
+        }
+        lastFrame = now;
+
+        int steps = 0;
+        while (accumulator >= TICK_NANOS) {
+            accumulator -= TICK_NANOS;
+            ticks++;
+            gravity += rowsPerTick;
+            while (gravity >= 1) {
+                gravity -= 1;
+                steps++;
+                onStep.run();
+                if (!running) return steps;
+            }
+        }
+        return steps;
+    }
+
+// Getters
+    /**
+     * Returns whether the loop is counting time.
+     *
+     * @return {@code true} unless paused
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Returns the number of ticks simulated since the loop was created.
+     *
+     * @return the tick count
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Returns the rows of gravity added per tick at the current speed.
+     *
+     * @return the fraction of a row per tick
+     */
+    public double getRowsPerTick() {
+        return rowsPerTick;
+    }
+}
@@ -1,11 +1,10 @@
 package com.comp2042.logic;
 
 import com.comp2042.data.ClearRow;
-import com.comp2042.enums.SaveDataType;
-import com.comp2042.media.Sfx;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Deque;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -22,12 +21,17 @@ import java.util.stream.Collectors;
  * <ul>
  *     <li>Checking for intersections between bricks and the game board</li>
  *     <li>Managing and updating the game matrix</li>
+ *     <li>Keeping per-row fill counters so full rows are found without scanning the board</li>
  *     <li>Copying matrix data</li>
  * </ul>
  */
 
 public class MatrixOperations {
 
+    /**
+     * The shared result for a lock that cleared no rows.
+     */
+    private static final int[] NO_ROWS = new int[0];
 
     /**
      * Private constructor to prevent instantiation of this utility class.
@@ -66,6 +70,35 @@ public class MatrixOperations {
         return false;
     }
 
+    /**
+     * Determines whether a brick given as a 16-bit mask intersects with a matrix at a specific position.
+     *
+     * <p>
+     * This gives the same result as {@link #intersect(int[][], int[][], int, int)}, but only
+     * the filled cells of the brick are visited, taken from the mask of a
+     * {@link com.comp2042.data.bricks.RotationTable}.
+     * </p>
+     *
+     * @param matrix the game board matrix, where each element represents a block or empty space
+     * @param brickMask the brick shape, bit {@code row * 4 + column} being one cell
+     * @param x the x-coordinate (column index) in the matrix to place the top-left corner of the brick
+     * @param y the y-coordinate (row index) in the matrix to place the top-left corner of the brick
+     * @return {@code true} if the brick collides with the matrix or is out of bounds; {@code false} otherwise
+     */
+    public static boolean intersect(final int[][] matrix, int brickMask, int x, int y) {
+        int cells = brickMask;
+        while (cells != 0) {
+            int bit = Integer.numberOfTrailingZeros(cells);
+            int targetX = x + (bit & 3);
+            int targetY = y + (bit >>> 2);
+            if (checkOutOfBound(matrix, targetX, targetY) || matrix[targetY][targetX] != 0) {
+                return true;
+            }
+            cells &= cells - 1;
+        }
+        return false;
+    }
+
     /**
      * Checks whether a coordinate is out of bounds in a matrix.
      *
@@ -127,6 +160,101 @@ public class MatrixOperations {
         return copy;
     }
 
+    /**
+     * Merges a brick given as a 16-bit mask into a matrix, modifying the matrix in place.
+     *
+     * <p>
+     * The fill counter of every row that receives a cell is increased by one, so a row
+     * is full when its counter equals the row length.
+     * </p>
+     *
+     * @param matrix the game matrix to write into
+     * @param brickMask the brick shape, bit {@code row * 4 + column} being one cell
+     * @param color the value written into each filled cell
+     * @param x the x-coordinate (column index) of the brick's top-left corner
+     * @param y the y-coordinate (row index) of the brick's top-left corner
+     * @param rowFill the number of filled cells in each row of the matrix
+     */
+    public static void mergeInPlace(int[][] matrix, int brickMask, int color, int x, int y, int[] rowFill) {
+        int cells = brickMask;
+        while (cells != 0) {
+            int bit = Integer.numberOfTrailingZeros(cells);
+            int targetY = y + (bit >>> 2);
+            matrix[targetY][x + (bit & 3)] = color;
+            rowFill[targetY]++;
+            cells &= cells - 1;
+        }
+    }
+
+    /**
+     * Returns a bit mask with one bit set for every row from {@code top} to {@code bottom}.
+     *
+     * <p>If a row past the 64th is included, every bit is set so that no change is missed.</p>
+     *
+     * @param top the first row
+     * @param bottom the last row
+     * @return the rows as a bit mask, or 0 if {@code bottom} is above {@code top}
+     */
+    public static long rowRange(int top, int bottom) {
+        top = Math.max(top, 0);
+        if (bottom < top) return 0;
+        if (bottom >= Long.SIZE) return -1L;
+        long upToBottom = bottom == Long.SIZE - 1 ? -1L : (1L << (bottom + 1)) - 1;
+        return upToBottom & (-1L << top);
+    }
+
+    /**
+     * Removes the full rows between two rows of the matrix, modifying the matrix in place.
+     *
+     * <p>
+     * Only the rows from {@code top} to {@code bottom} are checked, using the fill counters,
+     * so only the rows touched by the last merged brick need to be passed in.
+     * The rows above each removed row are moved down, the rows left free at the top are
+     * emptied and the fill counters are moved with their rows.
+     * </p>
+     *
+     * <p>
+     * The score bonus is calculated as {@code 50 * (number of cleared rows)^2}.
+     * </p>
+     *
+     * @param matrix the game board matrix
+     * @param rowFill the number of filled cells in each row of the matrix
+     * @param top the first row to check
+     * @param bottom the last row to check
+     * @return {@link ClearRow} containing the removed row indices and the same matrix
+     */
+    public static ClearRow removeFullRows(int[][] matrix, int[] rowFill, int top, int bottom) {
+        top = Math.max(top, 0);
+        bottom = Math.min(bottom, matrix.length - 1);
+        int removed = 0;
+        for (int row = top; row <= bottom; row++) {
+            if (rowFill[row] == matrix[row].length) removed++;
+        }
+        if (removed == 0) {
+            return new ClearRow(NO_ROWS, matrix, 0);
+        }
+
+        int[] clearedRows = new int[removed];
+        int found = removed;
+        int write = bottom;
+        for (int read = bottom; read >= 0; read--) {
+            if (read >= top && rowFill[read] == matrix[read].length) {
+                clearedRows[--found] = read;
+                continue;
+            }
+            if (write != read) {
+                System.arraycopy(matrix[read], 0, matrix[write], 0, matrix[write].length);
+                rowFill[write] = rowFill[read];
+            }
+            write--;
+        }
+        for (; write >= 0; write--) {
+            Arrays.fill(matrix[write], 0);
+            rowFill[write] = 0;
+        }
+        return new ClearRow(clearedRows, matrix, 50 * removed * removed);
+    }
+
     /**
      * Checks for fully completed rows in the matrix, removes them, and computes
      * the corresponding score bonus.
@@ -139,7 +267,11 @@ public class MatrixOperations {
      *
      * <p>
      * The score bonus is calculated as {@code 50 * (number of cleared rows)^2}.
-     * A line-clear sound effect is played for each cleared row.
+     * </p>
+     *
+     * <p>
+     * This method scans and copies the whole matrix. The boards keep fill counters and use
+     * {@link #removeFullRows(int[][], int[], int, int)} instead.
      * </p>
      *
      * @param matrix the game board matrix
@@ -162,7 +294,6 @@ public class MatrixOperations {
             }
             if (rowToClear) {
                 clearedRows.add(i);
-                Sfx.play(SaveDataType.CLEARLINES);
             } else {
                 newRows.add(tmpRow);
             }
@@ -176,7 +307,7 @@ public class MatrixOperations {
             }
         }
         int scoreBonus = 50 * clearedRows.size() * clearedRows.size();
-        return new ClearRow(clearedRows.size(), tmp, scoreBonus);
+        return new ClearRow(clearedRows.stream().mapToInt(Integer::intValue).toArray(), tmp, scoreBonus);
     }
 
     /**
@@ -0,0 +1,245 @@
+package com.comp2042.logic;
+
+import com.comp2042.data.bricks.RotationTable;
+import com.comp2042.enums.EventType;
+
+import java.util.Arrays;
+
+/**
+ * Finds every resting position a brick can reach from where it is.
+ *
+ * <p>
+ * The generator runs a breadth-first search over the states {@code (x, y, rotation)} of
+ * the brick. From each state the brick can move left, right or down one cell, or turn to
+ * the next rotation in the order used by {@link BrickRotator}, whenever
+ * {@link MatrixOperations#intersect(int[][], int, int, int)} finds the new state free.
+ * This finds soft drop tucks under overhangs and turns into gaps, not just straight drops.
+ * A state the brick cannot move down from is a placement.
+ * </p>
+ *
+ * <p>
+ * Rotations with the same shape are treated as one, so a placement that covers the same
+ * cells as an earlier one is only listed once. The visited, blocked and placed states are
+ * kept in bitsets, and the placements in primitive arrays, which are all reused by the
+ * next search, so a search does not create any objects. The path to every placement can
+ * be read back with {@link #getPath(int, EventType[])}.
+ * </p>
+ *
+ * <p>A generator is not thread safe; use one per thread.</p>
+ */
+public class MoveGenerator {
+
+    /** How far the brick's 4 by 4 box can stick out past each side wall. */
+    private static final int SIDE = RotationTable.SIZE - 1;
+
+    /** The moves tried from every state, in this order. */
+    private static final EventType[] MOVES = {EventType.LEFT, EventType.RIGHT, EventType.DOWN, EventType.ROTATE};
+
+    private final int rows;
+    private final int stride;
+
+    private final long[] visited;
+    private final long[] blocked;
+    private final long[] placed;
+    /** The state each visited state was first reached from, or -1 for the start. */
+    private final int[] parent;
+    /** The index in {@link #MOVES} that reached each visited state. */
+    private final byte[] move;
+    private final int[] queue;
+
+    private final int[] placementState;
+    private int count;
+
+    private int[][] matrix;
+    private RotationTable rotations;
+    /** For each rotation, the first rotation with the same shape. */
+    private final int[] canonical = new int[RotationTable.SIZE];
+
+    /**
+     * Creates a generator for boards of the given size.
+     *
+     * @param rows the number of rows of the board
+     * @param columns the number of columns of the board
+     */
+    public MoveGenerator(int rows, int columns) {
+        this.rows = rows;
+        this.stride = columns + 2 * SIDE;
+        int states = RotationTable.SIZE * rows * stride;
+        int words = (states + Long.SIZE - 1) / Long.SIZE;
+        visited = new long[words];
+        blocked = new long[words];
+        placed = new long[words];
+        parent = new int[states];
+        move = new byte[states];
+        queue = new int[states];
+        placementState = new int[states];
+    }
+
+    /**
+     * Searches every resting position the brick can reach.
+     *
+     * @param matrix the board matrix, which is not changed
+     * @param rotations the brick
+     * @param rotation the current rotation index of the brick
+     * @param x the current column of the brick
+     * @param y the current row of the brick
+     * @return the number of placements found, read with {@link #getX(int)}, {@link #getY(int)} and {@link #getRotation(int)}
+     */
+    public int generate(int[][] matrix, RotationTable rotations, int rotation, int x, int y) {
+        this.matrix = matrix;
+        this.rotations = rotations;
+        Arrays.fill(visited, 0);
+        Arrays.fill(blocked, 0);
+        Arrays.fill(placed, 0);
+        count = 0;
+        findSameShapes();
+
+        if (!isFree(rotation, x, y)) return 0;
+        int start = encode(rotation, x, y);
+        set(visited, start);
+        parent[start] = -1;
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+
+        while (head < tail) {
+            int state = queue[head++];
+            int r = state / (rows * stride);
+            int sy = state / stride % rows;
+            int sx = state % stride - SIDE;
+
+            for (int m = 0; m < MOVES.length; m++) {
+                int nr = r, nx = sx, ny = sy;
+                switch (MOVES[m]) {
+                    case LEFT -> nx--;
+                    case RIGHT -> nx++;
+                    case DOWN -> ny++;
+                    default -> nr = (r + 1) % rotations.size();
+                }
+                if (nx < -SIDE || nx >= stride - SIDE || ny >= rows) {
+                    if (MOVES[m] == EventType.DOWN) addPlacement(state, r, sx, sy);
+                    continue;
+                }
+                int next = encode(nr, nx, ny);
+                if (get(visited, next)) continue;
+                if (!isFree(nr, nx, ny)) {
+                    if (MOVES[m] == EventType.DOWN) addPlacement(state, r, sx, sy);
+                    continue;
+                }
+                set(visited, next);
+                parent[next] = state;
+                move[next] = (byte) m;
+                queue[tail++] = next;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Writes the moves that take the brick from its start to a placement.
+     *
+     * <p>The moves are sent in order, then the brick rests at the placement.</p>
+     *
+     * @param index the placement, from 0 to the count returned by {@link #generate}
+     * @param out receives the moves; must be long enough for the path
+     * @return the number of moves written
+     */
+    public int getPath(int index, EventType[] out) {
+        int length = 0;
+        for (int state = placementState[index]; parent[state] >= 0; state = parent[state]) {
+            length++;
+        }
+        int i = length;
+        for (int state = placementState[index]; parent[state] >= 0; state = parent[state]) {
+            out[--i] = MOVES[move[state]];
+        }
+        return length;
+    }
+
+    private void addPlacement(int state, int rotation, int x, int y) {
+        // the same cells reached in a rotation with the same shape are the same placement,
+        // so placements are keyed by shape and the top left corner of the cells they cover
+        int key = encode(canonical[rotation], x + rotations.getMinColumn(rotation), y + rotations.getMinRow(rotation));
+        if (get(placed, key)) return;
+        set(placed, key);
+        placementState[count++] = state;
+    }
+
+    private void findSameShapes() {
+        for (int r = 0; r < rotations.size(); r++) {
+            canonical[r] = r;
+            for (int earlier = 0; earlier < r; earlier++) {
+                if (normalizedMask(earlier) == normalizedMask(r)) {
+                    canonical[r] = earlier;
+                    break;
+                }
+            }
+        }
+    }
+
+    private int normalizedMask(int rotation) {
+        return rotations.getMask(rotation) >>> (rotations.getMinRow(rotation) * RotationTable.SIZE + rotations.getMinColumn(rotation));
+    }
+
+    private boolean isFree(int rotation, int x, int y) {
+        int state = encode(rotation, x, y);
+        if (get(blocked, state)) return false;
+        if (MatrixOperations.intersect(matrix, rotations.getMask(rotation), x, y)) {
+            set(blocked, state);
+            return false;
+        }
+        return true;
+    }
+
+    private int encode(int rotation, int x, int y) {
+        return (rotation * rows + y) * stride + x + SIDE;
+    }
+
+    private static boolean get(long[] bits, int index) {
+        return (bits[index >>> 6] & 1L << index) != 0;
+    }
+
+    private static void set(long[] bits, int index) {
+        bits[index >>> 6] |= 1L << index;
+    }
+
+// Getters
+    /**
+     * Returns the number of placements found by the last search.
+     *
+     * @return the placement count
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the column of a placement.
+     *
+     * @param index the placement
+     * @return the x coordinate of the brick
+     */
+    public int getX(int index) {
+        return placementState[index] % stride - SIDE;
+    }
+
+    /**
+     * Returns the row of a placement.
+     *
+     * @param index the placement
+     * @return the y coordinate of the brick
+     */
+    public int getY(int index) {
+        return placementState[index] / stride % rows;
+    }
+
+    /**
+     * Returns the rotation index of a placement.
+     *
+     * @param index the placement
+     * @return the rotation index of the brick
+     */
+    public int getRotation(int index) {
+        return placementState[index] / (rows * stride);
+    }
+}
@@ -0,0 +1,239 @@
+package com.comp2042.logic;
+
+import com.comp2042.data.MoveEvent;
+import com.comp2042.enums.EventSource;
+import com.comp2042.enums.EventType;
+import com.comp2042.interfaces.InputEventListener;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Plays a replay file written by {@link ReplayRecorder} back into the game logic.
+ *
+ * <p>
+ * The game logic must be created with a brick generator seeded with {@link #getSeed()},
+ * for example {@code new SimpleBoard(25, 10, new RandomBrickGenerator(player.getSeed()))}.
+ * Each recorded input is then sent to its {@link InputEventListener} in the original order,
+ * which reproduces the same board and score. The inputs carry the tick they happened on,
+ * so they can be played all at once or in step with a {@link GameLoop}.
+ * </p>
+ *
+ * <p>
+ * Opening the file sets the {@link Timer} to the length of the recorded game, so a timed
+ * game is shown with the same countdown. When the recorded countdown ran out, the action
+ * given to {@link #setOnTimeUp(Runnable)} is run at the same point of the replay.
+ * </p>
+ *
+ * <p>
+ * The file is read through a {@link FileChannel} into a small buffer, and the
+ * {@link MoveEvent} of each input code is created once, so playing does not create any objects.
+ * </p>
+ */
+public class ReplayPlayer implements Closeable {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private final long seed;
+    private final int timerMinutes;
+    private Runnable onTimeUp;
+    /** The event sent for each input code. */
+    private final MoveEvent[] events = new MoveEvent[1 << ReplayRecorder.CODE_BITS];
+
+    private boolean hasNext;
+    private long nextTick;
+    private int nextCode;
+    private int played;
+
+    /**
+     * Opens a replay file, reads its header and sets the {@link Timer} to the recorded game length.
+     *
+     * @param file the replay file
+     * @throws IllegalArgumentException if the file is not a replay
+     */
+    public ReplayPlayer(Path file) {
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        buffer.flip();
+        if (!fill(Integer.BYTES + Long.BYTES + Integer.BYTES) || buffer.getInt() != ReplayRecorder.MAGIC) {
+            close();
+            throw new IllegalArgumentException("Not a replay file: " + file);
+        }
+        seed = buffer.getLong();
+        timerMinutes = buffer.getInt();
+        Timer.setTimer(timerMinutes);
+
+        for (EventType type : EventType.values()) {
+            events[type.ordinal()] = new MoveEvent(type, EventSource.USER);
+            events[type.ordinal() | ReplayRecorder.FROM_THREAD] = new MoveEvent(type, EventSource.THREAD);
+        }
+        events[ReplayRecorder.HARD_DROP] = events[EventType.DOWN.ordinal()];
+        events[ReplayRecorder.HARD_DROP | ReplayRecorder.FROM_THREAD] = events[EventType.DOWN.ordinal() | ReplayRecorder.FROM_THREAD];
+        readNext();
+    }
+
+    /**
+     * Sends every input recorded up to the given tick to the game logic.
+     *
+     * @param tick the last tick to play
+     * @param listener the game logic
+     * @return the number of inputs sent
+     */
+    public int playUntil(long tick, InputEventListener listener) {
+        int count = 0;
+        while (hasNext && nextTick <= tick) {
+            send(nextCode, listener);
+            count++;
+            readNext();
+        }
+        played += count;
+        return count;
+    }
+
+    /**
+     * Sends every remaining input to the game logic.
+     *
+     * @param listener the game logic
+     * @return the number of inputs sent
+     */
+    public int playAll(InputEventListener listener) {
+        return playUntil(Long.MAX_VALUE, listener);
+    }
+
+    private void send(int code, InputEventListener listener) {
+        MoveEvent event = events[code];
+        int action = code & (ReplayRecorder.FROM_THREAD - 1);
+        if (action == ReplayRecorder.NEW_GAME) {
+            listener.createNewGame();
+        } else if (action == ReplayRecorder.TIME_UP) {
+            if (onTimeUp != null) onTimeUp.run();
+        } else if (action == ReplayRecorder.HARD_DROP) {
+            listener.onDownEvent(event, true);
+        } else {
+            switch (event.getEventType()) {
+                case DOWN -> listener.onDownEvent(event, false);
+                case LEFT -> listener.onLeftEvent(event);
+                case RIGHT -> listener.onRightEvent(event);
+                case ROTATE -> listener.onRotateEvent(event);
+                case HOLD -> listener.onHoldEvent(event);
+            }
+        }
+    }
+
+    /**
+     * Decodes the next input, or clears {@link #hasNext} at the end of the file.
+     */
+    private void readNext() {
+        long value = 0;
+        int shift = 0;
+        while (true) {
+            if (!fill(1)) {
+                hasNext = false;
+                return;
+            }
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) break;
+            shift += 7;
+        }
+        nextCode = (int) (value & ((1 << ReplayRecorder.CODE_BITS) - 1));
+        nextTick += value >>> ReplayRecorder.CODE_BITS;
+        hasNext = true;
+    }
+
+    /**
+     * Reads from the file until the buffer holds at least the given number of bytes.
+     *
+     * @param bytes the number of bytes needed
+     * @return {@code false} if the file ended first
+     */
+    private boolean fill(int bytes) {
+        try {
+            while (buffer.remaining() < bytes) {
+                buffer.compact();
+                int read = channel.read(buffer);
+                buffer.flip();
+                if (read < 0) return false;
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return true;
+    }
+
+    /**
+     * Closes the replay file.
+     */
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Sets the action run when the replay reaches the point where the recorded countdown ran out.
+     *
+     * @param onTimeUp the time-up action, or {@code null} for none
+     */
+    public void setOnTimeUp(Runnable onTimeUp) {
+        this.onTimeUp = onTimeUp;
+    }
+
+// Getters
+    /**
+     * Returns the seed of the recorded game's brick generator.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the length of the recorded game.
+     *
+     * @return the timer length in minutes, 0 when the game was not timed
+     */
+    public int getTimerMinutes() {
+        return timerMinutes;
+    }
+
+    /**
+     * Returns whether there are inputs left to play.
+     *
+     * @return {@code true} until the end of the file is reached
+     */
+    public boolean hasNext() {
+        return hasNext;
+    }
+
+    /**
+     * Returns the tick of the next input, counted from the start of the recording.
+     *
+     * @return the tick of the next input
+     */
+    public long getNextTick() {
+        return nextTick;
+    }
+
+    /**
+     * Returns the number of inputs played so far.
+     *
+     * @return the input count
+     */
+    public int getPlayedCount() {
+        return played;
+    }
+}
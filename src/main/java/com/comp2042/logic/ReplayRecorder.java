@@ -0,0 +1,222 @@
+package com.comp2042.logic;
+
+import com.comp2042.data.DownData;
+import com.comp2042.data.MoveEvent;
+import com.comp2042.enums.EventSource;
+import com.comp2042.enums.EventType;
+import com.comp2042.interfaces.InputEventListener;
+import com.comp2042.view.ViewData;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.function.LongSupplier;
+
+/**
+ * Records every input of a game into a compact binary replay file.
+ *
+ * <p>
+ * The recorder sits between the GUI and the game logic. It writes each input it is given
+ * and then passes it on to the real {@link InputEventListener} unchanged. Together with the
+ * seed of the brick generator, the inputs are all that is needed to play the same game
+ * again with {@link ReplayPlayer}. The length of a timed game is kept as well, and the
+ * countdown running out is recorded with {@link #recordTimeUp()}, so a timed game ends at
+ * the same point when it is played again.
+ * </p>
+ *
+ * <p>
+ * The file starts with {@link #MAGIC}, the 8 byte seed and the 4 byte timer length in
+ * minutes, 0 when the game is not timed. Every input is then written as
+ * one unsigned varint holding the ticks since the previous input, shifted left by
+ * {@link #CODE_BITS}, and the input code in the low bits. Most inputs take one or two bytes.
+ * The bytes are gathered in a buffer and written to a {@link FileChannel} when it is full,
+ * on {@link #flush()} and on {@link #close()}.
+ * </p>
+ */
+public class ReplayRecorder implements InputEventListener, Closeable {
+
+    /** The first four bytes of every replay file, {@code "TRP3"}. */
+    public static final int MAGIC = 0x54525033;
+
+    /** The file the game screen records the last game into, when {@link #isEnabled()}. */
+    public static final Path LAST_GAME = Paths.get("lastGame.replay");
+
+    /**
+     * The system property that lets the game screen record its games, for example {@code -Dtetris.record=true}.
+     */
+    public static final String PROPERTY = "tetris.record";
+
+    /** The number of low bits of each varint that hold the input code. */
+    static final int CODE_BITS = 4;
+    /** The code of a hard drop. Codes below it are {@link EventType} ordinals. */
+    static final int HARD_DROP = EventType.values().length;
+    /** The code of a new game. */
+    static final int NEW_GAME = HARD_DROP + 1;
+    /** The code of the countdown of a timed game running out. */
+    static final int TIME_UP = NEW_GAME + 1;
+    /** Added to the code when the input came from the game rather than the player. */
+    static final int FROM_THREAD = 1 << (CODE_BITS - 1);
+
+    private static final int BUFFER_SIZE = 8192;
+    /** The longest varint of a long. */
+    private static final int MAX_VARINT_BYTES = 10;
+
+    private final InputEventListener target;
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private final LongSupplier ticks;
+    private long lastTick;
+    private int inputs;
+
+    /**
+     * Creates a recorder for a game that is not timed.
+     *
+     * @param target the game logic that receives the inputs
+     * @param file the replay file, replaced if it already exists
+     * @param seed the seed of the game's brick generator
+     * @param ticks returns the current game tick, used to time stamp each input
+     */
+    public ReplayRecorder(InputEventListener target, Path file, long seed, LongSupplier ticks) {
+        this(target, file, seed, 0, ticks);
+    }
+
+    /**
+     * Creates a recorder that writes to a new replay file.
+     *
+     * @param target the game logic that receives the inputs
+     * @param file the replay file, replaced if it already exists
+     * @param seed the seed of the game's brick generator
+     * @param timerMinutes the length of a timed game in minutes, 0 when the game is not timed
+     * @param ticks returns the current game tick, used to time stamp each input
+     */
+    public ReplayRecorder(InputEventListener target, Path file, long seed, int timerMinutes, LongSupplier ticks) {
+        this.target = target;
+        this.ticks = ticks;
+        this.lastTick = ticks.getAsLong();
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        buffer.putInt(MAGIC).putLong(seed).putInt(timerMinutes);
+    }
+
+    @Override
+    public DownData onDownEvent(MoveEvent event, boolean isHardDrop) {
+        record(isHardDrop ? HARD_DROP : EventType.DOWN.ordinal(), event.getEventSource());
+        return target.onDownEvent(event, isHardDrop);
+    }
+
+    @Override
+    public ViewData onLeftEvent(MoveEvent event) {
+        record(EventType.LEFT.ordinal(), event.getEventSource());
+        return target.onLeftEvent(event);
+    }
+
+    @Override
+    public ViewData onRightEvent(MoveEvent event) {
+        record(EventType.RIGHT.ordinal(), event.getEventSource());
+        return target.onRightEvent(event);
+    }
+
+    @Override
+    public ViewData onRotateEvent(MoveEvent event) {
+        record(EventType.ROTATE.ordinal(), event.getEventSource());
+        return target.onRotateEvent(event);
+    }
+
+    @Override
+    public ViewData onHoldEvent(MoveEvent event) {
+        record(EventType.HOLD.ordinal(), event.getEventSource());
+        return target.onHoldEvent(event);
+    }
+
+    @Override
+    public void createNewGame() {
+        record(NEW_GAME, EventSource.USER);
+        target.createNewGame();
+    }
+
+    /**
+     * Records that the countdown of a timed game ran out.
+     */
+    public void recordTimeUp() {
+        record(TIME_UP, EventSource.THREAD);
+    }
+
+    /**
+     * Writes one input as a varint of the tick delta and the input code.
+     *
+     * @param code the input code
+     * @param source who triggered the input
+     */
+    private void record(int code, EventSource source) {
+        long tick = ticks.getAsLong();
+        long delta = Math.max(0, tick - lastTick);
+        lastTick = tick;
+        if (source == EventSource.THREAD) code |= FROM_THREAD;
+
+        if (buffer.remaining() < MAX_VARINT_BYTES) {
+            flush();
+        }
+        long value = delta << CODE_BITS | code;
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+        inputs++;
+    }
+
+    /**
+     * Writes the buffered bytes to the file.
+     */
+    public void flush() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Writes the buffered bytes and closes the file.
+     */
+    @Override
+    public void close() {
+        if (!channel.isOpen()) return;
+        flush();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns whether the game screen should record its games, from the {@code tetris.record} system property.
+     *
+     * @return {@code true} if the property is {@code true}
+     */
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(PROPERTY);
+    }
+
+    /**
+     * Returns the number of inputs recorded.
+     *
+     * @return the input count
+     */
+    public int getInputCount() {
+        return inputs;
+    }
+}
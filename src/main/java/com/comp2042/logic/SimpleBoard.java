@@ -6,8 +6,10 @@ import com.comp2042.interfaces.Board;
 import com.comp2042.interfaces.Brick;
 import com.comp2042.interfaces.BrickGenerator;
 import com.comp2042.data.bricks.RandomBrickGenerator;
+import com.comp2042.data.bricks.RotationTable;
+import com.comp2042.enums.GameEventType;
 
-import java.awt.*;
+import java.util.Arrays;
 
 /**
  * This class represents the game board.
@@ -25,8 +27,19 @@ public class SimpleBoard implements Board {
     private final int width, height;
     private final BrickGenerator brickGenerator;
     private final BrickRotator brickRotator;
-    private int[][] currentGameMatrix;
-    private Point currentOffset, ghostPieceOffset;
+    private final int[][] currentGameMatrix;
+    private final int[] rowFill;
+    private final int[] columnTops;
+    private int mergedTop, mergedBottom;
+    private final Zobrist zobrist;
+    private long boardHash;
+    /** Created by {@link #getFeatureTracker()} when first asked for. */
+    private FeatureTracker features;
+    private int currentX, currentY, ghostX, ghostY;
+    private long version;
+    private long changedRows = -1L;
+    private ViewData viewData;
+    private final GameEventBus eventBus = new GameEventBus();
     private final Score score;
     private final LinesCleared totalLinesCleared;
     private final Level level;
@@ -43,11 +56,27 @@ public class SimpleBoard implements Board {
      * @param height the height of the game board (number of rows)
      */
     public SimpleBoard(int width, int height) {
+        this(width, height, new RandomBrickGenerator());
+    }
+
+    /**
+     * Constructs a {@code SimpleBoard} that draws its bricks from the given generator.
+     *
+     * @param width  the width of the game board (number of columns)
+     * @param height the height of the game board (number of rows)
+     * @param brickGenerator the source of new bricks
+     */
+    public SimpleBoard(int width, int height, BrickGenerator brickGenerator) {
         this.width = width;
         this.height = height;
         currentGameMatrix = new int[width][height];
-        brickGenerator = new RandomBrickGenerator();
+        rowFill = new int[width];
+        columnTops = new int[height];
+        Arrays.fill(columnTops, width);
+        zobrist = new Zobrist(width, height);
+        this.brickGenerator = brickGenerator;
         brickRotator = new BrickRotator();
+        resetMergedRows();
 
         score = new Score();
         totalLinesCleared = new LinesCleared();
@@ -62,43 +91,92 @@ public class SimpleBoard implements Board {
      *     Check if the brick can be moved using {@link MatrixOperations}.
      *      If there is no collision,  brick's position will increases along the y-axis by 1.
      *      Else the position stays the same.
+     *      The candidate position is tested in place, so no objects are created.
      * </p>
      *
      * @return {@code true} if the brick moves, {@code false} if it collides
      */
     @Override
     public boolean moveBrickDown() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        Point p = new Point(currentOffset);
-        p.translate(0, 1);
-        boolean conflict = MatrixOperations.intersect(currentMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
-        if (conflict) {
+        if (MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentMask(), currentX, currentY + 1)) {
             return false;
-        } else {
-            currentOffset = p;
-            return true;
         }
+        currentY++;
+        version++;
+        return true;
     }
 
     /**
      * Returns the brick's falling position.
      *
      * <p>
-     *     The ghost piece's position will continuously shift downwards until
-     *     the brick cannot be moved through checking with {@link MatrixOperations}.
+     *     The landing row is found from the column heights of the board and the
+     *     bottom profile of the brick, see {@link #findLandingRow()}.
      * </p>
      *
      *
      */
     @Override
     public void moveGhostPiece() {
-        Point p = new Point(currentOffset);
+        int landingRow = findLandingRow();
+        if (ghostX != currentX || ghostY != landingRow) {
+            ghostX = currentX;
+            ghostY = landingRow;
+            version++;
+        }
+    }
 
-        while (!MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentShape(), p.x, p.y + 1)) {
-            p.translate(0, 1);
+    /**
+     * Drops the current brick straight to its landing row.
+     *
+     * @return the number of rows the brick moved down
+     */
+    @Override
+    public int hardDropBrick() {
+        int landingRow = findLandingRow();
+        int distance = landingRow - currentY;
+        currentY = landingRow;
+        ghostX = currentX;
+        ghostY = landingRow;
+        version++;
+        return distance;
+    }
+
+    /**
+     * Finds the lowest row the current brick can fall to.
+     *
+     * <p>
+     *     For every column of the brick, the lowest filled cell from its {@link RotationTable}
+     *     is compared with the highest filled cell of that board column, so only the brick's
+     *     columns are visited. If the brick is already below the top of a column, for example
+     *     when tucked under an overhang, the board is checked row by row using {@link MatrixOperations}.
+     * </p>
+     *
+     * @return the row of the brick's top-left corner where it lands
+     */
+    private int findLandingRow() {
+        RotationTable rotations = brickRotator.getRotationTable();
+        int rotation = brickRotator.getCurrentRotation();
+        int landingRow = Integer.MAX_VALUE;
+        for (int column = rotations.getMinColumn(rotation); column <= rotations.getMaxColumn(rotation); column++) {
+            int bottom = rotations.getBottom(rotation, column);
+            if (bottom == RotationTable.EMPTY_COLUMN) continue;
+            int top = columnTops[currentX + column];
+            if (currentY + bottom >= top) {
+                return scanLandingRow();
+            }
+            landingRow = Math.min(landingRow, top - 1 - bottom);
         }
+        return landingRow;
+    }
 
-        ghostPieceOffset = p;
+    private int scanLandingRow() {
+        int mask = brickRotator.getCurrentMask();
+        int y = currentY;
+        while (!MatrixOperations.intersect(currentGameMatrix, mask, currentX, y + 1)) {
+            y++;
+        }
+        return y;
     }
 
     /**
@@ -108,22 +186,19 @@ public class SimpleBoard implements Board {
      *     Check if the brick can be moved using {@link MatrixOperations}.
      *      If there is no collision, the brick's position will decrease along the x-axis by 1.
      *      Else the position stays the same.
+     *      The candidate position is tested in place, so no objects are created.
      * </p>
      *
      * @return {@code true} if the brick moves, {@code false} if it collides
      */
     @Override
     public boolean moveBrickLeft() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        Point p = new Point(currentOffset);
-        p.translate(-1, 0);
-        boolean conflict = MatrixOperations.intersect(currentMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
-        if (conflict) {
+        if (MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentMask(), currentX - 1, currentY)) {
             return false;
-        } else {
-            currentOffset = p;
-            return true;
         }
+        currentX--;
+        version++;
+        return true;
     }
 
     /**
@@ -133,22 +208,19 @@ public class SimpleBoard implements Board {
      *     Check if the brick can be moved using {@link MatrixOperations}.
      *      If there is no collision, the brick's position will increase along the x-axis by 1.
      *      Else the position stays the same.
+     *      The candidate position is tested in place, so no objects are created.
      * </p>
      *
      * @return {@code true} if the brick moves, {@code false} if it collides
      */
     @Override
     public boolean moveBrickRight() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        Point p = new Point(currentOffset);
-        p.translate(1, 0);
-        boolean conflict = MatrixOperations.intersect(currentMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
-        if (conflict) {
+        if (MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentMask(), currentX + 1, currentY)) {
             return false;
-        } else {
-            currentOffset = p;
-            return true;
         }
+        currentX++;
+        version++;
+        return true;
     }
 
     /**
@@ -165,15 +237,13 @@ public class SimpleBoard implements Board {
      */
     @Override
     public boolean rotateLeftBrick() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        NextShapeInfo nextShape = brickRotator.getNextShape();
-        boolean conflict = MatrixOperations.intersect(currentMatrix, nextShape.getShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
-        if (conflict) {
+        int nextRotation = brickRotator.getNextRotation();
+        if (MatrixOperations.intersect(currentGameMatrix, brickRotator.getMask(nextRotation), currentX, currentY)) {
             return false;
-        } else {
-            brickRotator.setCurrentShape(nextShape.getPosition());
-            return true;
         }
+        brickRotator.setCurrentShape(nextRotation);
+        version++;
+        return true;
     }
 
     /**
@@ -188,16 +258,19 @@ public class SimpleBoard implements Board {
      */
     @Override
     public boolean holdBrick() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        boolean intersectWithNewBlock = !MatrixOperations.intersect( currentMatrix, brickGenerator.getNextBrick().getShapeMatrix().getFirst(), (int) currentOffset.getX(), (int) currentOffset.getY());
-        if (brickRotator.getHoldBrick() == null && intersectWithNewBlock)
-        {
+        RotationTable holdRotations = brickRotator.getHoldRotationTable();
+        if (holdRotations == null) {
+            if (MatrixOperations.intersect(currentGameMatrix, brickGenerator.getNextBrick().getRotationTable().getMask(0), currentX, currentY)) {
+                return false;
+            }
             brickRotator.setHoldBrick();
-            createNewBrick((int)currentOffset.getX(), (int)currentOffset.getY());
-
+            createNewBrick(currentX, currentY);
+            eventBus.publish(GameEventType.HOLD, brickRotator.getHoldRotationTable().getColor());
             return true;
-        } else if (!MatrixOperations.intersect(currentMatrix, brickRotator.getHoldBrick(), (int) currentOffset.getX(), (int) currentOffset.getY())){
+        } else if (!MatrixOperations.intersect(currentGameMatrix, holdRotations.getMask(0), currentX, currentY)) {
             brickRotator.setHoldBrick();
+            version++;
+            eventBus.publish(GameEventType.HOLD, brickRotator.getHoldRotationTable().getColor());
             return true;
         }
         return false;
@@ -218,32 +291,101 @@ public class SimpleBoard implements Board {
     public boolean createNewBrick(int x, int y) {
         Brick currentBrick = brickGenerator.getBrick();
         brickRotator.setBrick(currentBrick);
-        currentOffset = new Point(x, y);
+        currentX = x;
+        currentY = y;
+        version++;
         moveGhostPiece();
-        return MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
+        return MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentMask(), currentX, currentY);
     }
 
     /**
-     * Merges the current brick into the game matrix using {@link MatrixOperations}
+     * Merges the current brick into the game matrix in place using {@link MatrixOperations}.
+     *
+     * <p>
+     *     The fill counters of the touched rows are updated and the rows are
+     *     remembered, so {@link #clearRows()} only needs to check those rows.
+     * </p>
      */
     @Override
     public void mergeBrickToBackground() {
-        currentGameMatrix = MatrixOperations.merge(currentGameMatrix, brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
+        RotationTable rotations = brickRotator.getRotationTable();
+        int rotation = brickRotator.getCurrentRotation();
+        int mask = rotations.getMask(rotation);
+        MatrixOperations.mergeInPlace(currentGameMatrix, mask, rotations.getColor(), currentX, currentY, rowFill);
+        boardHash ^= zobrist.brick(mask, currentX, currentY);
+        if (features != null) features.place(mask, currentX, currentY);
+        while (mask != 0) {
+            int bit = Integer.numberOfTrailingZeros(mask);
+            int column = currentX + (bit & 3);
+            columnTops[column] = Math.min(columnTops[column], currentY + (bit >>> 2));
+            mask &= mask - 1;
+        }
+        mergedTop = Math.min(mergedTop, currentY + rotations.getMinRow(rotation));
+        mergedBottom = Math.max(mergedBottom, currentY + rotations.getMaxRow(rotation));
+        changedRows |= MatrixOperations.rowRange(currentY + rotations.getMinRow(rotation), currentY + rotations.getMaxRow(rotation));
+        eventBus.publish(GameEventType.PIECE_LOCKED, rotations.getColor());
     }
 
     /**
      * Clears filled rows from the board using {@link MatrixOperations}
      * and returns {@link ClearRow} which contains information about the
-     * cleared rows and the new matrix.
+     * cleared rows.
+     *
+     * <p>
+     *     Only the rows touched since the last call are checked, and the
+     *     rows are removed in place. The column heights are then lowered
+     *     to the new highest filled cell of each column.
+     *     Only the rows from the highest block down to the lowest full row
+     *     move, so only those are XOR-ed out of the board hash before
+     *     the clear and back in at their new rows after it.
+     *     The number of cleared rows is published on the event bus.
+     * </p>
      *
      * @return the result of the row clearing operation
      */
     @Override
     public ClearRow clearRows() {
-        ClearRow clearRow = MatrixOperations.checkRemoving(currentGameMatrix);
-        currentGameMatrix = clearRow.getNewMatrix();
+        // only the rows from the highest block down to the lowest full row change
+        int lowest = lowestFullRow();
+        int top = width;
+        long movedRows = 0;
+        if (lowest >= 0) {
+            for (int columnTop : columnTops) {
+                top = Math.min(top, columnTop);
+            }
+            movedRows = zobrist.rows(currentGameMatrix, top, lowest);
+        }
+        ClearRow clearRow = MatrixOperations.removeFullRows(currentGameMatrix, rowFill, mergedTop, mergedBottom);
+        if (clearRow.getLinesRemoved() > 0) {
+            // the rows that are left now start as many rows lower as were removed
+            boardHash ^= movedRows ^ zobrist.rows(currentGameMatrix, top + clearRow.getLinesRemoved(), lowest);
+            if (features != null) features.clearFullRows();
+            // every row above the lowest cleared row has moved
+            changedRows |= MatrixOperations.rowRange(0, mergedBottom);
+            // rows only move down, so each new top is at or below the old one
+            for (int column = 0; column < height; column++) {
+                int row = columnTops[column];
+                while (row < width && currentGameMatrix[row][column] == 0) {
+                    row++;
+                }
+                columnTops[column] = row;
+            }
+            eventBus.publish(GameEventType.LINES_CLEARED, clearRow.getLinesRemoved());
+        }
+        resetMergedRows();
         return clearRow;
+    }
+
+    private int lowestFullRow() {
+        for (int row = mergedBottom; row >= Math.max(mergedTop, 0); row--) {
+            if (rowFill[row] == height) return row;
+        }
+        return -1;
+    }
 
+    private void resetMergedRows() {
+        mergedTop = width;
+        mergedBottom = -1;
     }
 
 //Getters
@@ -257,15 +399,100 @@ public class SimpleBoard implements Board {
         return currentGameMatrix;
     }
 
+    /**
+     * Returns the rows changed by merges, line clears and new games since the last call.
+     *
+     * @return the changed rows as a bit mask
+     */
+    @Override
+    public long takeChangedRows() {
+        long rows = changedRows;
+        changedRows = 0;
+        return rows;
+    }
+
     /**
      * Returns a {@link ViewData} that contains all graphics information
      * of the board and bricks in the GUI.
      *
+     * <p>
+     *     Every change to the brick, the next brick, the held brick or the ghost piece
+     *     increases the board's version. The same snapshot is returned until the
+     *     version changes.
+     * </p>
+     *
      * @return the view data for the current game state
      */
     @Override
     public ViewData getViewData() {
-        return new ViewData(brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY(), brickGenerator.getNextBrick().getShapeMatrix().getFirst(), brickRotator.getHoldBrick(), ghostPieceOffset);
+        if (viewData == null || viewData.getVersion() != version) {
+            viewData = new ViewData(version, brickRotator.getRotationTable(), brickRotator.getCurrentRotation(), currentX, currentY,
+                    brickGenerator.getNextBrick().getRotationTable(), brickRotator.getHoldRotationTable(), ghostX, ghostY);
+        }
+        return viewData;
+    }
+
+    /**
+     * Returns the Zobrist hash of the placed blocks.
+     *
+     * <p>The hash is updated as bricks are merged and rows are cleared, not worked out on each call.</p>
+     *
+     * @return the XOR of the {@link Zobrist} keys of the filled cells
+     */
+    @Override
+    public long getBoardHash() {
+        return boardHash;
+    }
+
+    /**
+     * Returns the Zobrist hash of the placed blocks and the falling brick.
+     *
+     * @return the board hash XOR-ed with the key of the current brick at its position
+     */
+    @Override
+    public long getStateHash() {
+        return boardHash ^ Zobrist.piece(brickRotator.getRotationTable().getColor(),
+                brickRotator.getCurrentRotation(), currentX, currentY);
+    }
+
+    /**
+     * Returns the features of the placed blocks.
+     *
+     * <p>The tracker is created from the board matrix on the first call. From then on it is
+     * updated as bricks are merged and rows are cleared, not worked out on each call, so a
+     * board that is never asked for its features does no work for them.</p>
+     *
+     * @return the board's {@link FeatureTracker}
+     * @throws IllegalArgumentException if the board has more rows than a {@link FeatureTracker} holds
+     */
+    @Override
+    public FeatureTracker getFeatureTracker() {
+        if (features == null) {
+            features = new FeatureTracker(width, height);
+            features.load(getBoardMatrix());
+        }
+        return features;
+    }
+
+    /**
+     * Returns an upcoming brick from the {@link BrickGenerator}'s queue.
+     *
+     * @param index 0 for the next brick, 1 for the one after it
+     * @return the upcoming piece data
+     */
+    @Override
+    public Brick peekBrick(int index) {
+        return brickGenerator.peekBrick(index);
+    }
+
+    /**
+     * Returns how many upcoming bricks the {@link BrickGenerator} shows.
+     *
+     * @return the preview depth
+     */
+    @Override
+    public int getPreviewSize() {
+        return brickGenerator.getPreviewSize();
     }
 
     /**
@@ -297,6 +524,16 @@ public class SimpleBoard implements Board {
     public Level getLevel() {
         return level;
     }
+
+    /**
+     * Returns the bus on which this board publishes locked pieces, cleared rows and holds.
+     *
+     * @return the board's event bus
+     */
+    @Override
+    public GameEventBus getEventBus() {
+        return eventBus;
+    }
 //
 
     /**
@@ -304,7 +541,16 @@ public class SimpleBoard implements Board {
      */
     @Override
     public void newGame() {
-        currentGameMatrix = new int[width][height];
+        for (int[] row : currentGameMatrix) {
+            Arrays.fill(row, 0);
+        }
+        Arrays.fill(rowFill, 0);
+        Arrays.fill(columnTops, width);
+        resetMergedRows();
+        boardHash = 0;
+        if (features != null) features.reset();
+        changedRows = -1L;
+        eventBus.clear();
         score.reset();
         totalLinesCleared.reset();
         level.reset();
@@ -1,7 +1,6 @@
 package com.comp2042.logic;
 
 import com.comp2042.data.Score;
-import javafx.application.Platform;
 import javafx.scene.control.Label;
 import javafx.scene.layout.VBox;
 
@@ -10,8 +9,12 @@ import javafx.scene.layout.VBox;
  *
  * <p>The {@code Timer} class provides functionality for setting, starting, pausing,
  * resetting, and stopping a countdown timer. It can also display the remaining
- * time in a JavaFX {@link Label} and updates the UI in a thread-safe manner
- * using {@link Platform#runLater}.</p>
+ * time in a JavaFX {@link Label}.</p>
+ *
+ * <p>The countdown is kept by a {@link GameClock}, which measures time with
+ * {@link System#nanoTime()} and runs no thread. {@link #update()} is called on every
+ * JavaFX pulse by the game screen to refresh the label and to run the time-up action
+ * as soon as the countdown reaches zero.</p>
  *
  * <p>This class is responsible for:</p>
  * <ul>
@@ -31,15 +34,16 @@ public class Timer {
     /** The start time in seconds */
     private static int startingTime = 0;
 
-    /** The remaining time in seconds */
-    private static int remainingTime;
-
-    /** Indicates whether the timer is currently running. */
-    private static boolean running = false;
+    /** The clock that counts down the current game. */
+    private static final GameClock clock = new GameClock();
 
     /** The JavaFX label used to display the remaining time. */
     private static Label label;
 
+    static {
+        clock.setOnSecond(_ -> updateLabel());
+    }
+
     /**
      * Sets the timer duration in minutes.
      *
@@ -47,7 +51,7 @@ public class Timer {
      */
     public static void setTimer(int minutes) {
         startingTime = minutes * 60;
-        remainingTime = startingTime;
+        clock.setDuration(startingTime);
     }
 
     /**
@@ -68,32 +72,29 @@ public class Timer {
     }
 
     /**
-     * Starts the countdown timer in a background thread.
+     * Sets the action run once when the countdown reaches zero.
      *
-     * <p>The timer decrements every second and updates the assigned display label.</p>
+     * @param onTimeUp the time-up action, or {@code null} for none
+     */
+    public static void setOnTimeUp(Runnable onTimeUp) {
+        clock.setOnExpired(onTimeUp);
+    }
+
+    /**
+     * Starts the countdown, or resumes it if it was paused.
      */
     public static void start() {
-        if (running) return;
-
-        running = true;
-
-        Thread timerThread = new Thread(() -> {
-            try {
-                while (remainingTime > 0) {
-                    Thread.sleep(1000);
-
-                    if (running) {  // only count down when not paused
-                        remainingTime--;
-                        updateLabel();
-                    }
-                }
-            } catch (InterruptedException e) {
-                throw new RuntimeException(e);
-            }
-        });
-
-        timerThread.setDaemon(true);
-        timerThread.start();
+        clock.start();
+    }
+
+    /**
+     * Refreshes the display label when a second has passed and runs the time-up action
+     * if the countdown has just reached zero.
+     *
+     * <p>Called on every JavaFX pulse while the game screen is shown.</p>
+     */
+    public static void update() {
+        clock.update();
     }
 
     /**
@@ -102,7 +103,7 @@ public class Timer {
      * @param isPause true to pause the timer, false to resume
      */
     public static void pause(boolean isPause) {
-        running = !isPause;
+        clock.pause(isPause);
     }
 
     /**
@@ -114,8 +115,7 @@ public class Timer {
         if (startingTime == 0){
             return;
         }
-        running = false;
-        remainingTime = startingTime;
+        clock.reset();
         updateLabel();
     }
 
@@ -125,6 +125,7 @@ public class Timer {
      * @return the formatted remaining time string
      */
     private static String getFormattedTime() {
+        int remainingTime = clock.getRemainingSeconds();
         int minutes = remainingTime / 60;
         int seconds = remainingTime % 60;
         return String.format("%02d:%02d", minutes, seconds);
@@ -135,7 +136,7 @@ public class Timer {
      */
     private static void updateLabel() {
         if (label != null) {
-            Platform.runLater(() -> label.setText(getFormattedTime()));
+            label.setText(getFormattedTime());
         }
     }
 
@@ -143,7 +144,7 @@ public class Timer {
      * Stops the timer and clears the assigned display label.
      */
     public static void stop() {
-        running = false;
+        clock.stop();
         label = null;    // prevent updating old UI label
     }
 
@@ -165,7 +166,7 @@ public class Timer {
      * @return the remaining seconds
      */
     public static int getRemainingSeconds(){
-        return remainingTime;
+        return clock.getRemainingSeconds();
     }
 
 }
@@ -0,0 +1,164 @@
+package com.comp2042.logic;
+
+import com.comp2042.data.bricks.RotationTable;
+
+import java.util.SplittableRandom;
+
+/**
+ * Gives every cell of a board a random 64-bit key, so a board can be hashed by
+ * XOR-ing the keys of its filled cells.
+ *
+ * <p>
+ * Since XOR undoes itself, the hash is kept up to date as the board changes: placing
+ * a brick XORs in the keys of its cells, and a row that moves from one row to another
+ * XORs out its keys at the old row and XORs in its keys at the new one. Only which
+ * cells are filled is hashed, not their colours. The falling brick is hashed apart,
+ * with {@link #piece(int, int, int, int)}, and XOR-ed onto the board hash.
+ * </p>
+ *
+ * <p>
+ * The keys come from a fixed seed, so two tables of the same size hold the same keys
+ * and boards of the same size hash the same way in every game and every thread.
+ * </p>
+ */
+public final class Zobrist {
+
+    private static final long SEED = 0x5A0B_2157_C0DE_F00DL;
+
+    private final int rows;
+    private final int columns;
+    private final long[] cells;
+
+    /**
+     * Creates the keys for a board of the given size.
+     *
+     * @param rows the number of rows of the board
+     * @param columns the number of columns of the board
+     */
+    public Zobrist(int rows, int columns) {
+        this.rows = rows;
+        this.columns = columns;
+        cells = new long[rows * columns];
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = random.nextLong();
+        }
+    }
+
+    /**
+     * Returns the key of one cell.
+     *
+     * @param row the row of the cell
+     * @param column the column of the cell
+     * @return the key XOR-ed into the hash while the cell is filled
+     */
+    public long cell(int row, int column) {
+        return cells[row * columns + column];
+    }
+
+    /**
+     * Returns the XOR of the keys of the filled cells of a row given as a bit mask.
+     *
+     * @param row the row index
+     * @param bits the row, bit {@code c} being set when column {@code c} is filled
+     * @return the hash of the row
+     */
+    public long row(int row, int bits) {
+        long hash = 0;
+        int base = row * columns;
+        while (bits != 0) {
+            hash ^= cells[base + Integer.numberOfTrailingZeros(bits)];
+            bits &= bits - 1;
+        }
+        return hash;
+    }
+
+    /**
+     * Returns the XOR of the keys of the filled cells of some rows of a matrix.
+     *
+     * @param matrix the board matrix
+     * @param from the first row
+     * @param to the last row
+     * @return the hash of the rows, 0 if {@code to} is above {@code from}
+     */
+    public long rows(int[][] matrix, int from, int to) {
+        long hash = 0;
+        for (int row = Math.max(from, 0); row <= to; row++) {
+            int base = row * columns;
+            for (int column = 0; column < columns; column++) {
+                if (matrix[row][column] != 0) hash ^= cells[base + column];
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Returns the hash of a whole matrix.
+     *
+     * @param matrix the board matrix
+     * @return the XOR of the keys of every filled cell
+     */
+    public long hash(int[][] matrix) {
+        return rows(matrix, 0, rows - 1);
+    }
+
+    /**
+     * Returns the XOR of the keys of the cells a brick covers.
+     *
+     * <p>XOR-ing this into the hash of a board gives the hash of the board with the brick merged into it.</p>
+     *
+     * @param brickMask the brick shape, bit {@code row * 4 + column} being one cell
+     * @param x the column of the brick
+     * @param y the row of the brick
+     * @return the hash of the brick's cells
+     */
+    public long brick(int brickMask, int x, int y) {
+        long hash = 0;
+        while (brickMask != 0) {
+            int bit = Integer.numberOfTrailingZeros(brickMask);
+            hash ^= cells[(y + (bit >>> 2)) * columns + x + (bit & 3)];
+            brickMask &= brickMask - 1;
+        }
+        return hash;
+    }
+
+    /**
+     * Returns the key of a falling brick.
+     *
+     * <p>
+     * The key is worked out from the brick and its position with a 64-bit mixing
+     * function, so positions outside the board have keys too.
+     * </p>
+     *
+     * @param color the colour of the brick, which tells the bricks apart
+     * @param rotation the rotation index of the brick
+     * @param x the column of the brick
+     * @param y the row of the brick
+     * @return the key of the brick at that position
+     */
+    public static long piece(int color, int rotation, int x, int y) {
+        long index = ((long) color * RotationTable.SIZE + rotation) << 32 | (y & 0xFFFFL) << 16 | (x & 0xFFFFL);
+        long z = SEED + index * 0x9E37_79B9_7F4A_7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58_476D_1CE4_E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D0_49BB_1331_11EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Returns the number of rows the keys cover.
+     *
+     * @return the row count
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of columns the keys cover.
+     *
+     * @return the column count
+     */
+    public int getColumns() {
+        return columns;
+    }
+}
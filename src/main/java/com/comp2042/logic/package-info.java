@@ -3,12 +3,25 @@
  *
  * <p>This package includes: </p>
  * <ul>
+ *   <li>{@link com.comp2042.logic.BitBoard} – is an implementation of {@link com.comp2042.interfaces.Board}
+ *      that stores each row as a bit mask.</li>
+ *   <li>{@link com.comp2042.logic.BoardFeatures} – holds the features of a board that the bot's evaluation reads.</li>
  *   <li>{@link com.comp2042.logic.BrickRotator} – handles logic for bricks
+ *   <li>{@link com.comp2042.logic.FeatureTracker} – keeps the board features up to date as bricks are merged
+ *       and rows are cleared, and works out the features of a placement without changing the board.</li>
+ *   <li>{@link com.comp2042.logic.GameClock} – counts down timed games without a thread.</li>
+ *   <li>{@link com.comp2042.logic.GameLoop} – turns frame times into gravity steps at a fixed tick rate.</li>
+ *   <li>{@link com.comp2042.logic.GameEventBus} – stores game events in a ring buffer and delivers
+ *       them to listeners.</li>
  *   <li>{@link com.comp2042.logic.MatrixOperations} – provides functions for manipulating
  *       the game matrices.</li>
+ *   <li>{@link com.comp2042.logic.MoveGenerator} – finds every resting position a brick can reach with a breadth-first search.</li>
+ *   <li>{@link com.comp2042.logic.ReplayPlayer} – plays a recorded replay back into the game logic.</li>
+ *   <li>{@link com.comp2042.logic.ReplayRecorder} – records the inputs of a game into a compact replay file.</li>
  *   <li>{@link com.comp2042.logic.SimpleBoard} – is the implementation of {@link com.comp2042.interfaces.Board} and
  *      handles the board and movement logics.</li>
- *   <li>{@link com.comp2042.logic.Timer} – acts as the game's timer</li>
+ *   <li>{@link com.comp2042.logic.Timer} – acts as the game's timer, backed by a {@link com.comp2042.logic.GameClock}</li>
+ *   <li>{@link com.comp2042.logic.Zobrist} – gives every cell a random key so boards can be hashed incrementally.</li>
  * </ul>
  *
  * <p>
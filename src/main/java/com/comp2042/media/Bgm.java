@@ -1,17 +1,15 @@
 package com.comp2042.media;
 
-import com.comp2042.data.SaveData;
-import com.comp2042.enums.SaveDataType;
+import com.comp2042.data.Settings;
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
 
-import java.io.IOException;
 import java.util.Objects;
 
 /**
  * This class handles the background music for the game.
  * <p>
- * This class loads the volume from {@link SaveDataType}, ensures the background music is played on an
+ * This class loads the volume from {@link Settings}, ensures the background music is played on an
  * infinite loop.
  * </p>
  * <p>
@@ -56,22 +54,15 @@ public class Bgm {
     /**
      * Sets the volume of the background music based on the user's saved preference.
      * <p>
-     * The volume is read from {@link SaveData} using the line indicated by {@link SaveDataType}.
+     * The volume is read from the {@link Settings} snapshot.
      * The saved value is stored as an integer and converted to a decimal between 0 and 1,
      * as required by {@link MediaPlayer}.
      * </p>
-     *
-     * @throws RuntimeException if reading the saved volume from {@link SaveDataType}.
      */
 
     public static void setVolume() {
         if (mediaPlayer != null) {
-            try {
-                int savedVolume = SaveData.ReadFileInt(SaveData.getKeyEvent(SaveDataType.MUSIC));
-                mediaPlayer.setVolume(savedVolume / 100.0);
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
+            mediaPlayer.setVolume(Settings.get().getMusicVolume() / 100.0);
         }
     }
 }
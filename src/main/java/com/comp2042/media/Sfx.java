@@ -1,12 +1,13 @@
 package com.comp2042.media;
 
-import com.comp2042.data.SaveData;
+import com.comp2042.data.Settings;
 import com.comp2042.data.SoundData;
+import com.comp2042.enums.GameEventType;
 import com.comp2042.enums.SaveDataType;
-import javafx.scene.media.Media;
-import javafx.scene.media.MediaPlayer;
+import javafx.scene.media.AudioClip;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * This class handles loading and playing sound effects (SFX)
@@ -16,57 +17,125 @@ import java.util.*;
  * an internal map and used whenever sound effects are played.
  * </p>
  *
+ * <p>
+ * Every sound file is decoded once into an {@link AudioClip} when it is loaded, and the
+ * same clip is replayed every time the effect is played. When the same effect is played
+ * again within {@link #RETRIGGER_NANOS}, for example once per row of a four line clear,
+ * the plays are combined into one voice. An effect also plays at most {@link #MAX_VOICES}
+ * voices at once, so bursts spaced further apart than the retrigger window do not pile up.
+ * </p>
+ *
  * <p>This class is responsible for:</p>
  * <ul>
  *     <li>Loading SFX file paths and volume</li>
  *     <li>Storing SFX data in a map based on the SFX type</li>
+ *     <li>Playing the sound effects of game events</li>
+ *     <li>Counting the voices started and dropped, and the time taken to start them</li>
  * </ul>
  */
 public class Sfx {
 
+    /**
+     * The shortest time between two voices of the same effect, in nanoseconds.
+     * Plays that arrive sooner are dropped.
+     */
+    public static final long RETRIGGER_NANOS = 30_000_000L;
+
+    /**
+     * The most voices of one effect that can play at once. Plays beyond it are dropped.
+     */
+    public static final int MAX_VOICES = 3;
+
     /**
      * Creates a {@link HashMap} that maps each sound type to its corresponding volume
      *
      * <p>
      *     This map is used to store and retrieve the sound type and volume settings for different
-     *     SFX. The sound type and volume is retrieved from {@link SaveData} using {@link SaveDataType}
+     *     SFX. The sound type and volume is retrieved from {@link Settings} using {@link SaveDataType}
      * </p>
      */
     private static final Map<SaveDataType, SoundData> sfxMap = new HashMap<>();
 
+    /** The decoded clip of every sound file, by file name. */
+    private static final Map<String, AudioClip> clips = new HashMap<>();
+
     /**
-     * Loads the saved SFX sound type and volume into {@link Map}.
+     * The time each effect last started a voice, from {@link System#nanoTime()}, by {@link SaveDataType#ordinal()}.
+     * Every effect starts out as if it last played {@link #RETRIGGER_NANOS} before the class was loaded.
+     */
+    private static final long[] lastStarted = new long[SaveDataType.values().length];
+
+    static {
+        Arrays.fill(lastStarted, System.nanoTime() - RETRIGGER_NANOS);
+    }
+
+    /**
+     * The voices each effect started since its clip last went silent, by {@link SaveDataType#ordinal()}.
+     * An {@link AudioClip} only tells whether any voice is playing, so this may count voices that
+     * have already ended, but never misses one that is still playing.
+     */
+    private static final int[] liveVoices = new int[SaveDataType.values().length];
+
+    private static final AtomicLong voicesStarted = new AtomicLong();
+    private static final AtomicLong voicesDropped = new AtomicLong();
+    private static final AtomicLong playNanos = new AtomicLong();
+
+    /**
+     * Loads the saved SFX sound type and volume into {@link Map}, and decodes its sound file
+     * if it has not been decoded yet.
      * @param sfxType - type of SFX
      */
     public static void loadMap(SaveDataType sfxType) {
-        try {
-            String[] raw = SaveData.ReadFileList(SaveData.getKeyEvent(sfxType));
-            String fileName = raw[0].trim();
-            double volume = Double.parseDouble(raw[1].trim());
-            sfxMap.put(sfxType, new SoundData(fileName, volume));
-
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+        SoundData sound = Settings.get().getSound(sfxType);
+        sfxMap.put(sfxType, sound);
+        clips.computeIfAbsent(sound.getFileName(), fileName ->
+                new AudioClip(Objects.requireNonNull(Sfx.class.getResource("/audio/" + fileName)).toExternalForm()));
     }
 
     /**
      * Plays a sound effect (SFX).
      *
-     * <p>This method retrieves the sound file path and its associated volume from
-     * {@link Map} determined by {@code type}, and then plays the sound.</p>
+     * <p>This method retrieves the sound file and its associated volume from
+     * {@link Map} determined by {@code type}, and then plays the preloaded clip.
+     * If the effect already started a voice within {@link #RETRIGGER_NANOS}, or already has
+     * {@link #MAX_VOICES} voices playing, nothing is played.</p>
      *
      * @param type the specific SFX type to play
      */
     public static void play(SaveDataType type) {
         SoundData sound = sfxMap.get(type);
         if (sound == null) return;
+        AudioClip clip = clips.get(sound.getFileName());
+        if (clip == null) return;
+
+        long start = System.nanoTime();
+        int effect = type.ordinal();
+        if (!clip.isPlaying()) liveVoices[effect] = 0;
+        if (start - lastStarted[effect] < RETRIGGER_NANOS || liveVoices[effect] >= MAX_VOICES) {
+            voicesDropped.incrementAndGet();
+            return;
+        }
+        lastStarted[effect] = start;
+        liveVoices[effect]++;
 
-        Media media = new Media(Objects.requireNonNull(Sfx.class.getResource("/audio/" + sound.getFileName())).toExternalForm());
-        MediaPlayer player = new MediaPlayer(media);
+        clip.play(sound.getVolume());
+        voicesStarted.incrementAndGet();
+        playNanos.addAndGet(System.nanoTime() - start);
+    }
 
-        player.setVolume(sound.getVolume());
-        player.play();
+    /**
+     * Plays the sound effect of a game event.
+     *
+     * <p>The game screen subscribes this method to the game event bus, so the game logic never plays
+     * sounds itself. A line clear plays the clear line sound once, however many rows were removed.</p>
+     *
+     * @param type the type of the game event
+     * @param value the number carried by the event
+     */
+    public static void onGameEvent(GameEventType type, int value) {
+        if (type == GameEventType.LINES_CLEARED) {
+            play(SaveDataType.CLEARLINES);
+        }
     }
 
     /**
@@ -75,19 +144,42 @@ public class Sfx {
      * <p>
      *     This map is used to rewrite the SFX type specified by {@code sfxType}
      *     with the sound type and volume settings.
-     *     The sound type and volume is retrieved from {@link SaveData} using {@link SaveDataType}.
+     *     The sound type and volume is retrieved from {@link Settings} using {@link SaveDataType}.
+     *     A sound file that is already decoded is not decoded again.
      * </p>
      *
      */
     public static void reset(SaveDataType sfxType) {
-        try {
-            String[] raw = SaveData.ReadFileList(SaveData.getKeyEvent(sfxType));
+        loadMap(sfxType);
+    }
 
-            List<String> lines = Arrays.asList(raw);
-            sfxMap.put(sfxType, new SoundData(lines.get(0), Double.parseDouble(lines.get(1))));
+// Counters
+    /**
+     * Returns the number of voices started since the game was launched.
+     *
+     * @return the number of sound effects played
+     */
+    public static long getVoicesStarted() {
+        return voicesStarted.get();
+    }
 
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+    /**
+     * Returns the number of plays dropped because the same effect had just started a voice
+     * or already had {@link #MAX_VOICES} voices playing.
+     *
+     * @return the number of plays dropped
+     */
+    public static long getVoicesDropped() {
+        return voicesDropped.get();
+    }
+
+    /**
+     * Returns the average time taken to start a voice.
+     *
+     * @return the average time in nanoseconds, or 0 if nothing has been played
+     */
+    public static long getAveragePlayNanos() {
+        long started = voicesStarted.get();
+        return started == 0 ? 0 : playNanos.get() / started;
     }
 }
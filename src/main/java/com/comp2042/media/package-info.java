@@ -4,7 +4,7 @@
  * <p>This package includes: </p>
  * <ul>
  *   <li>{@link com.comp2042.media.Bgm} – handles the background music</li>
- *   <li>{@link com.comp2042.media.Sfx} – handles the sound effects (SFX)</li>
+ *   <li>{@link com.comp2042.media.Sfx} – handles the sound effects (SFX), replaying clips decoded once</li>
  * </ul>
  *
  * <p>
@@ -0,0 +1,243 @@
+package com.comp2042.view;
+
+import javafx.animation.AnimationTimer;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+
+/**
+ * This class draws the playfield onto canvases instead of one {@code Rectangle} node per cell.
+ *
+ * <p>
+ * The board, the ghost piece and the falling brick are drawn onto one board canvas,
+ * and the next and held bricks onto one small canvas each. The setters only store the
+ * latest state and mark the canvas as changed. An {@link AnimationTimer} then redraws
+ * each changed canvas once per frame, however many updates arrived in between.
+ * </p>
+ *
+ * <p>
+ * The hidden rows at the top of the board are not drawn, matching the node renderer.
+ * </p>
+ */
+public class CanvasRenderer {
+
+    private static final Color GRID_COLOR = Color.web("#6C84C1");
+
+    private final int brickSize;
+    private final int hiddenRows;
+    private final Paint[] fills;
+    private final Paint[] borders;
+    private final Canvas boardCanvas;
+    private final Canvas nextCanvas;
+    private final Canvas holdCanvas;
+    private final AnimationTimer pulse;
+
+    private int[][] boardMatrix;
+    private ViewData brick;
+    private ViewData nextBrick;
+    private ViewData holdBrick;
+    private boolean ghostVisible = true;
+    private boolean boardChanged, nextChanged, holdChanged;
+
+    /**
+     * Creates the canvases for a board of the given size.
+     *
+     * @param rows the number of rows in the board matrix, including the hidden rows
+     * @param columns the number of columns in the board matrix
+     * @param brickSize the width and height of one cell in pixels
+     * @param hiddenRows the number of rows at the top of the board that are not drawn
+     * @param fills the fill colour of each colour value, where index 0 is an empty cell
+     *              and the last index is used for any larger value
+     * @param borders the border colour of each colour value, in the same order as {@code fills}
+     */
+    public CanvasRenderer(int rows, int columns, int brickSize, int hiddenRows, Paint[] fills, Paint[] borders) {
+        this.brickSize = brickSize;
+        this.hiddenRows = hiddenRows;
+        this.fills = fills.clone();
+        this.borders = borders.clone();
+        boardCanvas = new Canvas(columns * brickSize, (rows - hiddenRows) * brickSize);
+        nextCanvas = new Canvas(ViewData.SHAPE_SIZE * brickSize, ViewData.SHAPE_SIZE * brickSize);
+        holdCanvas = new Canvas(ViewData.SHAPE_SIZE * brickSize, ViewData.SHAPE_SIZE * brickSize);
+        pulse = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                draw();
+            }
+        };
+    }
+
+    /**
+     * Starts redrawing the changed canvases once per frame.
+     */
+    public void start() {
+        pulse.start();
+    }
+
+    /**
+     * Stops redrawing the canvases.
+     */
+    public void stop() {
+        pulse.stop();
+    }
+
+// Getters
+    /**
+     * Returns the canvas showing the board, the ghost piece and the falling brick.
+     *
+     * @return the board canvas
+     */
+    public Canvas getBoardCanvas() {
+        return boardCanvas;
+    }
+
+    /**
+     * Returns the canvas showing the next brick.
+     *
+     * @return the next brick canvas
+     */
+    public Canvas getNextCanvas() {
+        return nextCanvas;
+    }
+
+    /**
+     * Returns the canvas showing the held brick.
+     *
+     * @return the hold brick canvas
+     */
+    public Canvas getHoldCanvas() {
+        return holdCanvas;
+    }
+
+// Setters
+    /**
+     * Sets the board matrix to draw. The matrix is read when the next frame is drawn.
+     *
+     * @param boardMatrix the current board matrix
+     */
+    public void setBoard(int[][] boardMatrix) {
+        this.boardMatrix = boardMatrix;
+        boardChanged = true;
+    }
+
+    /**
+     * Sets the falling brick and ghost piece to draw.
+     *
+     * @param brick the current view data
+     */
+    public void setBrick(ViewData brick) {
+        this.brick = brick;
+        boardChanged = true;
+    }
+
+    /**
+     * Sets the brick shown in the next brick preview.
+     *
+     * @param brick the view data holding the next brick
+     */
+    public void setNextBrick(ViewData brick) {
+        nextBrick = brick;
+        nextChanged = true;
+    }
+
+    /**
+     * Sets the brick shown in the hold preview.
+     *
+     * @param brick the view data holding the held brick, or {@code null} to clear the preview
+     */
+    public void setHoldBrick(ViewData brick) {
+        holdBrick = brick;
+        holdChanged = true;
+    }
+
+    /**
+     * Shows or hides the ghost piece.
+     *
+     * @param ghostVisible {@code true} to draw the ghost piece
+     */
+    public void setGhostVisible(boolean ghostVisible) {
+        if (this.ghostVisible != ghostVisible) {
+            this.ghostVisible = ghostVisible;
+            boardChanged = true;
+        }
+    }
+
+// Drawing
+    /**
+     * Redraws every canvas that has changed since the last frame.
+     */
+    void draw() {
+        if (boardChanged) {
+            drawBoard();
+            boardChanged = false;
+        }
+        if (nextChanged) {
+            drawPreview(nextCanvas, nextBrick, false);
+            nextChanged = false;
+        }
+        if (holdChanged) {
+            drawPreview(holdCanvas, holdBrick, true);
+            holdChanged = false;
+        }
+    }
+
+    private void drawBoard() {
+        GraphicsContext gc = boardCanvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, boardCanvas.getWidth(), boardCanvas.getHeight());
+        if (boardMatrix == null) return;
+
+        gc.setStroke(GRID_COLOR);
+        gc.setLineWidth(0.5);
+        for (int i = hiddenRows; i < boardMatrix.length; i++) {
+            for (int j = 0; j < boardMatrix[i].length; j++) {
+                gc.strokeRect(j * brickSize + 0.25, (i - hiddenRows) * brickSize + 0.25, brickSize - 0.5, brickSize - 0.5);
+            }
+        }
+        for (int i = hiddenRows; i < boardMatrix.length; i++) {
+            for (int j = 0; j < boardMatrix[i].length; j++) {
+                drawCell(gc, boardMatrix[i][j], j * brickSize, (i - hiddenRows) * brickSize);
+            }
+        }
+
+        if (brick == null) return;
+        if (ghostVisible) {
+            gc.setGlobalAlpha(0.5);
+            drawBrick(gc, (int) brick.getGhostPieceXPosition(), (int) brick.getGhostPieceYPosition());
+            gc.setGlobalAlpha(1);
+        }
+        drawBrick(gc, brick.getxPosition(), brick.getyPosition());
+    }
+
+    private void drawBrick(GraphicsContext gc, int column, int row) {
+        for (int i = 0; i < ViewData.SHAPE_SIZE; i++) {
+            int y = row + i - hiddenRows;
+            if (y < 0) continue;
+            for (int j = 0; j < ViewData.SHAPE_SIZE; j++) {
+                drawCell(gc, brick.getBrickCell(i, j), (column + j) * brickSize, y * brickSize);
+            }
+        }
+    }
+
+    private void drawPreview(Canvas canvas, ViewData data, boolean hold) {
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        if (data == null) return;
+        for (int i = 0; i < ViewData.SHAPE_SIZE; i++) {
+            for (int j = 0; j < ViewData.SHAPE_SIZE; j++) {
+                int color = hold ? data.getHoldBrickCell(i, j) : data.getNextBrickCell(i, j);
+                drawCell(gc, color, j * brickSize, i * brickSize);
+            }
+        }
+    }
+
+    // same look as a Rectangle with an inside stroke of width 1
+    private void drawCell(GraphicsContext gc, int color, double x, double y) {
+        if (color == 0) return;
+        int index = Math.min(color, fills.length - 1);
+        gc.setFill(fills[index]);
+        gc.fillRect(x, y, brickSize, brickSize);
+        gc.setStroke(borders[index]);
+        gc.setLineWidth(1);
+        gc.strokeRect(x + 0.5, y + 0.5, brickSize - 1, brickSize - 1);
+    }
+}
@@ -0,0 +1,89 @@
+package com.comp2042.view;
+
+import com.comp2042.enums.GameEventType;
+import com.comp2042.interfaces.GameView;
+import com.comp2042.interfaces.InputEventListener;
+import javafx.beans.property.IntegerProperty;
+
+/**
+ * A {@link GameView} that draws nothing.
+ *
+ * <p>
+ * It lets {@link com.comp2042.controllers.GameController} play whole games without a
+ * JavaFX window, for example in tests, benchmarks and load tests. It only remembers
+ * whether the game is over, so the caller knows when to start the next one.
+ * </p>
+ */
+public final class HeadlessGameView implements GameView {
+
+    private boolean gameOver;
+    private int gamesOver;
+
+    @Override
+    public void setEventListener(InputEventListener eventListener) {
+    }
+
+    @Override
+    public void initGameView(int[][] boardMatrix, ViewData brick) {
+    }
+
+    @Override
+    public void bindScore(IntegerProperty integerProperty) {
+    }
+
+    @Override
+    public void bindTotalClearedLines(IntegerProperty integerProperty) {
+    }
+
+    @Override
+    public void bindLevel(IntegerProperty integerProperty) {
+    }
+
+    @Override
+    public void setSpeed(int speed) {
+    }
+
+    @Override
+    public void refreshGameBackground(int[][] board, long changedRows) {
+    }
+
+    @Override
+    public void refreshNextBrick(ViewData brick) {
+    }
+
+    @Override
+    public void gameOver() {
+        gameOver = true;
+        gamesOver++;
+    }
+
+    @Override
+    public void onGameEvent(GameEventType type, int value) {
+    }
+
+    /**
+     * Clears the game over flag for the next game.
+     */
+    public void reset() {
+        gameOver = false;
+    }
+
+// Getters
+    /**
+     * Returns whether the current game is over.
+     *
+     * @return {@code true} after {@link #gameOver()} until {@link #reset()}
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Returns the number of games that have ended.
+     *
+     * @return the game over count
+     */
+    public int getGamesOver() {
+        return gamesOver;
+    }
+}
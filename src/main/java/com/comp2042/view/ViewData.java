@@ -1,23 +1,41 @@
 package com.comp2042.view;
 
+import com.comp2042.data.bricks.RotationTable;
 import com.comp2042.logic.MatrixOperations;
 
-import java.awt.*;
-
 /**
  * This class represents all visual data required by the GUI to render the current game state.
  * This includes the active brick shape and position, the next brick, the held brick,
  * and the ghost piece's projected position.
+ *
+ * <p>
+ * A {@code ViewData} is an immutable snapshot. The board only creates a new one when
+ * its visual state changes, and every snapshot carries the board's version number at
+ * that time, so the GUI can skip rendering when the version has not moved.
+ * </p>
+ *
+ * <p>
+ * The shapes are read from the bricks' shared {@link RotationTable}s through the cell
+ * accessors, without copying. The {@code get...Data()} methods still return copies.
+ * </p>
  */
 
 public final class ViewData {
 
-    private int[][] brickData;
-    private int[][] holdBrickData;
+    /**
+     * The width and height of every brick shape.
+     */
+    public static final int SHAPE_SIZE = RotationTable.SIZE;
+
+    private final long version;
+    private final RotationTable brick;
+    private final int rotation;
     private final int xPosition;
     private final int yPosition;
-    private final int[][] nextBrickData;
-    Point ghostPieceOffset;
+    private final RotationTable nextBrick;
+    private final RotationTable holdBrick;
+    private final int ghostXPosition;
+    private final int ghostYPosition;
 
     /**
      * Creates a new {@code ViewData} object containing all visual information
@@ -25,21 +43,108 @@ public final class ViewData {
      * active brick, its position, the next brick, the held brick, and the ghost
      * piece projection.
      *
-     * @param brickData        the shape data of the currently active brick
+     * @param version          the board's version number when this snapshot was taken
+     * @param brick            the rotations of the currently active brick
+     * @param rotation         the rotation index of the currently active brick
      * @param xPosition        the x-coordinate of the active brick on the game grid
      * @param yPosition        the y-coordinate of the active brick on the game grid
-     * @param nextBrickData    the shape data of the upcoming next brick
-     * @param holdBrickData    the shape data of the currently held brick, if any
-     * @param ghostPieceOffset the projected (x, y) offset where the ghost piece should appear
+     * @param nextBrick        the rotations of the upcoming next brick
+     * @param holdBrick        the rotations of the currently held brick, or {@code null} if none is held
+     * @param ghostXPosition   the x-coordinate where the ghost piece should appear
+     * @param ghostYPosition   the y-coordinate where the ghost piece should appear
      */
 
-    public ViewData(int[][] brickData, int xPosition, int yPosition, int[][] nextBrickData, int[][] holdBrickData, Point ghostPieceOffset) {
-        this.brickData = brickData;
+    public ViewData(long version, RotationTable brick, int rotation, int xPosition, int yPosition,
+                    RotationTable nextBrick, RotationTable holdBrick, int ghostXPosition, int ghostYPosition) {
+        this.version = version;
+        this.brick = brick;
+        this.rotation = rotation;
         this.xPosition = xPosition;
         this.yPosition = yPosition;
-        this.nextBrickData = nextBrickData;
-        this.holdBrickData = holdBrickData;
-        this.ghostPieceOffset = ghostPieceOffset;
+        this.nextBrick = nextBrick;
+        this.holdBrick = holdBrick;
+        this.ghostXPosition = ghostXPosition;
+        this.ghostYPosition = ghostYPosition;
+    }
+
+    /**
+     * Returns the board's version number when this snapshot was taken.
+     *
+     * <p>Two snapshots from the same board with the same version hold the same data.</p>
+     *
+     * @return the version number
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns one cell of the active brick's shape.
+     *
+     * @param row the row of the shape
+     * @param column the column of the shape
+     * @return the colour value of the cell, or 0 if it is empty
+     */
+    public int getBrickCell(int row, int column) {
+        return brick.getShape(rotation)[row][column];
+    }
+
+    /**
+     * Returns one cell of the next brick's shape.
+     *
+     * @param row the row of the shape
+     * @param column the column of the shape
+     * @return the colour value of the cell, or 0 if it is empty
+     */
+    public int getNextBrickCell(int row, int column) {
+        return nextBrick.getShape(0)[row][column];
+    }
+
+    /**
+     * Returns one cell of the held brick's shape.
+     *
+     * @param row the row of the shape
+     * @param column the column of the shape
+     * @return the colour value of the cell, or 0 if it is empty or no brick is held
+     */
+    public int getHoldBrickCell(int row, int column) {
+        return holdBrick == null ? 0 : holdBrick.getShape(0)[row][column];
+    }
+
+    /**
+     * Returns the shape id of the active brick, which is also its colour value.
+     *
+     * @return the shape id
+     */
+    public int getShapeId() {
+        return brick.getColor();
+    }
+
+    /**
+     * Returns the rotation index of the active brick.
+     *
+     * @return the rotation index
+     */
+    public int getRotation() {
+        return rotation;
+    }
+
+    /**
+     * Returns the shape id of the next brick.
+     *
+     * @return the shape id
+     */
+    public int getNextShapeId() {
+        return nextBrick.getColor();
+    }
+
+    /**
+     * Returns the shape id of the held brick.
+     *
+     * @return the shape id, or 0 if no brick is held
+     */
+    public int getHoldShapeId() {
+        return holdBrick == null ? 0 : holdBrick.getColor();
     }
 
     /**
@@ -49,7 +154,7 @@ public final class ViewData {
      */
 
     public int[][] getBrickData() {
-        return MatrixOperations.copy(brickData);
+        return MatrixOperations.copy(brick.getShape(rotation));
     }
 
     /**
@@ -78,7 +183,7 @@ public final class ViewData {
      * @return the current x coordinate of the ghost brick
      */
     public double getGhostPieceXPosition(){
-        return ghostPieceOffset.getX();
+        return ghostXPosition;
     }
 
     /**
@@ -87,7 +192,7 @@ public final class ViewData {
      * @return the current y coordinate of the ghost brick
      */
     public double getGhostPieceYPosition(){
-        return ghostPieceOffset.getY();
+        return ghostYPosition;
     }
 
     /**
@@ -96,7 +201,7 @@ public final class ViewData {
      * @return a copy of the next brick's data
      */
     public int[][] getNextBrickData() {
-        return MatrixOperations.copy(nextBrickData);
+        return MatrixOperations.copy(nextBrick.getShape(0));
     }
 
     /**
@@ -105,27 +210,37 @@ public final class ViewData {
      * @return a copy of the hold brick's data if true and {@code null} if false
      */
     public int[][] getHoldBrickData(){
-        if (holdBrickData != null) {
-            return MatrixOperations.copy(holdBrickData);
+        if (holdBrick != null) {
+            return MatrixOperations.copy(holdBrick.getShape(0));
         } else  {return null;}
     }
 
     /**
-     * Updates the hold brick data.
-     * <p>
-     * If there is no currently held brick, the active brick is stored and
-     * replaced with the next brick.
-     * Otherwise, the active brick is swapped with the held brick.
+     * Returns the rotations of the active brick.
+     *
+     * <p>Used by the bot to search the placements of the brick.</p>
+     *
+     * @return the shared {@link RotationTable} of the active brick
+     */
+    public RotationTable getBrickRotations() {
+        return brick;
+    }
+
+    /**
+     * Returns the rotations of the next brick.
+     *
+     * @return the shared {@link RotationTable} of the next brick
+     */
+    public RotationTable getNextBrickRotations() {
+        return nextBrick;
+    }
+
+    /**
+     * Returns the rotations of the held brick.
+     *
+     * @return the shared {@link RotationTable} of the held brick, or {@code null} if no brick is held
      */
-    public void refreshHoldBrickData() {
-        if (holdBrickData == null) {
-            holdBrickData = brickData;
-            brickData = getNextBrickData();
-        } else {
-            int[][] temp;
-            temp = holdBrickData;
-            holdBrickData = brickData;
-            brickData = temp;
-        }
+    public RotationTable getHoldBrickRotations() {
+        return holdBrick;
     }
 }
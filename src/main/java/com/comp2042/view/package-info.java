@@ -3,6 +3,8 @@
  *
  * <p>This package includes: </p>
  * <ul>
+ *   <li>{@link com.comp2042.view.CanvasRenderer} – draws the playfield onto canvases</li>
+ *   <li>{@link com.comp2042.view.HeadlessGameView} – a game view that draws nothing, for games played without a window</li>
  *   <li>{@link com.comp2042.view.NotificationPanel} – handles score bonus display</li>
  *   <li>{@link com.comp2042.view.ViewData} – provides the visual representation of the current game state</li>
  * </ul>
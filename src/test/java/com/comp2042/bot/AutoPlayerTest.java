@@ -0,0 +1,77 @@
+package com.comp2042.bot;
+
+import com.comp2042.controllers.GameController;
+import com.comp2042.data.DownData;
+import com.comp2042.data.MoveEvent;
+import com.comp2042.data.SaveData;
+import com.comp2042.data.bricks.RandomBrickGenerator;
+import com.comp2042.enums.EventSource;
+import com.comp2042.enums.EventType;
+import com.comp2042.logic.SimpleBoard;
+import com.comp2042.view.HeadlessGameView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AutoPlayerTest {
+
+    private HeadlessGameView view;
+    private GameController game;
+
+    @BeforeEach
+    void setUp() {
+        SaveData.createSaveFile();
+        view = new HeadlessGameView();
+        game = new GameController(view, new SimpleBoard(25, 10, new RandomBrickGenerator(7L)));
+        game.getBoard().getScore().setRecordsHighScore(false);
+    }
+
+    private AutoPlayer player() {
+        return new AutoPlayer(game, game.getBoard(), new BeamSearch(Heuristic.DEFAULT, 8, ForkJoinPool.commonPool()), true);
+    }
+
+    @Test
+    void testPlaysWithoutLosing() {
+        AutoPlayer player = player();
+        int pieces = 0;
+        while (pieces < 200) {
+            DownData downData = player.update();
+            if (downData != null) {
+                pieces++;
+                assertFalse(view.isGameOver(), "The bot should survive, but lost after " + pieces + " pieces");
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+        assertTrue(game.getStats().getLinesCleared() > 50,
+                "200 pieces fill 80 rows, but only " + game.getStats().getLinesCleared() + " were cleared");
+    }
+
+    @Test
+    void testUpdateStartsSearchWithoutPlaying() {
+        AutoPlayer player = player();
+        assertNull(player.update(), "The first update should only start a search");
+        assertTrue(player.isSearching());
+    }
+
+    @Test
+    void testNewGameCancelsTheSearch() {
+        AutoPlayer player = player();
+        player.update();
+        player.createNewGame();
+
+        assertFalse(player.isSearching(), "A new game should stop the running search");
+        assertNull(player.update(), "The next update should start a new search instead of playing the old one");
+    }
+
+    @Test
+    void testLockedBrickCancelsTheSearch() {
+        AutoPlayer player = player();
+        player.update();
+        player.onDownEvent(new MoveEvent(EventType.DOWN, EventSource.USER), true);
+        assertFalse(player.isSearching(), "The search was for a brick that is no longer falling");
+    }
+}
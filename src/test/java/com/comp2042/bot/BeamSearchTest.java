@@ -0,0 +1,109 @@
+package com.comp2042.bot;
+
+import com.comp2042.data.bricks.RandomBrickGenerator;
+import com.comp2042.data.bricks.RotationTable;
+import com.comp2042.logic.MatrixOperations;
+import com.comp2042.logic.Zobrist;
+import com.comp2042.view.ViewData;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BeamSearchTest {
+
+    private static final int I_BRICK = 0;
+    private static final int O_BRICK = 3;
+    private static final int T_BRICK = 5;
+
+    private static RotationTable brick(int id) {
+        return RandomBrickGenerator.brickOf(id).getRotationTable();
+    }
+
+    private static ViewData spawn(RotationTable brick, RotationTable next) {
+        return new ViewData(0, brick, 0, 4, 1, next, null, 4, 1);
+    }
+
+    /** A board with the bottom four rows filled except for the last column. */
+    private static int[][] well() {
+        int[][] board = new int[25][10];
+        for (int row = 21; row < 25; row++) {
+            for (int column = 0; column < 9; column++) board[row][column] = 1;
+        }
+        return board;
+    }
+
+    private static long inOneSecond() {
+        return System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+    }
+
+    @Test
+    void testPlacementIsLanded() {
+        int[][] board = well();
+        RotationTable[] preview = {brick(O_BRICK), brick(T_BRICK), brick(I_BRICK)};
+        Placement best = new BeamSearch(Heuristic.DEFAULT).search(board, spawn(brick(T_BRICK), preview[0]), preview,
+                false, inOneSecond(), () -> false);
+
+        assertNotNull(best);
+        int mask = brick(T_BRICK).getMask(best.getRotation());
+        assertFalse(MatrixOperations.intersect(board, mask, best.getX(), best.getY()), "The placement should be free");
+        assertTrue(MatrixOperations.intersect(board, mask, best.getX(), best.getY() + 1), "The placement should be landed");
+    }
+
+    @Test
+    void testKeepsTheWellForTheNextBrick() {
+        RotationTable[] preview = {brick(I_BRICK), brick(O_BRICK), brick(O_BRICK)};
+        Placement best = new BeamSearch(Heuristic.DEFAULT).search(well(), spawn(brick(T_BRICK), preview[0]), preview,
+                false, inOneSecond(), () -> false);
+
+        RotationTable t = brick(T_BRICK);
+        assertTrue(best.getX() + t.getMaxColumn(best.getRotation()) < 9,
+                "The T brick should leave the well open for the I brick that comes next");
+    }
+
+    @Test
+    void testFinishesTheFirstDepthAfterTheDeadline() {
+        RotationTable[] preview = {brick(O_BRICK), brick(I_BRICK)};
+        Placement best = new BeamSearch(Heuristic.DEFAULT).search(well(), spawn(brick(T_BRICK), preview[0]), preview,
+                true, System.nanoTime() - 1, () -> false);
+        assertNotNull(best, "A placement should be returned even when the time is already up");
+    }
+
+    @Test
+    void testStoppedSearchReturnsNothing() {
+        RotationTable[] preview = {brick(O_BRICK), brick(I_BRICK)};
+        Placement best = new BeamSearch(Heuristic.DEFAULT).search(well(), spawn(brick(T_BRICK), preview[0]), preview,
+                true, inOneSecond(), () -> true);
+        assertNull(best);
+    }
+
+    @Test
+    void testSubmitRunsOnThePool() throws Exception {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            AtomicReference<Thread> searcher = new AtomicReference<>();
+            RotationTable[] preview = {brick(O_BRICK), brick(I_BRICK), brick(T_BRICK)};
+            int[][] board = well();
+            long hash = new Zobrist(board.length, board[0].length).hash(board);
+            Placement best = new BeamSearch(Heuristic.DEFAULT, 8, pool)
+                    .submit(board, hash, spawn(brick(T_BRICK), preview[0]), preview, true, inOneSecond(), () -> {
+                        searcher.compareAndSet(null, Thread.currentThread());
+                        return false;
+                    })
+                    .get(10, TimeUnit.SECONDS);
+
+            assertNotNull(best);
+            assertNotSame(Thread.currentThread(), searcher.get(), "The search should not run on the calling thread");
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void testBeamWidthMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> new BeamSearch(Heuristic.DEFAULT, 0, ForkJoinPool.commonPool()));
+    }
+}
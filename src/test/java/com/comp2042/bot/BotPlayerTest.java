@@ -0,0 +1,52 @@
+package com.comp2042.bot;
+
+import com.comp2042.controllers.GameController;
+import com.comp2042.data.SaveData;
+import com.comp2042.data.bricks.RandomBrickGenerator;
+import com.comp2042.logic.SimpleBoard;
+import com.comp2042.view.HeadlessGameView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BotPlayerTest {
+
+    /** The fall interval at the highest level, from the formula in Level. */
+    private static final long MAX_LEVEL_FALL_NANOS = (long) (1065.0 / 22 + 45) * 1_000_000L;
+
+    @BeforeEach
+    void setUp() {
+        SaveData.createSaveFile();
+    }
+
+    private static int playPieces(BotPlayer bot, int pieces, long[] nanos) {
+        HeadlessGameView view = new HeadlessGameView();
+        GameController game = new GameController(view, new SimpleBoard(25, 10, new RandomBrickGenerator(99L)));
+        game.getBoard().getScore().setRecordsHighScore(false);
+        for (int i = 0; i < pieces; i++) {
+            long start = System.nanoTime();
+            bot.playPiece(game, game.getBoard());
+            nanos[0] = Math.max(nanos[0], i < 50 ? 0 : System.nanoTime() - start);
+            assertFalse(view.isGameOver(), "The bot should survive, but lost after " + (i + 1) + " pieces");
+        }
+        return game.getStats().getLinesCleared();
+    }
+
+    @Test
+    void testPlaysWithoutLosing() {
+        long[] slowest = {0};
+        int lines = playPieces(new BotPlayer(new PlacementSearch(Heuristic.DEFAULT), false), 1000, slowest);
+
+        assertTrue(lines > 300, "1000 pieces fill about 400 rows, but only " + lines + " were cleared");
+        assertTrue(slowest[0] < MAX_LEVEL_FALL_NANOS,
+                "Every decision should fit in one fall interval at the highest level, the slowest took " + slowest[0] + " ns");
+    }
+
+    @Test
+    void testPlaysWithHold() {
+        long[] slowest = {0};
+        int lines = playPieces(new BotPlayer(new PlacementSearch(Heuristic.DEFAULT), true), 500, slowest);
+        assertTrue(lines > 150, "Only " + lines + " rows were cleared");
+    }
+}
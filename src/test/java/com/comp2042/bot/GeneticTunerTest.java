@@ -0,0 +1,66 @@
+package com.comp2042.bot;
+
+import com.comp2042.data.SaveData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeneticTunerTest {
+
+    @TempDir
+    Path folder;
+
+    @BeforeEach
+    void setUp() {
+        SaveData.createSaveFile();
+    }
+
+    @Test
+    void testSeededGamesRepeat() {
+        GeneticTuner.GameResult first = GeneticTuner.playGame(Heuristic.DEFAULT, 11L, 200, ForkJoinPool.commonPool());
+        GeneticTuner.GameResult second = GeneticTuner.playGame(Heuristic.DEFAULT, 11L, 200, ForkJoinPool.commonPool());
+
+        assertEquals(200, first.getPieces(), "The default weights should last until the piece limit");
+        assertEquals(first.getLines(), second.getLines(), "The same seed should play the same game");
+    }
+
+    @Test
+    void testGenerationsKeepUnitWeightsAndSortByLines() {
+        GeneticTuner tuner = new GeneticTuner(8, 2, 60, 3L, ForkJoinPool.commonPool());
+        tuner.nextGeneration();
+        tuner.nextGeneration();
+        assertEquals(2, tuner.getGeneration());
+
+        tuner.evaluate();
+        GeneticTuner.Candidate[] population = tuner.getPopulation();
+        for (int i = 0; i < population.length; i++) {
+            double length = 0;
+            for (double weight : population[i].getWeights()) length += weight * weight;
+            assertEquals(1.0, length, 1e-9, "Every weight vector should have unit length");
+            if (i > 0) assertTrue(population[i - 1].getLinesPerGame() >= population[i].getLinesPerGame());
+        }
+    }
+
+    @Test
+    void testCheckpointResumes() {
+        Path checkpoint = folder.resolve("tuner.checkpoint");
+        GeneticTuner tuner = new GeneticTuner(6, 1, 40, 5L, ForkJoinPool.commonPool());
+        tuner.nextGeneration();
+        tuner.save(checkpoint);
+
+        GeneticTuner resumed = GeneticTuner.resume(checkpoint, 1, 40, ForkJoinPool.commonPool());
+        assertEquals(tuner.getGeneration(), resumed.getGeneration());
+        GeneticTuner.Candidate[] saved = tuner.getPopulation();
+        GeneticTuner.Candidate[] loaded = resumed.getPopulation();
+        assertEquals(saved.length, loaded.length);
+        for (int i = 0; i < saved.length; i++) {
+            assertArrayEquals(saved[i].getWeights(), loaded[i].getWeights());
+            assertEquals(saved[i].getLinesPerGame(), loaded[i].getLinesPerGame());
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.comp2042.bot;
+
+import com.comp2042.data.bricks.RandomBrickGenerator;
+import com.comp2042.data.bricks.RotationTable;
+import com.comp2042.logic.BoardFeatures;
+import com.comp2042.logic.FeatureTracker;
+import com.comp2042.logic.MatrixOperations;
+import com.comp2042.view.ViewData;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlacementSearchTest {
+
+    private static final int I_BRICK = 0;
+    private static final int T_BRICK = 5;
+
+    private static RotationTable brick(int id) {
+        return RandomBrickGenerator.brickOf(id).getRotationTable();
+    }
+
+    private static ViewData spawn(RotationTable brick, RotationTable next) {
+        return new ViewData(0, brick, 0, 4, 1, next, null, 4, 1);
+    }
+
+    @Test
+    void testListsEveryColumnOfEveryRotation() {
+        int[][] board = new int[25][10];
+        // the T brick is three columns wide in two rotations and two wide in the other two
+        assertEquals(8 + 9 + 8 + 9, PlacementSearch.countPlacements(board, brick(T_BRICK), 0, 4, 1));
+    }
+
+    @Test
+    void testBlockedColumnsAreNotReachable() {
+        int[][] board = new int[25][10];
+        for (int row = 0; row < 25; row++) board[row][6] = 1; // a wall right of the spawn
+        int walled = PlacementSearch.countPlacements(board, brick(T_BRICK), 0, 4, 1);
+        assertTrue(walled < 8 + 9 + 8 + 9, "Columns behind a wall should not be listed");
+    }
+
+    @Test
+    void testFillsTheWell() {
+        int[][] board = new int[25][10];
+        for (int row = 21; row < 25; row++) {
+            for (int column = 0; column < 9; column++) board[row][column] = 1;
+        }
+        Placement best = new PlacementSearch(Heuristic.DEFAULT).findBest(board, spawn(brick(I_BRICK), brick(T_BRICK)), false);
+
+        assertNotNull(best);
+        int mask = brick(I_BRICK).getMask(best.getRotation());
+        assertFalse(MatrixOperations.intersect(board, mask, best.getX(), best.getY()), "The placement should be free");
+        assertTrue(MatrixOperations.intersect(board, mask, best.getX(), best.getY() + 1), "The placement should be landed");
+        assertEquals(21, best.getY() + brick(I_BRICK).getMinRow(best.getRotation()), "The I brick should drop into the well and clear four rows");
+    }
+
+    @Test
+    void testHoldIsConsidered() {
+        int[][] board = new int[25][10];
+        for (int row = 21; row < 25; row++) {
+            for (int column = 0; column < 9; column++) board[row][column] = 1;
+        }
+        Placement best = new PlacementSearch(Heuristic.DEFAULT).findBest(board, spawn(brick(T_BRICK), brick(I_BRICK)), true);
+        assertTrue(best.isHold(), "Holding the T brick to place the next I brick should score best");
+    }
+
+    @Test
+    void testHeuristicCountsHoles() {
+        int[][] board = new int[25][10];
+        board[23][0] = 1; // covers the empty cell below it
+        double covered = Heuristic.DEFAULT.evaluate(board, 0, 0, 0);
+        board[23][0] = 0;
+        board[24][0] = 1;
+        double flat = Heuristic.DEFAULT.evaluate(board, 0, 0, 0);
+        assertTrue(flat > covered, "A hole should lower the score");
+    }
+
+    @Test
+    void testFeatureScoreMatchesTheMatrixScore() {
+        int[][] board = new int[25][10];
+        for (int row = 20; row < 25; row++) {
+            for (int column = 0; column < 10; column++) board[row][column] = (row * 3 + column) % 4 == 0 ? 0 : 1;
+            board[row][9] = 0;
+        }
+        FeatureTracker features = new FeatureTracker(25, 10);
+        features.load(board);
+        RotationTable brick = brick(I_BRICK);
+        for (int rotation = 0; rotation < brick.size(); rotation++) {
+            int mask = brick.getMask(rotation);
+            for (int x = -3; x < 10; x++) {
+                if (MatrixOperations.intersect(board, mask, x, 0)) continue;
+                int y = 0;
+                while (!MatrixOperations.intersect(board, mask, x, y + 1)) y++;
+                assertEquals(Heuristic.DEFAULT.evaluate(board, mask, x, y),
+                        Heuristic.DEFAULT.evaluate(features.whatIf(mask, x, y, new BoardFeatures())), 1e-9);
+            }
+        }
+    }
+}
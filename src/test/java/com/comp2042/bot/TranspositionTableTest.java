@@ -0,0 +1,87 @@
+package com.comp2042.bot;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TranspositionTableTest {
+
+    @Test
+    void testStoredScoreIsFound() {
+        TranspositionTable table = new TranspositionTable(64);
+        assertTrue(Float.isNaN(table.probe(12345L)), "An empty table should miss");
+        table.store(12345L, -3.5f);
+        assertEquals(-3.5f, table.probe(12345L));
+        table.store(12345L, 2.0f);
+        assertEquals(2.0f, table.probe(12345L), "Storing a key again should replace its score");
+    }
+
+    @Test
+    void testKeysOfOneBucketDoNotMix() {
+        TranspositionTable table = new TranspositionTable(TranspositionTable.BUCKET_SIZE);
+        for (int i = 0; i < TranspositionTable.BUCKET_SIZE; i++) {
+            table.store(i * 1_000_003L, i);
+        }
+        for (int i = 0; i < TranspositionTable.BUCKET_SIZE; i++) {
+            assertEquals(i, table.probe(i * 1_000_003L));
+        }
+        assertTrue(Float.isNaN(table.probe(99L)));
+    }
+
+    @Test
+    void testCapacityIsRoundedUp() {
+        assertEquals(1024, new TranspositionTable(1000).getCapacity());
+        assertEquals(TranspositionTable.BUCKET_SIZE, new TranspositionTable(1).getCapacity());
+    }
+
+    @Test
+    void testClearRemovesEverything() {
+        TranspositionTable table = new TranspositionTable(64);
+        table.store(7L, 1f);
+        table.clear();
+        assertTrue(Float.isNaN(table.probe(7L)));
+    }
+
+    @Test
+    void testConcurrentWritersNeverGiveWrongScores() throws Exception {
+        // a small table so that the threads keep overwriting each other's entries
+        TranspositionTable table = new TranspositionTable(256);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                long seed = t;
+                results.add(executor.submit(() -> {
+                    SplittableRandom random = new SplittableRandom(seed);
+                    int wrong = 0;
+                    for (int i = 0; i < 500_000; i++) {
+                        long key = random.nextLong(4096) * 0x9E37_79B9_7F4A_7C15L;
+                        float score = table.probe(key);
+                        if (Float.isNaN(score)) {
+                            table.store(key, scoreOf(key));
+                        } else if (score != scoreOf(key)) {
+                            wrong++;
+                        }
+                    }
+                    return wrong;
+                }));
+            }
+            for (Future<Integer> result : results) {
+                assertEquals(0, result.get(), "A probe returned the score of another key");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static float scoreOf(long key) {
+        return (float) (key % 1000);
+    }
+}
@@ -1,17 +1,22 @@
 package com.comp2042.controllers;
 
 import com.comp2042.data.SaveData;
+import com.comp2042.data.bricks.RandomBrickGenerator;
 import com.comp2042.enums.EventSource;
 import com.comp2042.enums.EventType;
 import com.comp2042.interfaces.InputEventListener;
 import com.comp2042.data.DownData;
 import com.comp2042.data.MoveEvent;
+import com.comp2042.logic.SimpleBoard;
+import com.comp2042.view.HeadlessGameView;
 import javafx.beans.property.IntegerProperty;
 import org.junit.jupiter.api.Test;
 
 import com.comp2042.view.ViewData;
 import org.junit.jupiter.api.BeforeEach;
 
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class GameControllerTest {
@@ -51,6 +56,35 @@ class GameControllerTest {
         assertArrayEquals(beforeDrop, afterDrop, "New brick wasn't created");
     }
 
+    @Test
+    void testHardDropScoresDistanceAtOnce() {
+        controller.createNewGame();
+        ViewData before = controller.getBoard().getViewData();
+        int distance = (int) before.getGhostPieceYPosition() - before.getyPosition();
+        int[] updates = {0};
+        controller.getBoard().getScore().scoreProperty().addListener((_, _, _) -> updates[0]++);
+
+        controller.onDownEvent(new MoveEvent(EventType.DOWN, EventSource.USER), true);
+
+        assertEquals(distance + 1, controller.getBoard().getScore().scoreProperty().get(), "Hard drop should score one point per row plus one");
+        assertEquals(1, updates[0], "Hard drop should update the score once");
+    }
+
+    @Test
+    void testGameEventsAreCounted() {
+        controller.createNewGame();
+
+        controller.onHoldEvent(new MoveEvent(EventType.HOLD, EventSource.USER));
+        controller.onDownEvent(new MoveEvent(EventType.DOWN, EventSource.USER), true);
+
+        assertEquals(1, controller.getStats().getHolds(), "The hold should reach the statistics");
+        assertEquals(1, controller.getStats().getPiecesLocked(), "The locked piece should reach the statistics");
+        assertEquals(0, controller.getBoard().getEventBus().size(), "Every event should be delivered after the move");
+
+        controller.createNewGame();
+        assertEquals(0, controller.getStats().getPiecesLocked(), "A new game should reset the statistics");
+    }
+
     @Test
     void testSoftDrop() {
         controller.createNewGame();
@@ -107,4 +141,31 @@ class GameControllerTest {
         assertArrayEquals(after2.getBrickData(), after.getHoldBrickData(), "Current brick is not hold");
     }
 
-}
\ No newline at end of file
+    // plays hard drops at random columns until the game is over, without a window
+    private static int playHeadlessGame(long seed) {
+        HeadlessGameView view = new HeadlessGameView();
+        GameController game = new GameController(view, new SimpleBoard(25, 10, new RandomBrickGenerator(seed)));
+        game.getBoard().getScore().setRecordsHighScore(false);
+        Random random = new Random(seed);
+        MoveEvent left = new MoveEvent(EventType.LEFT, EventSource.USER);
+        MoveEvent right = new MoveEvent(EventType.RIGHT, EventSource.USER);
+        MoveEvent drop = new MoveEvent(EventType.DOWN, EventSource.USER);
+
+        for (int piece = 0; piece < 10_000 && !view.isGameOver(); piece++) {
+            int shift = random.nextInt(9) - 4;
+            for (int i = 0; i < Math.abs(shift); i++) {
+                if (shift < 0) game.onLeftEvent(left); else game.onRightEvent(right);
+            }
+            game.onDownEvent(drop, true);
+        }
+        assertTrue(view.isGameOver(), "Random drops should fill the board");
+        assertTrue(game.getStats().getPiecesLocked() > 0);
+        return game.getBoard().getScore().scoreProperty().get();
+    }
+
+    @Test
+    void testPlaysHeadlessGame() {
+        int first = playHeadlessGame(77L);
+        assertEquals(first, playHeadlessGame(77L), "The same seed and inputs should give the same score");
+    }
+}
@@ -0,0 +1,76 @@
+package com.comp2042.data;
+
+import com.comp2042.enums.SaveDataType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HighScoreStoreTest {
+
+    private String originalPath;
+    private Path originalFilePath;
+
+    @BeforeEach
+    void setup() throws Exception {
+        originalPath = SaveData.savePath;
+        originalFilePath = SaveData.saveFilePath;
+
+        Path tempFile = Paths.get("src/test/resources/testHighScoreData.txt");
+        Files.createDirectories(tempFile.getParent());
+        Files.deleteIfExists(tempFile);
+        SaveData.savePath = tempFile.toString();
+        SaveData.saveFilePath = tempFile;
+        SaveData.createSaveFile();
+
+        HighScoreStore.clear();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        Files.deleteIfExists(SaveData.saveFilePath);
+        SaveData.savePath = originalPath;
+        SaveData.saveFilePath = originalFilePath;
+        HighScoreStore.clear();
+    }
+
+    @Test
+    void testModeFor() {
+        assertEquals(SaveDataType.HIGHSCORE, HighScoreStore.modeFor(0));
+        assertEquals(SaveDataType.HIGHSCORE_15, HighScoreStore.modeFor(15));
+        assertNull(HighScoreStore.modeFor(7), "Unknown timer settings have no high score");
+    }
+
+    @Test
+    void testSubmitKeepsScoreInMemoryUntilFlushed() throws Exception {
+        int line = SaveData.getKeyEvent(SaveDataType.HIGHSCORE_5);
+        for (int score = 1; score <= 500; score++) {
+            HighScoreStore.submit(SaveDataType.HIGHSCORE_5, score);
+        }
+
+        assertEquals(500, HighScoreStore.getBest(SaveDataType.HIGHSCORE_5), "Best score should be served from memory");
+        assertEquals(0, SaveData.ReadFileInt(line), "Submitting should not write to the save file");
+
+        HighScoreStore.flush();
+        HighScoreStore.awaitWrites();
+
+        assertEquals(500, SaveData.ReadFileInt(line), "Flushing should write the best score");
+    }
+
+    @Test
+    void testLowerScoreIsIgnored() throws Exception {
+        int line = SaveData.getKeyEvent(SaveDataType.HIGHSCORE);
+        Settings.update(SaveDataType.HIGHSCORE, "300");
+
+        HighScoreStore.submit(SaveDataType.HIGHSCORE, 200);
+        HighScoreStore.flushNow();
+
+        assertEquals(300, HighScoreStore.getBest(SaveDataType.HIGHSCORE), "A lower score should not replace the high score");
+        assertEquals(300, SaveData.ReadFileInt(line), "A lower score should not be written");
+    }
+}
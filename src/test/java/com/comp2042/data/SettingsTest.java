@@ -0,0 +1,107 @@
+package com.comp2042.data;
+
+import com.comp2042.enums.SaveDataType;
+import javafx.scene.input.KeyCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SettingsTest {
+
+    private String originalPath;
+    private Path originalFilePath;
+
+    @BeforeEach
+    void setup() throws Exception {
+        originalPath = SaveData.savePath;
+        originalFilePath = SaveData.saveFilePath;
+
+        Path tempFile = Paths.get("src/test/resources/testSettingsData.txt");
+        Files.createDirectories(tempFile.getParent());
+        Files.deleteIfExists(tempFile);
+        SaveData.savePath = tempFile.toString();
+        SaveData.saveFilePath = tempFile;
+        SaveData.createSaveFile();
+
+        Settings.reload();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        Files.deleteIfExists(SaveData.saveFilePath);
+        SaveData.savePath = originalPath;
+        SaveData.saveFilePath = originalFilePath;
+        Settings.reload();
+    }
+
+    @Test
+    void testDefaultsAreParsed() {
+        Settings settings = Settings.get();
+
+        assertEquals(KeyCode.LEFT, settings.getKey(SaveDataType.LEFT));
+        assertEquals(KeyCode.SPACE, settings.getKey(SaveDataType.HARDDROP));
+        assertEquals(30, settings.getMusicVolume());
+        assertEquals("coin.mp3", settings.getSound(SaveDataType.CLEARLINES).getFileName());
+        assertEquals(0.3, settings.getSound(SaveDataType.CLEARLINES).getVolume());
+        assertTrue(settings.isEnabled(SaveDataType.TOGGLE_GHOST));
+        assertEquals(0, settings.getHighScore(SaveDataType.HIGHSCORE_20));
+    }
+
+    @Test
+    void testSettingsAreServedFromMemory() throws Exception {
+        Settings settings = Settings.get();
+        Files.delete(SaveData.saveFilePath);
+
+        assertSame(settings, Settings.get(), "The save file should only be read once");
+        assertEquals(KeyCode.UP, Settings.get().getKey(SaveDataType.ROTATE));
+    }
+
+    @Test
+    void testUpdateReplacesSnapshotAndSaves() throws Exception {
+        Settings before = Settings.get();
+        Settings after = Settings.update(SaveDataType.HARDDROP, "A");
+
+        assertEquals(KeyCode.SPACE, before.getKey(SaveDataType.HARDDROP), "An old snapshot should never change");
+        assertEquals(KeyCode.A, after.getKey(SaveDataType.HARDDROP));
+        assertSame(after, Settings.get());
+        assertEquals(KeyCode.LEFT, after.getKey(SaveDataType.LEFT), "Other settings should be copied");
+        assertEquals(KeyCode.A, SaveData.ReadKeyCode(SaveData.getKeyEvent(SaveDataType.HARDDROP)), "The change should be saved");
+
+        Settings.update(SaveDataType.BUTTONS, "Retro1.mp3 : 0.5");
+        Settings.reload();
+        assertEquals(0.5, Settings.get().getSound(SaveDataType.BUTTONS).getVolume());
+        assertEquals(KeyCode.A, Settings.get().getKey(SaveDataType.HARDDROP));
+    }
+
+    @Test
+    void testInvalidUpdateKeepsSnapshot() {
+        Settings before = Settings.get();
+
+        assertThrows(IllegalArgumentException.class, () -> Settings.update(SaveDataType.LEFT, "NOT_A_KEY"));
+        assertSame(before, Settings.get(), "A value that cannot be parsed should not replace the snapshot");
+    }
+
+    @Test
+    void testKeyActionTable() {
+        assertEquals(SaveDataType.LEFT, Settings.get().getAction(KeyCode.LEFT));
+        assertEquals(SaveDataType.HARDDROP, Settings.get().getAction(KeyCode.SPACE));
+        assertNull(Settings.get().getAction(KeyCode.Q), "An unbound key has no action");
+        assertNull(Settings.get().getAction(null));
+
+        Settings.update(SaveDataType.LEFT, "A");
+        assertEquals(SaveDataType.LEFT, Settings.get().getAction(KeyCode.A), "Rebinding a key should rebuild the table");
+        assertNull(Settings.get().getAction(KeyCode.LEFT), "The old key should no longer be bound");
+
+        Settings.update(SaveDataType.MUSIC, "50");
+        assertEquals(SaveDataType.LEFT, Settings.get().getAction(KeyCode.A), "Other settings should keep the table");
+
+        Settings.update(SaveDataType.HARDDROP, "ESCAPE");
+        assertEquals(SaveDataType.PAUSE, Settings.get().getAction(KeyCode.ESCAPE), "Pause should win when sharing a key");
+    }
+}
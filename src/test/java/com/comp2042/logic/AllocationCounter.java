@@ -0,0 +1,49 @@
+package com.comp2042.logic;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Counts the bytes allocated by the current thread, for the tests that check a hot path allocates nothing.
+ *
+ * <p>
+ * The count comes from the HotSpot {@code com.sun.management.ThreadMXBean}. On a JVM without it,
+ * or with allocation counting unsupported, {@link #start()} skips the calling test.
+ * </p>
+ */
+public final class AllocationCounter {
+
+    private final com.sun.management.ThreadMXBean threadBean;
+    private final long start;
+
+    private AllocationCounter(com.sun.management.ThreadMXBean threadBean) {
+        this.threadBean = threadBean;
+        this.start = threadBean.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * Starts counting, skipping the calling test when this JVM cannot count allocations.
+     *
+     * <p>Run the measured code once before this so the JIT has compiled it.</p>
+     *
+     * @return a counter started from the current thread's allocated bytes
+     */
+    public static AllocationCounter start() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                "This JVM has no com.sun.management.ThreadMXBean");
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported(), "Allocation counters are not supported by this JVM");
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+        return new AllocationCounter(threadBean);
+    }
+
+    /**
+     * Returns the bytes allocated by the current thread since {@link #start()}.
+     *
+     * @return the allocated bytes
+     */
+    public long allocated() {
+        return threadBean.getCurrentThreadAllocatedBytes() - start;
+    }
+}
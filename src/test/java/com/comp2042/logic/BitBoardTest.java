@@ -0,0 +1,117 @@
+package com.comp2042.logic;
+
+import com.comp2042.data.SaveData;
+import com.comp2042.data.bricks.RandomBrickGenerator;
+import com.comp2042.interfaces.Brick;
+import com.comp2042.interfaces.BrickGenerator;
+import com.comp2042.view.ViewData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BitBoardTest {
+
+    private List<Brick> sequence;
+
+    @BeforeEach
+    void setUp() {
+        SaveData.createSaveFile();
+        RandomBrickGenerator generator = new RandomBrickGenerator();
+        sequence = new ArrayList<>();
+        for (int i = 0; i < 6000; i++) {
+            sequence.add(generator.getBrick());
+        }
+    }
+
+    // replays the same bricks so two boards can be compared move by move
+    private BrickGenerator replay() {
+        return new BrickGenerator() {
+            private int index = 0;
+            @Override public Brick getBrick() { return sequence.get(index++); }
+            @Override public Brick getNextBrick() { return sequence.get(index); }
+        };
+    }
+
+    @Test
+    void testMatchesSimpleBoard() {
+        SimpleBoard simpleBoard = new SimpleBoard(25, 10, replay());
+        BitBoard bitBoard = new BitBoard(25, 10, replay());
+        simpleBoard.newGame();
+        bitBoard.newGame();
+        Random random = new Random(42);
+
+        for (int step = 0; step < 20000; step++) {
+            switch (random.nextInt(7)) {
+                case 0 -> assertEquals(simpleBoard.moveBrickLeft(), bitBoard.moveBrickLeft());
+                case 1 -> assertEquals(simpleBoard.moveBrickRight(), bitBoard.moveBrickRight());
+                case 2 -> assertEquals(simpleBoard.rotateLeftBrick(), bitBoard.rotateLeftBrick());
+                case 3 -> assertEquals(simpleBoard.holdBrick(), bitBoard.holdBrick());
+                case 4 -> assertEquals(simpleBoard.hardDropBrick(), bitBoard.hardDropBrick());
+                default -> {
+                    boolean moved = simpleBoard.moveBrickDown();
+                    assertEquals(moved, bitBoard.moveBrickDown());
+                    if (!moved) {
+                        simpleBoard.mergeBrickToBackground();
+                        bitBoard.mergeBrickToBackground();
+                        assertArrayEquals(simpleBoard.clearRows().getClearedRows(), bitBoard.clearRows().getClearedRows());
+                        if (simpleBoard.createNewBrick(4, 1) | bitBoard.createNewBrick(4, 1)) {
+                            simpleBoard.newGame();
+                            bitBoard.newGame();
+                        }
+                    }
+                }
+            }
+            simpleBoard.moveGhostPiece();
+            bitBoard.moveGhostPiece();
+
+            assertArrayEquals(simpleBoard.getBoardMatrix(), bitBoard.getBoardMatrix(), "Boards differ at step " + step);
+            ViewData expected = simpleBoard.getViewData();
+            ViewData actual = bitBoard.getViewData();
+            assertEquals(expected.getxPosition(), actual.getxPosition());
+            assertEquals(expected.getyPosition(), actual.getyPosition());
+            assertEquals(expected.getGhostPieceYPosition(), actual.getGhostPieceYPosition());
+            assertArrayEquals(expected.getBrickData(), actual.getBrickData());
+        }
+    }
+
+    @Test
+    void testClearRowsShiftsRowsDown() {
+        BitBoard board = new BitBoard(25, 10, replay());
+        board.newGame();
+        // fill the bottom row by dropping bricks across the board until something clears
+        int cleared = 0;
+        for (int piece = 0; piece < 200 && cleared == 0; piece++) {
+            for (int i = 0; i < piece % 6; i++) {
+                board.moveBrickLeft();
+            }
+            for (int i = 0; i < piece % 5; i++) {
+                board.moveBrickRight();
+            }
+            while (board.moveBrickDown()) { }
+            board.mergeBrickToBackground();
+            cleared = board.clearRows().getLinesRemoved();
+            if (board.createNewBrick(4, 1)) {
+                board.newGame();
+            }
+        }
+
+        int[][] matrix = board.getBoardMatrix();
+        for (int[] row : matrix) {
+            int filled = 0;
+            for (int cell : row) {
+                if (cell != 0) filled++;
+            }
+            assertTrue(filled < row.length, "No full row should remain after clearing");
+        }
+    }
+
+    @Test
+    void testRejectsBoardsWiderThanRowMask() {
+        assertThrows(IllegalArgumentException.class, () -> new BitBoard(25, BitBoard.MAX_COLUMNS + 1));
+    }
+}
@@ -0,0 +1,186 @@
+package com.comp2042.logic;
+
+import com.comp2042.data.ClearRow;
+import com.comp2042.data.SaveData;
+import com.comp2042.data.bricks.RandomBrickGenerator;
+import com.comp2042.data.bricks.RotationTable;
+import com.comp2042.interfaces.Board;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FeatureTrackerTest {
+
+    @BeforeEach
+    void setUp() {
+        SaveData.createSaveFile();
+    }
+
+    // works every feature out cell by cell, as {lines, height, holes, bumpiness, row transitions, column transitions, wells}
+    private static int[] expected(int[][] matrix, int lines) {
+        int rows = matrix.length;
+        int columns = matrix[0].length;
+        int[] heights = new int[columns];
+        int height = 0, holes = 0, bumpiness = 0, rowTransitions = 0, columnTransitions = 0, wells = 0;
+        for (int column = 0; column < columns; column++) {
+            int top = 0;
+            while (top < rows && matrix[top][column] == 0) top++;
+            heights[column] = rows - top;
+            height += heights[column];
+            for (int row = top; row < rows; row++) {
+                if (matrix[row][column] == 0) holes++;
+            }
+            for (int row = 0; row < rows; row++) {
+                boolean below = row + 1 == rows || matrix[row + 1][column] != 0;
+                if ((matrix[row][column] != 0) != below) columnTransitions++;
+            }
+            int depth = 0;
+            for (int row = 0; row < top; row++) {
+                boolean left = column == 0 || matrix[row][column - 1] != 0;
+                boolean right = column == columns - 1 || matrix[row][column + 1] != 0;
+                if (left && right) {
+                    depth++;
+                } else {
+                    wells += depth * (depth + 1) / 2;
+                    depth = 0;
+                }
+            }
+            wells += depth * (depth + 1) / 2;
+            if (column > 0) bumpiness += Math.abs(heights[column] - heights[column - 1]);
+        }
+        for (int[] row : matrix) {
+            boolean previous = true;
+            for (int cell : row) {
+                if ((cell != 0) != previous) rowTransitions++;
+                previous = cell != 0;
+            }
+            if (!previous) rowTransitions++;
+        }
+        return new int[] {lines, height, holes, bumpiness, rowTransitions, columnTransitions, wells};
+    }
+
+    private static int[] actual(BoardFeatures features) {
+        return new int[] {features.getLines(), features.getAggregateHeight(), features.getHoles(), features.getBumpiness(),
+                features.getRowTransitions(), features.getColumnTransitions(), features.getWells()};
+    }
+
+    // drops every brick at a random column, so rows fill up and clear now and then
+    private int playAndCheck(Board board) {
+        board.newGame();
+        Random random = new Random(3);
+        int cleared = 0;
+        for (int piece = 0; piece < 3000; piece++) {
+            int shift = random.nextInt(9) - 4;
+            for (int i = 0; i < Math.abs(shift); i++) {
+                if (shift < 0) board.moveBrickLeft(); else board.moveBrickRight();
+            }
+            if (random.nextBoolean()) board.rotateLeftBrick();
+            board.hardDropBrick();
+            board.mergeBrickToBackground();
+            cleared += board.clearRows().getLinesRemoved();
+            assertArrayEquals(expected(board.getBoardMatrix(), 0), actual(board.getFeatureTracker().getFeatures()),
+                    "The features drifted after piece " + piece);
+            if (board.createNewBrick(4, 1)) {
+                board.newGame();
+                assertArrayEquals(expected(new int[25][10], 0), actual(board.getFeatureTracker().getFeatures()));
+            }
+        }
+        return cleared;
+    }
+
+    @Test
+    void testSimpleBoardFeaturesFollowTheMatrix() {
+        assertTrue(playAndCheck(new SimpleBoard(25, 10, new RandomBrickGenerator(5L))) > 0, "Some rows should have been cleared");
+    }
+
+    @Test
+    void testBitBoardFeaturesFollowTheMatrix() {
+        assertTrue(playAndCheck(new BitBoard(25, 10, new RandomBrickGenerator(5L))) > 0, "Some rows should have been cleared");
+    }
+
+    @Test
+    void testEmptyBoard() {
+        FeatureTracker tracker = new FeatureTracker(25, 10);
+        // every empty row meets both walls, and every empty column meets the floor
+        assertArrayEquals(new int[] {0, 0, 0, 0, 2 * 25, 10, 0}, actual(tracker.getFeatures()));
+    }
+
+    @Test
+    void testWhatIfMatchesTheMergedBoardAndChangesNothing() {
+        Random random = new Random(11);
+        FeatureTracker tracker = new FeatureTracker(25, 10);
+        MoveGenerator moves = new MoveGenerator(25, 10);
+        BoardFeatures placed = new BoardFeatures();
+        int[][] board = new int[25][10];
+        boolean sawClear = false;
+        for (int turn = 0; turn < 200; turn++) {
+            // a random board with gaps, so most placements leave holes and some clear rows
+            for (int row = 12; row < 25; row++) {
+                for (int column = 0; column < 10; column++) {
+                    board[row][column] = random.nextInt(4) == 0 ? 0 : 1;
+                }
+                board[row][random.nextInt(10)] = 0; // no row starts full
+            }
+            tracker.load(board);
+            int[] before = actual(tracker.getFeatures());
+            RotationTable brick = RandomBrickGenerator.brickOf(random.nextInt(7)).getRotationTable();
+            int count = moves.generate(board, brick, 0, 4, 0);
+            for (int i = 0; i < count; i++) {
+                int mask = brick.getMask(moves.getRotation(i));
+                int[][] merged = MatrixOperations.copy(board);
+                int[] rowFill = new int[25];
+                for (int row = 0; row < 25; row++) {
+                    for (int cell : merged[row]) if (cell != 0) rowFill[row]++;
+                }
+                MatrixOperations.mergeInPlace(merged, mask, 1, moves.getX(i), moves.getY(i), rowFill);
+                ClearRow clearRow = MatrixOperations.removeFullRows(merged, rowFill, 0, 24);
+                sawClear |= clearRow.getLinesRemoved() > 0;
+
+                tracker.whatIf(mask, moves.getX(i), moves.getY(i), placed);
+                assertArrayEquals(expected(merged, clearRow.getLinesRemoved()), actual(placed));
+            }
+            assertArrayEquals(before, actual(tracker.getFeatures()), "Asking what if should not change the tracker");
+        }
+        assertTrue(sawClear, "Some placements should have cleared rows");
+    }
+
+    @Test
+    void testPlaceAndClearFullRows() {
+        FeatureTracker tracker = new FeatureTracker(25, 10);
+        int[][] board = new int[25][10];
+        for (int column = 0; column < 9; column++) board[24][column] = 1;
+        board[23][0] = 1;
+        tracker.load(board);
+        assertEquals(0, tracker.clearFullRows(), "No row is full yet");
+
+        int bar = 0b0001_0001_0001_0001; // a vertical bar in the first column of the mask
+        tracker.place(bar, 9, 21);
+        assertEquals(4, tracker.getColumnHeight(9));
+        assertEquals(1L << 24, tracker.clearFullRows());
+        assertEquals(0, tracker.clearFullRows(), "The row is only cleared once");
+
+        int[][] expectedBoard = new int[25][10];
+        expectedBoard[24][0] = 1;
+        for (int row = 22; row < 25; row++) expectedBoard[row][9] = 1;
+        assertArrayEquals(expected(expectedBoard, 0), actual(tracker.getFeatures()));
+        assertEquals(3, tracker.getColumnHeight(9));
+    }
+
+    @Test
+    void testTallBoardsAreRefused() {
+        assertThrows(IllegalArgumentException.class, () -> new FeatureTracker(FeatureTracker.MAX_ROWS + 1, 10));
+    }
+
+    @Test
+    void testTallBoardsOnlyFailWhenAskedForFeatures() {
+        SimpleBoard board = new SimpleBoard(FeatureTracker.MAX_ROWS + 1, 10, new RandomBrickGenerator(5L));
+        board.newGame();
+        board.hardDropBrick();
+        board.mergeBrickToBackground();
+        board.clearRows();
+        assertThrows(IllegalArgumentException.class, board::getFeatureTracker);
+    }
+}
@@ -0,0 +1,118 @@
+package com.comp2042.logic;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameClockTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private long now;
+    private GameClock clock;
+
+    @BeforeEach
+    void setUp() {
+        now = 123_456_789L;
+        clock = new GameClock(() -> now);
+        clock.setDuration(60);
+    }
+
+    @Test
+    void testCountsDownFromStart() {
+        assertEquals(60, clock.getRemainingSeconds(), "The clock should not count before it starts");
+        now += 5 * SECOND;
+        assertEquals(60, clock.getRemainingSeconds());
+
+        clock.start();
+        now += 2 * SECOND + 1;
+        assertEquals(58, clock.getRemainingSeconds(), "Partial seconds should round up");
+        assertEquals(2 * SECOND + 1, clock.getElapsedNanos());
+    }
+
+    @Test
+    void testPauseDoesNotDrift() {
+        clock.start();
+        now += 1_500_000_000L;
+        clock.pause(true);
+        now += 7 * SECOND;
+        assertEquals(1_500_000_000L, clock.getElapsedNanos(), "Time spent paused should not count");
+
+        clock.pause(false);
+        now += 500_000_000L;
+        assertEquals(2 * SECOND, clock.getElapsedNanos(), "Resuming should continue exactly where it paused");
+        assertEquals(58, clock.getRemainingSeconds());
+    }
+
+    @Test
+    void testTimeUpFiresOnceAtDeadline() {
+        int[] fired = {0};
+        clock.setOnExpired(() -> fired[0]++);
+        clock.start();
+
+        now += 60 * SECOND - 1;
+        clock.update();
+        assertEquals(0, fired[0], "Time-up should not fire before the deadline");
+        assertEquals(1, clock.getRemainingSeconds());
+
+        now += 1;
+        clock.update();
+        assertEquals(1, fired[0], "Time-up should fire on the first update at the deadline");
+        assertTrue(clock.isExpired());
+        assertFalse(clock.isRunning());
+
+        now += 10 * SECOND;
+        clock.update();
+        assertEquals(1, fired[0], "Time-up should only fire once");
+        assertEquals(0, clock.getRemainingSeconds());
+    }
+
+    @Test
+    void testSecondsAreReportedOncePerChange() {
+        List<Integer> seconds = new ArrayList<>();
+        clock.setOnSecond(seconds::add);
+        clock.start();
+
+        for (int i = 0; i < 40; i++) {
+            clock.update();
+            now += SECOND / 10;
+        }
+
+        assertEquals(List.of(60, 59, 58, 57), seconds);
+    }
+
+    @Test
+    void testResetRestoresDuration() {
+        int[] fired = {0};
+        clock.setOnExpired(() -> fired[0]++);
+        clock.start();
+        now += 61 * SECOND;
+        clock.update();
+
+        clock.reset();
+        assertEquals(60, clock.getRemainingSeconds());
+        assertFalse(clock.isRunning());
+
+        clock.start();
+        now += 60 * SECOND;
+        clock.update();
+        assertEquals(2, fired[0], "A reset clock should fire again at its next deadline");
+    }
+
+    @Test
+    void testNoDurationNeverExpires() {
+        int[] fired = {0};
+        clock.setDuration(0);
+        clock.setOnExpired(() -> fired[0]++);
+        clock.start();
+        now += 3600 * SECOND;
+        clock.update();
+
+        assertFalse(clock.isExpired());
+        assertEquals(0, fired[0]);
+    }
+}
@@ -0,0 +1,92 @@
+package com.comp2042.logic;
+
+import com.comp2042.enums.GameEventType;
+import com.comp2042.interfaces.GameEventListener;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEventBusTest {
+
+    @Test
+    void testEventsAreDeliveredInOrderOnDrain() {
+        GameEventBus bus = new GameEventBus();
+        List<String> received = new ArrayList<>();
+        bus.subscribe((type, value) -> received.add(type + ":" + value));
+
+        bus.publish(GameEventType.PIECE_LOCKED, 3);
+        bus.publish(GameEventType.LINES_CLEARED, 4);
+        bus.publish(GameEventType.LEVEL_UP, 2);
+        assertTrue(received.isEmpty(), "Publishing should not call the listeners");
+        assertEquals(3, bus.size());
+
+        assertEquals(3, bus.drain());
+        assertEquals(List.of("PIECE_LOCKED:3", "LINES_CLEARED:4", "LEVEL_UP:2"), received);
+        assertEquals(0, bus.size());
+        assertEquals(0, bus.drain(), "Events should only be delivered once");
+    }
+
+    @Test
+    void testFullBufferDropsOldestEvents() {
+        GameEventBus bus = new GameEventBus(4);
+        List<Integer> values = new ArrayList<>();
+        bus.subscribe((_, value) -> values.add(value));
+
+        for (int i = 0; i < 6; i++) {
+            bus.publish(GameEventType.PIECE_LOCKED, i);
+        }
+        bus.drain();
+
+        assertEquals(List.of(2, 3, 4, 5), values);
+        assertEquals(2, bus.getDroppedEvents());
+    }
+
+    @Test
+    void testClearDiscardsEvents() {
+        GameEventBus bus = new GameEventBus();
+        int[] calls = {0};
+        bus.subscribe((_, _) -> calls[0]++);
+
+        bus.publish(GameEventType.HOLD, 1);
+        bus.clear();
+
+        assertEquals(0, bus.drain());
+        assertEquals(0, calls[0]);
+    }
+
+    @Test
+    void testCapacityMustBePowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new GameEventBus(48));
+        assertThrows(IllegalArgumentException.class, () -> new GameEventBus(0));
+    }
+
+    @Test
+    void testPublishAndDrainDoNotAllocate() {
+        GameEventBus bus = new GameEventBus();
+        long[] sum = {0};
+        GameEventListener listener = (_, value) -> sum[0] += value;
+        bus.subscribe(listener);
+        int events = 100_000;
+        publishAndDrain(bus, events); // let the JIT compile the loop first
+
+        AllocationCounter counter = AllocationCounter.start();
+        publishAndDrain(bus, events);
+        long allocated = counter.allocated();
+
+        assertTrue(sum[0] > 0);
+        assertTrue(allocated < events, "Expected no allocation per event, but " + allocated + " bytes were allocated over " + events + " events");
+    }
+
+    private static void publishAndDrain(GameEventBus bus, int events) {
+        for (int i = 0; i < events; i++) {
+            bus.publish(GameEventType.LINES_CLEARED, i & 3);
+            if ((i & 7) == 7) {
+                bus.drain();
+            }
+        }
+        bus.drain();
+    }
+}
@@ -0,0 +1,112 @@
+package com.comp2042.logic;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameLoopTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private int steps;
+    private GameLoop loop;
+
+    /** Runs frames at 60 per second from {@code from} to {@code to}. */
+    private void runFrames(GameLoop target, long from, long to) {
+        for (long now = from; now <= to; now += SECOND / 60) target.advance(now);
+    }
+
+    @BeforeEach
+    void setUp() {
+        steps = 0;
+        loop = new GameLoop(() -> steps++);
+        loop.setFallMillis(100);
+    }
+
+    @Test
+    void testFirstFrameOnlyStartsCounting() {
+        assertEquals(0, loop.advance(5 * SECOND));
+        assertEquals(0, loop.getTicks());
+    }
+
+    @Test
+    void testTicksDoNotDependOnFrameRate() {
+        GameLoop slow = new GameLoop(() -> {});
+        long now = 0;
+        for (int i = 0; i <= 30; i++, now += SECOND / 30) loop.advance(now);
+        now = 0;
+        for (int i = 0; i <= 144; i++, now += SECOND / 144) slow.advance(now);
+
+        assertEquals(GameLoop.TICKS_PER_SECOND, loop.getTicks(), 1);
+        assertEquals(loop.getTicks(), slow.getTicks(), 1, "30 and 144 frames per second should run the same ticks");
+    }
+
+    @Test
+    void testFractionalGravity() {
+        loop.setFallMillis(400);
+        long now = 0;
+        loop.advance(now);
+        for (int i = 0; i < 60; i++) {
+            now += SECOND / 60;
+            loop.advance(now);
+        }
+        assertEquals(2, steps, "A 400 ms fall should move 2 rows in one second");
+        assertTrue(loop.getRowsPerTick() < 1);
+    }
+
+    @Test
+    void testPauseDoesNotCountTime() {
+        loop.advance(0);
+        loop.setRunning(false);
+        assertEquals(0, loop.advance(10 * SECOND));
+        loop.setRunning(true);
+        loop.advance(10 * SECOND);
+        assertEquals(0, steps, "Time spent paused should not move the brick");
+
+        runFrames(loop, 10 * SECOND, 10 * SECOND + SECOND / 2);
+        assertEquals(5, steps, 1);
+    }
+
+    @Test
+    void testSpeedChangeKeepsProgress() {
+        loop.setFallMillis(1000);
+        runFrames(loop, 0, SECOND / 2);
+        assertEquals(0, steps);
+
+        loop.setFallMillis(500);
+        runFrames(loop, SECOND / 2 + SECOND / 60, SECOND / 2 + SECOND / 4 + SECOND / 60);
+        assertEquals(1, steps, "Half a row plus half a row at the new speed should move one row");
+    }
+
+    @Test
+    void testLongFrameIsClamped() {
+        loop.advance(0);
+        loop.advance(60 * SECOND);
+        assertTrue(loop.getTicks() <= GameLoop.MAX_FRAME_NANOS / GameLoop.TICK_NANOS + 1);
+        assertTrue(steps <= 3, "A stalled frame should not drop the brick to the floor");
+    }
+
+    @Test
+    void testStepCanStopTheLoop() {
+        GameLoop[] holder = new GameLoop[1];
+        holder[0] = new GameLoop(() -> {
+            steps++;
+            holder[0].setRunning(false);
+        });
+        holder[0].setFallMillis(10);
+        holder[0].advance(0);
+        assertEquals(1, holder[0].advance(SECOND / 10), "A game over during a step should stop the remaining steps");
+        assertEquals(1, steps);
+    }
+
+    @Test
+    void testResetStartsAFullFall() {
+        loop.advance(0);
+        loop.advance(SECOND / 20);
+        loop.reset();
+        loop.advance(SECOND);
+        loop.advance(SECOND + SECOND / 20);
+        assertEquals(0, steps, "Gravity gathered before a reset should be dropped");
+    }
+}
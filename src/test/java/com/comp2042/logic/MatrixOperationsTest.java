@@ -67,6 +67,72 @@ class MatrixOperationsTest {
         assertEquals(50, clearRow.getScoreBonus(), "Score bonus should be 50 for 1 cleared row");
     }
 
+    @Test
+    void testMergeInPlaceCountsRowFill() {
+        int[][] matrix = new int[4][4];
+        int[] rowFill = new int[4];
+        int mask = 0b0011_0110; // S shape: columns 1-2 on row 0, columns 0-1 on row 1
+
+        MatrixOperations.mergeInPlace(matrix, mask, 5, 1, 2, rowFill);
+
+        assertArrayEquals(new int[][]{
+                {0, 0, 0, 0},
+                {0, 0, 0, 0},
+                {0, 0, 5, 5},
+                {0, 5, 5, 0}
+        }, matrix, "Brick cells should be written into the same matrix");
+        assertArrayEquals(new int[]{0, 0, 2, 2}, rowFill, "Each touched row should count its new cells");
+    }
+
+    @Test
+    void testRemoveFullRowsInPlace() {
+        int[][] matrix = {
+                {0, 3, 0},
+                {1, 1, 1}, // full row
+                {2, 0, 2},
+                {4, 4, 4}  // full row
+        };
+        int[] rowFill = {1, 3, 2, 3};
+        int[] bottomRow = matrix[3];
+
+        ClearRow clearRow = MatrixOperations.removeFullRows(matrix, rowFill, 1, 3);
+
+        assertEquals(2, clearRow.getLinesRemoved(), "Should clear 2 rows");
+        assertArrayEquals(new int[]{1, 3}, clearRow.getClearedRows(), "Cleared rows should be reported from top to bottom");
+        assertEquals(200, clearRow.getScoreBonus(), "Score bonus should be 200 for 2 cleared rows");
+        assertArrayEquals(new int[][]{
+                {0, 0, 0},
+                {0, 0, 0},
+                {0, 3, 0},
+                {2, 0, 2}
+        }, matrix, "Rows above the cleared rows should move down in place");
+        assertSame(bottomRow, matrix[3], "Rows should be reused rather than reallocated");
+        assertArrayEquals(new int[]{0, 0, 1, 2}, rowFill, "Fill counters should move with their rows");
+    }
+
+    @Test
+    void testRemoveFullRowsOnlyChecksGivenRows() {
+        int[][] matrix = {
+                {1, 1},
+                {0, 1}
+        };
+        int[] rowFill = {2, 1};
+
+        ClearRow clearRow = MatrixOperations.removeFullRows(matrix, rowFill, 1, 1);
+
+        assertEquals(0, clearRow.getLinesRemoved(), "Rows outside the given range should not be cleared");
+        assertArrayEquals(new int[][]{{1, 1}, {0, 1}}, matrix, "Matrix should not change");
+    }
+
+    @Test
+    void testRowRange() {
+        assertEquals(0b1110L, MatrixOperations.rowRange(1, 3), "Rows 1 to 3 should be set");
+        assertEquals(1L, MatrixOperations.rowRange(-2, 0), "Rows above the board should be ignored");
+        assertEquals(0L, MatrixOperations.rowRange(4, 3), "An empty range should have no rows");
+        assertEquals(Long.MIN_VALUE, MatrixOperations.rowRange(63, 63), "Row 63 should be the last bit");
+        assertEquals(-1L, MatrixOperations.rowRange(10, 64), "Rows past 63 should set every bit");
+    }
+
     @Test
     void testDeepCopyList() {
         int[][] m1 = {{1}};
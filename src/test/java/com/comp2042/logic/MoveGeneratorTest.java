@@ -0,0 +1,125 @@
+package com.comp2042.logic;
+
+import com.comp2042.data.bricks.RandomBrickGenerator;
+import com.comp2042.data.bricks.RotationTable;
+import com.comp2042.enums.EventType;
+import com.comp2042.interfaces.Brick;
+import com.comp2042.interfaces.BrickGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoveGeneratorTest {
+
+    private static final int I_BRICK = 0;
+    private static final int O_BRICK = 3;
+    private static final int T_BRICK = 5;
+
+    private MoveGenerator generator;
+    private int[][] board;
+
+    @BeforeEach
+    void setUp() {
+        generator = new MoveGenerator(25, 10);
+        board = new int[25][10];
+    }
+
+    private static RotationTable brick(int id) {
+        return RandomBrickGenerator.brickOf(id).getRotationTable();
+    }
+
+    @Test
+    void testEmptyBoardHasOnePlacementPerColumnAndRotation() {
+        assertEquals(8 + 9 + 8 + 9, generator.generate(board, brick(T_BRICK), 0, 4, 1));
+        assertEquals(7 + 10, generator.generate(board, brick(I_BRICK), 0, 4, 1));
+        assertEquals(9, generator.generate(board, brick(O_BRICK), 0, 4, 1));
+    }
+
+    @Test
+    void testPlacementsRest() {
+        RotationTable t = brick(T_BRICK);
+        int count = generator.generate(board, t, 0, 4, 1);
+        for (int i = 0; i < count; i++) {
+            int mask = t.getMask(generator.getRotation(i));
+            assertFalse(MatrixOperations.intersect(board, mask, generator.getX(i), generator.getY(i)));
+            assertTrue(MatrixOperations.intersect(board, mask, generator.getX(i), generator.getY(i) + 1));
+        }
+    }
+
+    @Test
+    void testSameShapeRotationsAreListedOnce() {
+        RotationTable o = brick(O_BRICK);
+        int[][] shape = o.getShape(0);
+        RotationTable fourTurns = new RotationTable(shape, shape, shape, shape);
+        assertEquals(9, generator.generate(board, fourTurns, 0, 4, 1), "Turning the O brick should not add placements");
+    }
+
+    @Test
+    void testFindsTuckUnderOverhang() {
+        // a roof over the left columns, with a two row gap under it
+        for (int column = 0; column < 5; column++) board[21][column] = 1;
+        int count = generator.generate(board, brick(O_BRICK), 0, 6, 1);
+
+        int tuck = -1;
+        for (int i = 0; i < count; i++) {
+            int mask = brick(O_BRICK).getMask(generator.getRotation(i));
+            int x = generator.getX(i);
+            int y = generator.getY(i);
+            // the cell under the roof at the left wall
+            int dy = 24 - y, dx = 0 - x;
+            if (dy >= 0 && dy < 4 && dx >= 0 && dx < 4 && (mask >>> (dy * 4 + dx) & 1) != 0) tuck = i;
+        }
+        assertTrue(tuck >= 0, "The O brick should be able to slide under the roof");
+
+        // following the path on a real board ends at the same placement
+        BrickGenerator onlyO = new BrickGenerator() {
+            @Override public Brick getBrick() { return RandomBrickGenerator.brickOf(O_BRICK); }
+            @Override public Brick getNextBrick() { return RandomBrickGenerator.brickOf(O_BRICK); }
+        };
+        SimpleBoard simpleBoard = new SimpleBoard(25, 10, onlyO);
+        for (int column = 0; column < 5; column++) simpleBoard.getBoardMatrix()[21][column] = 1;
+        simpleBoard.createNewBrick(6, 1);
+
+        EventType[] path = new EventType[64];
+        int length = generator.getPath(tuck, path);
+        for (int i = 0; i < length; i++) {
+            boolean moved = switch (path[i]) {
+                case LEFT -> simpleBoard.moveBrickLeft();
+                case RIGHT -> simpleBoard.moveBrickRight();
+                case DOWN -> simpleBoard.moveBrickDown();
+                default -> simpleBoard.rotateLeftBrick();
+            };
+            assertTrue(moved, "Every move of the path should succeed");
+        }
+        assertFalse(simpleBoard.moveBrickDown(), "The path should end at rest");
+        assertEquals(generator.getX(tuck), simpleBoard.getViewData().getxPosition());
+        assertEquals(generator.getY(tuck), simpleBoard.getViewData().getyPosition());
+    }
+
+    @Test
+    void testBlockedStartHasNoPlacements() {
+        board[2][5] = 1;
+        assertEquals(0, generator.generate(board, brick(T_BRICK), 0, 4, 1));
+    }
+
+    @Test
+    void testSearchDoesNotAllocate() {
+        for (int row = 15; row < 25; row++) {
+            for (int column = 0; column < 10; column++) board[row][column] = (row * 7 + column * 3) % 4 == 0 ? 0 : 1;
+        }
+        RotationTable t = brick(T_BRICK);
+        int searches = 20_000;
+        for (int i = 0; i < searches; i++) generator.generate(board, t, 0, 4, 1); // let the JIT compile the search first
+
+        AllocationCounter counter = AllocationCounter.start();
+        int total = 0;
+        for (int i = 0; i < searches; i++) {
+            total += generator.generate(board, t, i & 3, 4, 1);
+        }
+        long allocated = counter.allocated();
+
+        assertTrue(total > 0);
+        assertTrue(allocated < searches, "Expected no allocation per search, but " + allocated + " bytes were allocated");
+    }
+}
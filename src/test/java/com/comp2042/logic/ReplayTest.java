@@ -0,0 +1,164 @@
+package com.comp2042.logic;
+
+import com.comp2042.controllers.GameController;
+import com.comp2042.controllers.GuiController;
+import com.comp2042.data.MoveEvent;
+import com.comp2042.data.SaveData;
+import com.comp2042.data.bricks.RandomBrickGenerator;
+import com.comp2042.enums.EventSource;
+import com.comp2042.enums.EventType;
+import com.comp2042.interfaces.InputEventListener;
+import com.comp2042.view.ViewData;
+import javafx.beans.property.IntegerProperty;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayTest {
+
+    @TempDir
+    Path dir;
+
+    private long tick;
+
+    @BeforeEach
+    void setUp() {
+        SaveData.createSaveFile();
+        tick = 0;
+    }
+
+    private static GameController newGame(long seed) {
+        GuiController dummyGui = new GuiController() {
+            @Override public void setEventListener(InputEventListener eventListener) {}
+            @Override public void initGameView(int[][] m, ViewData v) {}
+            @Override public void bindScore(IntegerProperty p) {}
+            @Override public void bindTotalClearedLines(IntegerProperty p) {}
+            @Override public void bindLevel(IntegerProperty p) {}
+            @Override public void setSpeed(int s) {}
+            @Override public void refreshGameBackground(int[][] m) {}
+            @Override public void refreshNextBrick(ViewData v) {}
+            @Override public void gameOver() {}
+        };
+        return new GameController(dummyGui, new SimpleBoard(25, 10, new RandomBrickGenerator(seed)));
+    }
+
+    /** Plays random inputs, with gravity every few ticks, as the GUI would send them. */
+    private void playRandomGame(InputEventListener game, int inputs) {
+        Random random = new Random(7);
+        for (int i = 0; i < inputs; i++) {
+            tick += random.nextInt(20);
+            if (i == inputs / 2) {
+                game.createNewGame();
+                continue;
+            }
+            switch (random.nextInt(7)) {
+                case 0 -> game.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER));
+                case 1 -> game.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER));
+                case 2 -> game.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER));
+                case 3 -> game.onHoldEvent(new MoveEvent(EventType.HOLD, EventSource.USER));
+                case 4 -> game.onDownEvent(new MoveEvent(EventType.DOWN, EventSource.USER), random.nextInt(4) == 0);
+                default -> game.onDownEvent(new MoveEvent(EventType.DOWN, EventSource.THREAD), false);
+            }
+        }
+    }
+
+    @Test
+    void testReplayReproducesBoardAndScore() {
+        Path file = dir.resolve("game.replay");
+        GameController original = newGame(1234L);
+        try (ReplayRecorder recorder = new ReplayRecorder(original, file, 1234L, () -> tick)) {
+            playRandomGame(recorder, 2000);
+            assertEquals(2000, recorder.getInputCount());
+        }
+
+        try (ReplayPlayer player = new ReplayPlayer(file)) {
+            assertEquals(1234L, player.getSeed());
+            GameController replayed = newGame(player.getSeed());
+            assertEquals(2000, player.playAll(replayed));
+            assertFalse(player.hasNext());
+
+            assertArrayEquals(original.getBoard().getBoardMatrix(), replayed.getBoard().getBoardMatrix(),
+                    "The replayed board should match the recorded one");
+            assertEquals(original.getBoard().getScore().scoreProperty().get(),
+                    replayed.getBoard().getScore().scoreProperty().get(), "The replayed score should match");
+            assertEquals(original.getStats().getPiecesLocked(), replayed.getStats().getPiecesLocked());
+        }
+    }
+
+    @Test
+    void testPlayUntilFollowsTicks() {
+        Path file = dir.resolve("ticks.replay");
+        GameController original = newGame(5L);
+        try (ReplayRecorder recorder = new ReplayRecorder(original, file, 5L, () -> tick)) {
+            recorder.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER));
+            tick = 100;
+            recorder.onDownEvent(new MoveEvent(EventType.DOWN, EventSource.THREAD), false);
+            tick = 250;
+            recorder.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER));
+        }
+
+        try (ReplayPlayer player = new ReplayPlayer(file)) {
+            GameController replayed = newGame(player.getSeed());
+            assertEquals(1, player.playUntil(99, replayed));
+            assertEquals(100, player.getNextTick());
+            assertEquals(1, player.playUntil(249, replayed));
+            assertEquals(1, player.playUntil(250, replayed));
+            assertEquals(3, player.getPlayedCount());
+        }
+    }
+
+    @Test
+    void testTimedGameKeepsItsLengthAndTimeUp() {
+        Path file = dir.resolve("timed.replay");
+        GameController original = newGame(3L);
+        try (ReplayRecorder recorder = new ReplayRecorder(original, file, 3L, 2, () -> tick)) {
+            recorder.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER));
+            tick = 7200;
+            recorder.recordTimeUp();
+            tick = 7300;
+            recorder.createNewGame();
+        }
+
+        Timer.setTimer(0);
+        try (ReplayPlayer player = new ReplayPlayer(file)) {
+            assertEquals(2, player.getTimerMinutes());
+            assertEquals(2 * 60, Timer.getStartingTime(), "Opening the replay should set the timer to the recorded length");
+
+            int[] timeUps = {0};
+            player.setOnTimeUp(() -> timeUps[0]++);
+            GameController replayed = newGame(player.getSeed());
+            assertEquals(1, player.playUntil(7199, replayed));
+            assertEquals(0, timeUps[0]);
+            assertEquals(1, player.playUntil(7200, replayed));
+            assertEquals(1, timeUps[0], "The time-up should be played at its recorded tick");
+            assertEquals(1, player.playAll(replayed));
+        } finally {
+            Timer.setTimer(0);
+        }
+    }
+
+    @Test
+    void testEncodingIsCompact() throws IOException {
+        Path file = dir.resolve("size.replay");
+        try (ReplayRecorder recorder = new ReplayRecorder(newGame(9L), file, 9L, () -> tick)) {
+            playRandomGame(recorder, 10_000);
+        }
+        long size = Files.size(file);
+        assertTrue(size <= Integer.BYTES + Long.BYTES + 10_000 * 2L,
+                "Inputs a few ticks apart should take at most two bytes each, was " + size);
+    }
+
+    @Test
+    void testRejectsOtherFiles() throws IOException {
+        Path file = dir.resolve("other.txt");
+        Files.writeString(file, "not a replay");
+        assertThrows(IllegalArgumentException.class, () -> new ReplayPlayer(file));
+    }
+}
@@ -0,0 +1,52 @@
+package com.comp2042.logic;
+
+import com.comp2042.data.SaveData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimpleBoardAllocationTest {
+
+    private static final int MOVES = 100_000;
+
+    private SimpleBoard board;
+
+    @BeforeEach
+    void setUp() {
+        SaveData.createSaveFile();
+        board = new SimpleBoard(25, 10);
+        board.newGame();
+        board.holdBrick(); // fill the hold slot so later holds are swaps
+    }
+
+    // moves back and forth so that both successful and rejected moves are measured
+    private int playMoves(int count) {
+        int moved = 0;
+        for (int i = 0; i < count; i++) {
+            boolean success = switch (i % 8) {
+                case 0, 1, 2, 3, 4 -> board.moveBrickLeft();
+                case 5 -> board.rotateLeftBrick();
+                case 6 -> board.holdBrick();
+                default -> board.moveBrickRight();
+            };
+            if (success) moved++;
+            if (i % 64 == 0) {
+                board.moveBrickDown();
+            }
+        }
+        return moved;
+    }
+
+    @Test
+    void testMovesDoNotAllocate() {
+        playMoves(MOVES); // let the JIT compile the move path first
+
+        AllocationCounter counter = AllocationCounter.start();
+        int moved = playMoves(MOVES);
+        long allocated = counter.allocated();
+
+        assertTrue(moved > 0 && moved < MOVES, "Both successful and rejected moves should be measured");
+        assertTrue(allocated < MOVES, "Expected no allocation per move, but " + allocated + " bytes were allocated over " + MOVES + " moves");
+    }
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 
 import javax.swing.text.View;
 import java.awt.*;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -56,6 +57,60 @@ class SimpleBoardTest {
         assertFalse(arraysEqual, "The brick data should have changed and not be equal to the next brick data");
     }
 
+    @Test
+    void testViewDataOnlyRebuiltWhenBoardChanges() {
+        board.moveGhostPiece();
+        ViewData first = board.getViewData();
+        int firstY = first.getyPosition();
+        board.moveGhostPiece();
+        assertSame(first, board.getViewData(), "View data should be reused while nothing has changed");
+
+        assertTrue(board.moveBrickDown());
+        ViewData moved = board.getViewData();
+        assertNotSame(first, moved, "View data should be rebuilt after the brick moves");
+        assertTrue(moved.getVersion() > first.getVersion(), "Version should increase after the brick moves");
+        assertEquals(firstY + 1, moved.getyPosition());
+        assertEquals(firstY, first.getyPosition(), "Earlier snapshots should not change");
+
+        int[][] brickData = moved.getBrickData();
+        for (int i = 0; i < ViewData.SHAPE_SIZE; i++) {
+            for (int j = 0; j < ViewData.SHAPE_SIZE; j++) {
+                assertEquals(brickData[i][j], moved.getBrickCell(i, j), "Cell accessor should match the brick data");
+            }
+        }
+    }
+
+    @Test
+    void testChangedRowsCoverEveryChange() {
+        SimpleBoard board = new SimpleBoard(25, 10);
+        board.newGame();
+        int[][] display = new int[25][10];
+        Random random = new Random(7);
+
+        for (int piece = 0; piece < 500; piece++) {
+            for (int i = random.nextInt(6); i > 0; i--) {
+                if (random.nextBoolean()) board.moveBrickLeft(); else board.moveBrickRight();
+                board.rotateLeftBrick();
+            }
+            board.hardDropBrick();
+            board.mergeBrickToBackground();
+            board.clearRows();
+
+            // copy only the rows the board reports, as the GUI does
+            long changedRows = board.takeChangedRows();
+            for (int row = 0; row < display.length; row++) {
+                if ((changedRows & (1L << row)) != 0) {
+                    display[row] = board.getBoardMatrix()[row].clone();
+                }
+            }
+            assertArrayEquals(board.getBoardMatrix(), display, "Display missed a change at piece " + piece);
+
+            if (board.createNewBrick(4, 1)) {
+                board.newGame();
+            }
+        }
+    }
+
     @Test
     void testGhostPieceFallsToLowestPosition() {
         // Get the initial brick position
@@ -0,0 +1,74 @@
+package com.comp2042.logic;
+
+import com.comp2042.data.SaveData;
+import com.comp2042.data.bricks.RandomBrickGenerator;
+import com.comp2042.interfaces.Board;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZobristTest {
+
+    private final Zobrist keys = new Zobrist(25, 10);
+
+    @BeforeEach
+    void setUp() {
+        SaveData.createSaveFile();
+    }
+
+    // drops every brick at a random column, so rows fill up and clear now and then
+    private int playAndCheck(Board board) {
+        board.newGame();
+        Random random = new Random(3);
+        int cleared = 0;
+        for (int piece = 0; piece < 5000; piece++) {
+            int shift = random.nextInt(9) - 4;
+            for (int i = 0; i < Math.abs(shift); i++) {
+                if (shift < 0) board.moveBrickLeft(); else board.moveBrickRight();
+            }
+            if (random.nextBoolean()) board.rotateLeftBrick();
+            board.hardDropBrick();
+            board.mergeBrickToBackground();
+            cleared += board.clearRows().getLinesRemoved();
+            assertEquals(keys.hash(board.getBoardMatrix()), board.getBoardHash(), "The hash drifted after piece " + piece);
+            if (board.createNewBrick(4, 1)) {
+                board.newGame();
+                assertEquals(0, board.getBoardHash());
+            }
+        }
+        return cleared;
+    }
+
+    @Test
+    void testSimpleBoardHashFollowsTheMatrix() {
+        assertTrue(playAndCheck(new SimpleBoard(25, 10, new RandomBrickGenerator(5L))) > 0, "Some rows should have been cleared");
+    }
+
+    @Test
+    void testBitBoardHashFollowsTheMatrix() {
+        assertTrue(playAndCheck(new BitBoard(25, 10, new RandomBrickGenerator(5L))) > 0, "Some rows should have been cleared");
+    }
+
+    @Test
+    void testStateHashFollowsTheFallingBrick() {
+        SimpleBoard board = new SimpleBoard(25, 10, new RandomBrickGenerator(5L));
+        board.newGame();
+        long start = board.getStateHash();
+        assertTrue(board.moveBrickLeft());
+        assertNotEquals(start, board.getStateHash());
+        assertEquals(0, board.getBoardHash(), "Moving the brick does not change the placed blocks");
+        assertTrue(board.moveBrickRight());
+        assertEquals(start, board.getStateHash());
+    }
+
+    @Test
+    void testBrickKeysMatchTheMergedBoard() {
+        int[][] matrix = new int[25][10];
+        int mask = 0b0110_0110; // a 2 by 2 square in columns 1 and 2 of rows 0 and 1
+        MatrixOperations.mergeInPlace(matrix, mask, 1, 3, 20, new int[25]);
+        assertEquals(keys.hash(matrix), keys.brick(mask, 3, 20));
+    }
+}
@@ -2,6 +2,7 @@ package com.comp2042.logic.bricks;
 
 import com.comp2042.data.bricks.RandomBrickGenerator;
 import com.comp2042.interfaces.Brick;
+import com.comp2042.logic.AllocationCounter;
 import org.junit.jupiter.api.Test;
 
 import java.util.HashSet;
@@ -58,4 +59,77 @@ class RandomBrickGeneratorTest {
             assertNotNull(b, "Brick should never be null");
         }
     }
+
+    @Test
+    void testSameSeedSameSequence() {
+        RandomBrickGenerator first = new RandomBrickGenerator(42L);
+        RandomBrickGenerator second = new RandomBrickGenerator(first.getSeed());
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first.getBrick().getClass(), second.getBrick().getClass(),
+                    "Generators with the same seed should return the same bricks");
+        }
+    }
+
+    @Test
+    void testPeekMatchesDraws() {
+        RandomBrickGenerator generator = new RandomBrickGenerator(3L);
+        for (int round = 0; round < 50; round++) {
+            Brick[] preview = new Brick[generator.getPreviewSize()];
+            for (int i = 0; i < preview.length; i++) {
+                preview[i] = generator.peekBrick(i);
+            }
+            assertSame(preview[0], generator.getNextBrick());
+            for (Brick expected : preview) {
+                assertSame(expected, generator.getBrick(), "Peeked bricks should be drawn in the same order");
+            }
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> generator.peekBrick(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> generator.peekBrick(16));
+    }
+
+    @Test
+    void testBagFairnessOverManyDraws() {
+        final int bags = 3_000_000;
+        final int size = RandomBrickGenerator.BAG_SIZE;
+        RandomBrickGenerator generator = new RandomBrickGenerator(2024L);
+        long[][] counts = new long[size][size]; // [position in bag][piece id]
+
+        for (int b = 0; b < bags; b++) {
+            int seen = 0;
+            for (int p = 0; p < size; p++) {
+                int id = generator.nextPieceId();
+                seen |= 1 << id;
+                counts[p][id]++;
+            }
+            if (seen != (1 << size) - 1) {
+                fail("Bag " + b + " is not a permutation of the seven bricks");
+            }
+        }
+
+        // chi-square over 49 cells with 36 degrees of freedom; 67.99 is the 0.1% critical value
+        double expected = (double) bags / size;
+        double chiSquare = 0;
+        for (long[] row : counts) {
+            for (long count : row) {
+                chiSquare += (count - expected) * (count - expected) / expected;
+            }
+        }
+        assertTrue(chiSquare < 67.99, "Every brick should be equally likely at every bag position, chi-square was " + chiSquare);
+    }
+
+    @Test
+    void testDrawingDoesNotAllocate() {
+        RandomBrickGenerator generator = new RandomBrickGenerator(11L);
+        int draws = 1_000_000;
+        long sum = 0;
+        AllocationCounter counter = AllocationCounter.start();
+        for (int i = 0; i < draws; i++) {
+            sum += generator.peekPieceId(1) + generator.nextPieceId();
+        }
+        long allocated = counter.allocated();
+
+        assertTrue(sum > 0);
+        assertTrue(allocated < draws, "Expected no allocation per draw, but " + allocated + " bytes were allocated");
+    }
 }
@@ -0,0 +1,92 @@
+package com.comp2042.logic.bricks;
+
+import com.comp2042.data.bricks.RandomBrickGenerator;
+import com.comp2042.data.bricks.RotationTable;
+import com.comp2042.interfaces.Brick;
+import com.comp2042.logic.MatrixOperations;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RotationTableTest {
+
+    private Brick[] allBricks() {
+        RandomBrickGenerator generator = new RandomBrickGenerator();
+        Brick[] bricks = new Brick[7];
+        for (int i = 0; i < bricks.length; i++) {
+            bricks[i] = generator.getBrick();
+        }
+        return bricks;
+    }
+
+    @Test
+    void testMasksMatchShapeMatrices() {
+        for (Brick brick : allBricks()) {
+            RotationTable table = brick.getRotationTable();
+            List<int[][]> shapes = brick.getShapeMatrix();
+            assertEquals(shapes.size(), table.size(), "Every rotation should be in the table");
+
+            for (int r = 0; r < table.size(); r++) {
+                int[][] shape = shapes.get(r);
+                assertArrayEquals(shape, table.getShape(r), "Table shape should match the brick's shape");
+                for (int row = 0; row < 4; row++) {
+                    for (int column = 0; column < 4; column++) {
+                        boolean filled = (table.getMask(r) & (1 << (row * 4 + column))) != 0;
+                        assertEquals(shape[row][column] != 0, filled, "Mask bit should match the shape cell");
+                    }
+                }
+                assertEquals(4, Integer.bitCount(table.getMask(r)), "Every brick has four cells");
+            }
+        }
+    }
+
+    @Test
+    void testBoundingBoxAndBottomProfile() {
+        for (Brick brick : allBricks()) {
+            RotationTable table = brick.getRotationTable();
+            for (int r = 0; r < table.size(); r++) {
+                int[][] shape = table.getShape(r);
+                for (int column = 0; column < 4; column++) {
+                    int lowest = RotationTable.EMPTY_COLUMN;
+                    for (int row = 0; row < 4; row++) {
+                        if (shape[row][column] != 0) lowest = row;
+                    }
+                    assertEquals(lowest, table.getBottom(r, column), "Bottom profile should be the lowest filled row");
+                    boolean inBox = column >= table.getMinColumn(r) && column <= table.getMaxColumn(r);
+                    assertEquals(inBox, lowest != RotationTable.EMPTY_COLUMN, "Bounding box should cover exactly the filled columns");
+                }
+                assertTrue(table.getMinRow(r) <= table.getMaxRow(r));
+            }
+        }
+    }
+
+    @Test
+    void testShapeMatrixIsStillACopy() {
+        Brick brick = allBricks()[0];
+        brick.getShapeMatrix().getFirst()[0][0] = 99;
+        assertNotEquals(99, brick.getRotationTable().getShape(0)[0][0], "Changing a returned shape must not change the table");
+    }
+
+    @Test
+    void testMaskIntersectMatchesMatrixIntersect() {
+        Random random = new Random(7);
+        Brick[] bricks = allBricks();
+        for (int trial = 0; trial < 20000; trial++) {
+            int[][] matrix = new int[8][6];
+            for (int[] row : matrix) {
+                for (int c = 0; c < row.length; c++) {
+                    row[c] = random.nextInt(4) == 0 ? 1 : 0;
+                }
+            }
+            RotationTable table = bricks[random.nextInt(bricks.length)].getRotationTable();
+            int r = random.nextInt(table.size());
+            int x = random.nextInt(8) - 2;
+            int y = random.nextInt(8);
+            assertEquals(MatrixOperations.intersect(matrix, table.getShape(r), x, y),
+                    MatrixOperations.intersect(matrix, table.getMask(r), x, y));
+        }
+    }
+}